@@ -449,6 +449,7 @@ public final class AndroidGraphics implements Graphics, Renderer {
 				}
 			}
 			app.input.processEvents();
+			Texture.updateReload(app);
 			app.listener.render();
 		}
 
@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Page;
+import com.badlogic.gdx.graphics.glutils.FileTextureData;
+
+/** Decodes the page images of a {@link TextureAtlasData} one after another, as there are no threads. The page images are already
+ * preloaded by the browser, so the encoded data is never retained. */
+class AtlasPageDecoder {
+	static final int threads = 1;
+
+	static void decode (TextureAtlasData data, int start, int count) {
+		for (int i = start, n = data.pages.size; i < n && count > 0; i++) {
+			Page page = data.pages.get(i);
+			if (page.texture != null || page.textureData != null) continue;
+			count--;
+			TextureData textureData = new FileTextureData(page.textureFile, null, page.format, page.useMipMaps);
+			textureData.prepare();
+			page.textureData = textureData;
+		}
+	}
+}
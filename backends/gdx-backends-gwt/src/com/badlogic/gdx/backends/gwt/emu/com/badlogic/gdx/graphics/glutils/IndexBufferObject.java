@@ -131,6 +131,29 @@ public class IndexBufferObject implements IndexData {
 		}
 	}
 
+	/** Copies indices to part of this buffer, without changing the number of indices. The whole buffer is uploaded, either when
+	 * the buffer is bound next or immediately if it is bound. */
+	public void updateIndices (int targetOffset, short[] indices, int sourceOffset, int count) {
+		int limit = buffer.limit();
+		if (targetOffset < 0 || count < 0 || targetOffset + count > limit)
+			throw new IllegalArgumentException("Indices out of range: " + targetOffset + ", " + count + " (" + limit + ")");
+		buffer.position(targetOffset);
+		buffer.put(indices, sourceOffset, count);
+		buffer.position(0);
+		isDirty = true;
+
+		if (isBound) {
+			if (Gdx.gl11 != null) {
+				GL11 gl = Gdx.gl11;
+				gl.glBufferData(GL11.GL_ELEMENT_ARRAY_BUFFER, buffer.limit(), buffer, usage);
+			} else if (Gdx.gl20 != null) {
+				GL20 gl = Gdx.gl20;
+				gl.glBufferData(GL20.GL_ELEMENT_ARRAY_BUFFER, buffer.limit(), buffer, usage);
+			}
+			isDirty = false;
+		}
+	}
+
 	/** <p>
 	 * Returns the underlying ShortBuffer. If you modify the buffer contents they wil be uploaded on the call to {@link #bind()}.
 	 * If you need immediate uploading use {@link #setIndices(short[], int, int)}.
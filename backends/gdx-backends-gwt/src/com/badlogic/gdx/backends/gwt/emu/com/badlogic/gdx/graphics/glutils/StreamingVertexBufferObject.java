@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+
+/** WebGL can't orphan the storage of a buffer object without data, so this uploads all vertices each time they are set like a
+ * dynamic {@link VertexBufferObject}. */
+public class StreamingVertexBufferObject extends VertexBufferObject {
+	static public int defaultRingBatches = 8;
+	static public int orphans;
+
+	public StreamingVertexBufferObject (int numVertices, VertexAttribute... attributes) {
+		super(false, numVertices, attributes);
+	}
+
+	public StreamingVertexBufferObject (int numVertices, int ringVertices, VertexAttributes attributes) {
+		super(false, numVertices, attributes);
+		if (ringVertices < numVertices)
+			throw new IllegalArgumentException("ringVertices must be >= numVertices: " + ringVertices + " < " + numVertices);
+	}
+}
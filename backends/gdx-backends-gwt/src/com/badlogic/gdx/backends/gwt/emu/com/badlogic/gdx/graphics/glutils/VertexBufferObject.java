@@ -141,6 +141,30 @@ public class VertexBufferObject implements VertexData {
 		}
 	}
 
+	/** Copies vertices to part of this buffer, without changing the number of vertices. The whole buffer is uploaded, either when
+	 * the buffer is bound next or immediately if it is bound. */
+	public void updateVertices (int targetOffset, float[] vertices, int sourceOffset, int count) {
+		int limit = buffer.limit();
+		if (targetOffset < 0 || count < 0 || targetOffset + count > limit)
+			throw new IllegalArgumentException("Vertices out of range: " + targetOffset + ", " + count + " (" + limit + ")");
+		buffer.position(targetOffset);
+		buffer.put(vertices, sourceOffset, count);
+		buffer.position(0);
+		buffer.limit(limit);
+		isDirty = true;
+
+		if (isBound) {
+			if (Gdx.gl20 != null) {
+				GL20 gl = Gdx.gl20;
+				gl.glBufferData(GL20.GL_ARRAY_BUFFER, buffer.limit(), buffer, usage);
+			} else {
+				GL11 gl = Gdx.gl11;
+				gl.glBufferData(GL11.GL_ARRAY_BUFFER, buffer.limit(), buffer, usage);
+			}
+			isDirty = false;
+		}
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public void bind () {
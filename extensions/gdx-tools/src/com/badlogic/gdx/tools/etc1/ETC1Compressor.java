@@ -17,38 +17,100 @@
 package com.badlogic.gdx.tools.etc1;
 
 import java.io.File;
-import java.io.FilenameFilter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Properties;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Blending;
 import com.badlogic.gdx.graphics.Pixmap.Format;
 import com.badlogic.gdx.graphics.glutils.ETC1;
 import com.badlogic.gdx.tools.FileProcessor;
 import com.badlogic.gdx.utils.GdxNativesLoader;
 
+/** Converts PNG, JPEG and BMP images to gzipped PKM files with the .etc1 extension, which
+ * {@link com.badlogic.gdx.graphics.glutils.ETC1TextureData} loads. ETC1 has
+ * no alpha channel, so the alpha of an image can be written as a second file in the color channels. Images are only converted
+ * again when their content or the settings changed, based on hashes stored in the output directory. */
 public class ETC1Compressor {
+	/** The name of the file in the output directory that stores the hashes of the converted images. */
+	static public final String hashFileName = ".etc1hashes";
+	/** Appended to the hash of an image whose alpha was written to a second file. */
+	static final String alphaHashSuffix = "+alpha";
+
+	static public class Settings {
+		/** Whether images with alpha are also written as a second ETC1 file with {@link #alphaSuffix}, holding the alpha in the
+		 * color channels. */
+		public boolean splitAlpha = true;
+		public String alphaSuffix = "_alpha";
+		/** Whether images that haven't changed since the last conversion are skipped. */
+		public boolean incremental = true;
+		public boolean recursive = true;
+		public boolean flattenOutput;
+
+		String hashKey () {
+			return splitAlpha + alphaSuffix;
+		}
+	}
+
 	static class ETC1FileProcessor extends FileProcessor {
-		ETC1FileProcessor () {
+		final Settings settings;
+		final Properties hashes = new Properties();
+		File outputRoot;
+		int converted, skipped;
+
+		ETC1FileProcessor (Settings settings) {
+			this.settings = settings;
 			addInputSuffix(".png");
 			addInputSuffix(".jpg");
 			addInputSuffix(".bmp");
 			setOutputSuffix(".etc1");
+			setRecursive(settings.recursive);
+			setFlattenOutput(settings.flattenOutput);
 		}
 
 		@Override
 		protected void processFile (InputFile inputFile) throws Exception {
+			byte[] bytes = new FileHandle(inputFile.inputFile).readBytes();
+			String key = outputRoot.toURI().relativize(inputFile.outputFile.toURI()).getPath();
+			String hash = hash(bytes);
+			File alphaFile = new File(inputFile.outputFile.getParentFile(), inputFile.outputFile.getName().replaceAll(
+				"(.*)\\.etc1", "$1" + settings.alphaSuffix + ".etc1"));
+			if (settings.incremental && inputFile.outputFile.exists()) {
+				String storedHash = hashes.getProperty(key, "");
+				boolean alphaWritten = storedHash.endsWith(alphaHashSuffix);
+				if (alphaWritten) storedHash = storedHash.substring(0, storedHash.length() - alphaHashSuffix.length());
+				if (hash.equals(storedHash) && (!alphaWritten || alphaFile.exists())) {
+					skipped++;
+					return;
+				}
+			}
+
 			System.out.println("Processing " + inputFile.inputFile);
-			Pixmap pixmap = new Pixmap(new FileHandle(inputFile.inputFile));
-			if (pixmap.getFormat() != Format.RGB888 && pixmap.getFormat() != Format.RGB565) {
-				System.out.println("Converting from " + pixmap.getFormat() + " to RGB888!");
-				Pixmap tmp = new Pixmap(pixmap.getWidth(), pixmap.getHeight(), Format.RGB888);
-				tmp.drawPixmap(pixmap, 0, 0, 0, 0, pixmap.getWidth(), pixmap.getHeight());
+			Pixmap pixmap = new Pixmap(bytes, 0, bytes.length);
+			boolean hasAlpha;
+			try {
+				Format format = pixmap.getFormat();
+				hasAlpha = format != Format.RGB888 && format != Format.RGB565;
+				Pixmap rgb = convert(pixmap, Format.RGB888);
+				writeETC1(rgb, inputFile.outputFile);
+				if (rgb != pixmap) rgb.dispose();
+				if (hasAlpha && settings.splitAlpha) {
+					Pixmap alpha = extractAlpha(pixmap);
+					writeETC1(alpha, alphaFile);
+					alpha.dispose();
+				} else
+					alphaFile.delete();
+			} finally {
 				pixmap.dispose();
-				pixmap = tmp;
 			}
-			ETC1.encodeImagePKM(pixmap).write(new FileHandle(inputFile.outputFile));
-			pixmap.dispose();
+			hashes.setProperty(key, hasAlpha && settings.splitAlpha ? hash + alphaHashSuffix : hash);
+			converted++;
 		}
 
 		@Override
@@ -58,22 +120,108 @@ public class ETC1Compressor {
 					throw new Exception("Couldn't create output directory '" + inputDir.outputDir + "'");
 			}
 		}
+
+		String hash (byte[] bytes) throws Exception {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			digest.update(bytes);
+			digest.update(settings.hashKey().getBytes("UTF-8"));
+			StringBuilder buffer = new StringBuilder(40);
+			for (byte b : digest.digest()) {
+				buffer.append(Character.forDigit((b >> 4) & 0xf, 16));
+				buffer.append(Character.forDigit(b & 0xf, 16));
+			}
+			return buffer.toString();
+		}
+
+		/** @return the pixmap in the format, the pixmap itself if it already has the format. */
+		private Pixmap convert (Pixmap pixmap, Format format) {
+			if (pixmap.getFormat() == format) return pixmap;
+			Pixmap converted = new Pixmap(pixmap.getWidth(), pixmap.getHeight(), format);
+			converted.drawPixmap(pixmap, 0, 0, 0, 0, pixmap.getWidth(), pixmap.getHeight());
+			return converted;
+		}
+
+		/** @return an RGB888 pixmap with the alpha of the pixmap in all color channels. */
+		private Pixmap extractAlpha (Pixmap pixmap) {
+			Pixmap rgba = convert(pixmap, Format.RGBA8888);
+			Pixmap alpha = new Pixmap(pixmap.getWidth(), pixmap.getHeight(), Format.RGB888);
+			ByteBuffer source = rgba.getPixels(), target = alpha.getPixels();
+			for (int i = 0, ii = 0, n = pixmap.getWidth() * pixmap.getHeight(); i < n; i++, ii += 3) {
+				byte a = source.get(i * 4 + 3);
+				target.put(ii, a);
+				target.put(ii + 1, a);
+				target.put(ii + 2, a);
+			}
+			if (rgba != pixmap) rgba.dispose();
+			return alpha;
+		}
+
+		private void writeETC1 (Pixmap pixmap, File file) {
+			ETC1.encodeImagePKM(pixmap).write(new FileHandle(file));
+		}
+
+		void loadHashes () throws IOException {
+			hashes.clear();
+			File file = new File(outputRoot, hashFileName);
+			if (!settings.incremental || !file.exists()) return;
+			FileInputStream input = new FileInputStream(file);
+			try {
+				hashes.load(input);
+			} finally {
+				input.close();
+			}
+		}
+
+		void saveHashes () throws IOException {
+			outputRoot.mkdirs();
+			FileOutputStream output = new FileOutputStream(new File(outputRoot, hashFileName));
+			try {
+				hashes.store(output, null);
+			} finally {
+				output.close();
+			}
+		}
 	}
 
 	public static void process (String inputDirectory, String outputDirectory, boolean recursive, boolean flatten)
 		throws Exception {
+		Settings settings = new Settings();
+		settings.recursive = recursive;
+		settings.flattenOutput = flatten;
+		process(settings, inputDirectory, outputDirectory);
+	}
+
+	public static void process (Settings settings, String inputDirectory, String outputDirectory) throws Exception {
 		GdxNativesLoader.load();
-		ETC1FileProcessor processor = new ETC1FileProcessor();
-		processor.setRecursive(recursive);
-		processor.setFlattenOutput(flatten);
-		processor.process(new File(inputDirectory), new File(outputDirectory));
+		ETC1FileProcessor processor = new ETC1FileProcessor(settings);
+		processor.outputRoot = new File(outputDirectory);
+		processor.loadHashes();
+		Blending blending = Pixmap.getBlending();
+		Pixmap.setBlending(Blending.None);
+		try {
+			processor.process(new File(inputDirectory), processor.outputRoot);
+		} finally {
+			Pixmap.setBlending(blending);
+			processor.saveHashes();
+		}
+		System.out.println(processor.converted + " converted, " + processor.skipped + " unchanged");
 	}
 
 	public static void main (String[] args) throws Exception {
-		if (args.length != 2) {
-			System.out.println("ETC1Compressor <input-dir> <output-dir>");
+		Settings settings = new Settings();
+		int i = 0;
+		for (; i < args.length && args[i].startsWith("-"); i++) {
+			if (args[i].equals("-noalpha"))
+				settings.splitAlpha = false;
+			else if (args[i].equals("-force"))
+				settings.incremental = false;
+			else
+				break;
+		}
+		if (args.length - i != 2) {
+			System.out.println("ETC1Compressor [-noalpha] [-force] <input-dir> <output-dir>");
 			System.exit(-1);
 		}
-		ETC1Compressor.process(args[0], args[1], true, false);
+		ETC1Compressor.process(settings, args[i], args[i + 1]);
 	}
 }
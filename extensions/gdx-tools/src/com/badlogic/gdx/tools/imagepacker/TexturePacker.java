@@ -19,16 +19,26 @@ package com.badlogic.gdx.tools.imagepacker;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.DataBufferInt;
 import java.awt.image.WritableRaster;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
@@ -37,6 +47,13 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.CRC32;
@@ -51,11 +68,18 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
 public class TexturePacker {
 	static Pattern indexPattern = Pattern.compile(".+_(\\d+)(_.*|$)");
 	static public boolean quiet;
+	static private final int cacheVersion = 1;
+	static private ExecutorService executor;
+	static private int executorThreads;
 
 	ArrayList<Image> images = new ArrayList();
 	HashMap<String, Image> imageCrcs = new HashMap();
 	FileWriter writer;
 	int uncompressedSize, compressedSize;
+	int pageCount, placedPixels;
+	long pagePixels, pagePlacedPixels;
+	long loadTime, packTime, writeTime;
+	ArrayList<Future> writes = new ArrayList();
 	int xPadding, yPadding;
 	final Filter filter;
 	int minWidth, minHeight;
@@ -68,20 +92,34 @@ public class TexturePacker {
 	}
 
 	public TexturePacker (Settings settings, File inputDir, Filter filter, File outputDir, File packFile) throws IOException {
+		this(settings, inputDir, listFiles(inputDir, filter), filter, outputDir, packFile);
+	}
+
+	TexturePacker (Settings settings, File inputDir, ArrayList<File> files, Filter filter, File outputDir, File packFile)
+		throws IOException {
 		this.settings = settings;
 		this.filter = filter;
 
-		// Collect and squeeze images.
-		File[] files = inputDir.listFiles(filter);
-		if (files == null) return;
+		// Load and squeeze images in parallel, then collect them in file order.
+		long start = System.nanoTime();
+		ArrayList<Future<LoadedImage>> loads = new ArrayList(files.size());
 		for (File file : files) {
-			if (file.isDirectory()) continue;
 			String imageName = file.getAbsolutePath().substring(inputDir.getAbsolutePath().length()) + "\n";
 			if (imageName.startsWith("/") || imageName.startsWith("\\")) imageName = imageName.substring(1);
 			int dotIndex = imageName.lastIndexOf('.');
 			if (dotIndex != -1) imageName = imageName.substring(0, dotIndex);
-			addImage(ImageIO.read(file), imageName);
+			loads.add(load(file, imageName));
+		}
+		for (Future<LoadedImage> future : loads) {
+			LoadedImage loaded = get(future);
+			if (loaded == null || !filter.accept(loaded.originalWidth, loaded.originalHeight)) continue;
+			uncompressedSize += loaded.originalWidth * loaded.originalHeight;
+			if (loaded.image == null)
+				log("Ignoring blank input image: " + loaded.name);
+			else
+				addSqueezed(loaded.image);
 		}
+		loadTime = System.nanoTime() - start;
 
 		if (images.isEmpty()) return;
 
@@ -99,26 +137,135 @@ public class TexturePacker {
 		process(outputDir, packFile, inputDir.getName());
 	}
 	
+	static private ArrayList<File> listFiles (File inputDir, Filter filter) {
+		ArrayList<File> files = new ArrayList();
+		File[] allFiles = inputDir.listFiles(filter);
+		if (allFiles == null) return files;
+		for (File file : allFiles)
+			if (!file.isDirectory()) files.add(file);
+		return files;
+	}
+
 	static void log (String message) {
 		if (!quiet) System.out.println(message);
 	}
 
 	public void addImage (BufferedImage image, String name) {
 		Image squeezed = squeeze(image, name, false);
-		if (squeezed != null) {
-			if (settings.alias) {
-				String crc = hash(squeezed);
-				Image existing = imageCrcs.get(crc);
-				if (existing != null) {
-					existing.aliases.add(squeezed);
-					return;
+		if (squeezed != null) addSqueezed(squeezed);
+	}
+
+	private void addSqueezed (Image squeezed) {
+		if (settings.alias) {
+			String crc = hash(squeezed);
+			Image existing = imageCrcs.get(crc);
+			if (existing != null) {
+				existing.aliases.add(squeezed);
+				return;
+			}
+			imageCrcs.put(crc, squeezed);
+		}
+		images.add(squeezed);
+	}
+
+	/** Returns the image for a file, loading and squeezing it on the executor the first time it is requested for this directory and
+	 * filter. An image accepted by a filter with a size is loaded only once, although it is requested for every size. */
+	private Future<LoadedImage> load (final File file, final String name) {
+		String key = file.getAbsolutePath() + "|" + filter.direction + "|" + filter.format + "|" + filter.minFilter + "|"
+			+ filter.magFilter;
+		Future<LoadedImage> future = settings.loads.get(key);
+		if (future == null) {
+			future = execute(new Callable<LoadedImage>() {
+				public LoadedImage call () throws Exception {
+					return loadImage(file, name);
+				}
+			}, settings.threads);
+			settings.loads.put(key, future);
+		}
+		return future;
+	}
+
+	/** Decodes and squeezes an image file. When {@link Settings#cacheDir} is set, the squeezed pixels are cached there by the hash of
+	 * the file contents and the settings that affect squeezing, so unchanged images are not decoded again in later runs. */
+	private LoadedImage loadImage (File file, String name) throws IOException {
+		byte[] bytes = readBytes(file);
+		File cacheFile = null;
+		if (settings.cacheDir != null) {
+			String key = hash(bytes);
+			if (settings.stripWhitespace && !name.contains("_ws")) key += "_" + settings.alphaThreshold + "_" + filter.direction;
+			cacheFile = new File(settings.cacheDir, key);
+			if (cacheFile.exists()) {
+				try {
+					return readCache(cacheFile, name);
+				} catch (IOException ex) {
+					log("Ignoring invalid cache file: " + cacheFile);
 				}
-				imageCrcs.put(crc, squeezed);
 			}
-			images.add(squeezed);
+		}
+		BufferedImage source = ImageIO.read(new ByteArrayInputStream(bytes));
+		if (source == null) return null;
+		LoadedImage loaded = new LoadedImage(name, source.getWidth(), source.getHeight(), strip(source, name, false));
+		if (cacheFile != null) writeCache(cacheFile, loaded);
+		return loaded;
+	}
+
+	static private LoadedImage readCache (File file, String name) throws IOException {
+		DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+		try {
+			if (input.readInt() != cacheVersion) throw new IOException("Unknown cache version.");
+			int originalWidth = input.readInt(), originalHeight = input.readInt();
+			int offsetX = input.readInt(), offsetY = input.readInt();
+			int width = input.readInt(), height = input.readInt();
+			boolean alpha = input.readBoolean();
+			if (width == 0) return new LoadedImage(name, originalWidth, originalHeight, null);
+			byte[] bytes = new byte[width * height * 4];
+			input.readFully(bytes);
+			BufferedImage image = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+			ByteBuffer.wrap(bytes).asIntBuffer().get(((DataBufferInt)image.getRaster().getDataBuffer()).getData());
+			return new LoadedImage(name, originalWidth, originalHeight, new Image(name, image.getColorModel(), image.getRaster(),
+				offsetX, offsetY, originalWidth, originalHeight));
+		} finally {
+			input.close();
 		}
 	}
 
+	static private void writeCache (File file, LoadedImage loaded) throws IOException {
+		file.getParentFile().mkdirs();
+		// Write to a temporary file first, an identical image may be cached by another thread at the same time.
+		File tempFile = File.createTempFile(file.getName(), null, file.getParentFile());
+		DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)));
+		try {
+			Image image = loaded.image;
+			output.writeInt(cacheVersion);
+			output.writeInt(loaded.originalWidth);
+			output.writeInt(loaded.originalHeight);
+			if (image == null) {
+				output.writeInt(0);
+				output.writeInt(0);
+				output.writeInt(0);
+				output.writeInt(0);
+				output.writeBoolean(false);
+			} else {
+				int width = image.getWidth(), height = image.getHeight();
+				output.writeInt(image.offsetX);
+				output.writeInt(image.offsetY);
+				output.writeInt(width);
+				output.writeInt(height);
+				output.writeBoolean(image.getColorModel().hasAlpha());
+				int[] row = new int[width];
+				ByteBuffer bytes = ByteBuffer.allocate(width * 4);
+				for (int y = 0; y < height; y++) {
+					image.getRGB(0, y, width, 1, row, 0, width);
+					bytes.asIntBuffer().put(row);
+					output.write(bytes.array());
+				}
+			}
+		} finally {
+			output.close();
+		}
+		if (!tempFile.renameTo(file)) tempFile.delete();
+	}
+
 	public void process (File outputDir, File packFile, String prefix) throws IOException {
 		if (images.isEmpty()) return;
 
@@ -137,108 +284,102 @@ public class TexturePacker {
 		outputDir.mkdirs();
 		writer = new FileWriter(packFile, true);
 		try {
+			long start = System.nanoTime();
 			while (!images.isEmpty())
 				if (!writePage(prefix, outputDir)) break;
+			packTime = System.nanoTime() - start;
+			for (Future write : writes)
+				get(write);
 			if (writer != null) {
 				log("Pixels eliminated: " + (1 - compressedSize / (float)uncompressedSize) * 100 + "%");
+				log("Pages: " + pageCount + ", occupancy: " + percent(pagePlacedPixels, pagePixels) + "%");
+				log("Time: load " + loadTime / 1000000 + " ms, pack " + packTime / 1000000 + " ms, write " + writeTime / 1000000
+					+ " ms");
 				log("");
 			}
+			settings.loadTime += loadTime;
+			settings.packTime += packTime;
+			settings.writeTime += writeTime;
 		} finally {
 			writer.close();
 		}
 	}
 
 	private boolean writePage (String prefix, File outputDir) throws IOException {
-		// Try reasonably hard to pack images into the smallest POT size.
+		// The images are sorted in turn by each comparator and sorting is stable, so ties keep the order of the previous sorts. The
+		// first round of sizes starts from the current order, later rounds from the order left by the last comparator.
+		int comparatorCount = imageComparators.size();
+		ArrayList<ArrayList<Image>> sorted = new ArrayList(comparatorCount * 2);
+		for (int i = 0; i < comparatorCount * 2; i++) {
+			Collections.sort(images, imageComparators.get(i % comparatorCount));
+			sorted.add(new ArrayList(images));
+		}
+
+		// Try reasonably hard to pack images into the smallest POT size. Several sizes are tried at once, but the results are used
+		// in the same order as when trying one size at a time.
 		Comparator bestComparator = null;
 		Comparator secondBestComparator = imageComparators.get(0);
 		int bestWidth = 99999, bestHeight = 99999;
 		int secondBestWidth = 99999, secondBestHeight = 99999;
 		int bestUsedPixels = 0;
-		int width = minWidth, height = minHeight;
-		int grownPixels = 0, grownPixels2 = 0;
-		int i = 0, ii = 0;
+		PageSize size = new PageSize();
+		int batchSize = Math.max(1, (settings.threads + comparatorCount - 1) / comparatorCount);
+		ArrayList<int[]> batch = new ArrayList(batchSize);
+		ArrayList<Future<Integer>> results = new ArrayList(batchSize * comparatorCount);
+		boolean firstRound = true;
+		outer:
 		while (true) {
-			for (Comparator comparator : imageComparators) {
-				// Pack as many images as possible, sorting the images different ways.
-				Collections.sort(images, comparator);
-				int usedPixels = insert(null, new ArrayList(images), width, height);
-				// Store the best pack, in case not all images fit on the max texture size.
-				if (usedPixels > bestUsedPixels) {
-					secondBestComparator = comparator;
-					secondBestWidth = width;
-					secondBestHeight = height;
-				}
-				// If all images fit and this sort is the best so far, take note.
-				if (usedPixels == -1) {
-					if (width * height < bestWidth * bestHeight) {
-						bestComparator = comparator;
-						bestWidth = width;
-						bestHeight = height;
-					}
+			batch.clear();
+			results.clear();
+			boolean last = false;
+			while (batch.size() < batchSize && !last) {
+				batch.add(new int[] {size.width, size.height});
+				if (size.isLast())
+					last = true;
+				else
+					size.grow();
+			}
+			for (int b = 0; b < batch.size(); b++) {
+				for (int c = 0; c < comparatorCount; c++) {
+					// Pack as many images as possible, sorting the images different ways.
+					final ArrayList<Image> trial = sorted.get(firstRound && b == 0 ? c : comparatorCount + c);
+					final int width = batch.get(b)[0], height = batch.get(b)[1];
+					results.add(execute(new Callable<Integer>() {
+						public Integer call () throws Exception {
+							return insert(null, new ArrayList(trial), width, height);
+						}
+					}, settings.threads));
 				}
 			}
-			if (width == maxWidth && height == maxHeight) break;
-			if (bestComparator != null) break;
-			if (settings.pot) {
-				// 64,64 -> 128,64 -> 256,64 etc 64,128 -> 64,256 etc -> 128,128 -> 256,128 etc.
-				if (i % 3 == 0) {
-					grownPixels += MathUtils.nextPowerOfTwo(width + 1) - width;
-					width = MathUtils.nextPowerOfTwo(width + 1);
-					if (width > maxWidth) {
-						i++;
-						width -= grownPixels;
-						grownPixels = 0;
+			firstRound = false;
+			for (int b = 0, r = 0; b < batch.size(); b++) {
+				int width = batch.get(b)[0], height = batch.get(b)[1];
+				for (Comparator comparator : imageComparators) {
+					int usedPixels = get(results.get(r++));
+					// Store the best pack, in case not all images fit on the max texture size.
+					if (usedPixels > bestUsedPixels) {
+						secondBestComparator = comparator;
+						secondBestWidth = width;
+						secondBestHeight = height;
 					}
-				} else if (i % 3 == 1) {
-					grownPixels += MathUtils.nextPowerOfTwo(height + 1) - height;
-					height = MathUtils.nextPowerOfTwo(height + 1);
-					if (height > maxHeight) {
-						i++;
-						height -= grownPixels;
-						grownPixels = 0;
+					// If all images fit and this sort is the best so far, take note.
+					if (usedPixels == -1) {
+						if (width * height < bestWidth * bestHeight) {
+							bestComparator = comparator;
+							bestWidth = width;
+							bestHeight = height;
+						}
 					}
-				} else {
-					ii++;
-					if (ii % 2 == 1)
-						width = MathUtils.nextPowerOfTwo(width + 1);
-					else
-						height = MathUtils.nextPowerOfTwo(height + 1);
-					i++;
 				}
-			} else {
-				// 64-127,64 -> 64,64-127 -> 128-255,128 -> 128,128-255 etc.
-				int incr = 2;
-				if (i % 3 == 0) {
-					if (width + incr >= MathUtils.nextPowerOfTwo(width)) {
-						width -= grownPixels;
-						grownPixels = 0;
-						i++;
-					} else {
-						width += incr;
-						grownPixels += incr;
-					}
-				} else if (i % 3 == 1) {
-					if (height + incr >= MathUtils.nextPowerOfTwo(height)) {
-						height -= grownPixels;
-						grownPixels = 0;
-						i++;
-					} else {
-						height += incr;
-						grownPixels += incr;
-					}
-				} else {
-					if (width == MathUtils.nextPowerOfTwo(width) && height == MathUtils.nextPowerOfTwo(height)) ii++;
-					if (ii % 2 == 1)
-						width += incr;
-					else
-						height += incr;
-					i++;
+				if ((last && b == batch.size() - 1) || bestComparator != null) {
+					for (Future result : results)
+						result.cancel(false);
+					break outer;
 				}
 			}
-			width = Math.min(maxWidth, width);
-			height = Math.min(maxHeight, height);
 		}
+		images.clear();
+		images.addAll(sorted.get(comparatorCount * 2 - 1));
 		if (bestComparator != null) {
 			Collections.sort(images, bestComparator);
 		} else {
@@ -246,8 +387,8 @@ public class TexturePacker {
 			bestWidth = secondBestWidth;
 			bestHeight = secondBestHeight;
 		}
-		width = bestWidth;
-		height = bestHeight;
+		int width = bestWidth;
+		int height = bestHeight;
 		if (settings.pot) {
 			width = MathUtils.nextPowerOfTwo(width);
 			height = MathUtils.nextPowerOfTwo(height);
@@ -276,7 +417,7 @@ public class TexturePacker {
 
 		int imageNumber = 1;
 		File outputFile = new File(outputDir, prefix + imageNumber + ".png");
-		while (outputFile.exists())
+		while (!outputFile.createNewFile())
 			outputFile = new File(outputDir, prefix + ++imageNumber + ".png");
 
 		writer.write("\n" + outputFile.getName() + "\n");
@@ -294,15 +435,152 @@ public class TexturePacker {
 			writer.write("filter: " + filter.minFilter + "," + filter.magFilter + "\n");
 		writer.write("repeat: " + filter.direction + "\n");
 
-		BufferedImage canvas = new BufferedImage(width, height, type);
+		final BufferedImage canvas = new BufferedImage(width, height, type);
 		insert(canvas, images, bestWidth, bestHeight);
-		log("Writing " + canvas.getWidth() + "x" + canvas.getHeight() + ": " + outputFile);
-		ImageIO.write(canvas, "png", outputFile);
-		if (!settings.pot) ImageIO.write(squeeze(ImageIO.read(outputFile), "", true), "png", outputFile);
+		pageCount++;
+		// Encode on the executor while the next page is packed. The file was created above so the next page gets another name.
+		final File file = outputFile;
+		final int placed = placedPixels;
+		writes.add(execute(new Callable() {
+			public Object call () throws Exception {
+				long start = System.nanoTime();
+				ImageIO.write(canvas, "png", file);
+				BufferedImage written = canvas;
+				if (!settings.pot) {
+					written = strip(ImageIO.read(file), "", true);
+					ImageIO.write(written, "png", file);
+				}
+				// Occupancy is measured on the page as written, after the whitespace was stripped.
+				int writtenPixels = written.getWidth() * written.getHeight();
+				log("Wrote " + written.getWidth() + "x" + written.getHeight() + " (" + percent(placed, writtenPixels) + "% used): "
+					+ file);
+				synchronized (TexturePacker.this) {
+					writeTime += System.nanoTime() - start;
+					pagePixels += writtenPixels;
+					pagePlacedPixels += placed;
+				}
+				return null;
+			}
+		}, settings.threads));
+		if (!settings.pot) uncompressedSize += canvas.getWidth() * canvas.getHeight();
 		compressedSize += canvas.getWidth() * canvas.getHeight();
 		return true;
 	}
 
+	static private float percent (long part, long total) {
+		return total == 0 ? 0 : Math.round(part * 1000f / total) / 10f;
+	}
+
+	/** The sequence of page sizes tried by {@link TexturePacker#writePage(String, File)}. */
+	private class PageSize {
+		int width = minWidth, height = minHeight;
+		int grownPixels;
+		int i, ii;
+		/** The POT sizes tried in order of area when using MaxRects, or null to grow the size a step at a time. */
+		ArrayList<int[]> sizes;
+		int index;
+
+		public PageSize () {
+			if (!settings.maxRects || !settings.pot) return;
+			sizes = new ArrayList();
+			for (int pageWidth : sizeSteps(minWidth, maxWidth))
+				for (int pageHeight : sizeSteps(minHeight, maxHeight))
+					sizes.add(new int[] {pageWidth, pageHeight});
+			Collections.sort(sizes, new Comparator<int[]>() {
+				public int compare (int[] size1, int[] size2) {
+					int diff = size1[0] * size1[1] - size2[0] * size2[1];
+					if (diff != 0) return diff;
+					return Math.max(size1[0], size1[1]) - Math.max(size2[0], size2[1]);
+				}
+			});
+			width = sizes.get(0)[0];
+			height = sizes.get(0)[1];
+		}
+
+		/** @return the minimum, the powers of two in between and the maximum. */
+		private ArrayList<Integer> sizeSteps (int min, int max) {
+			ArrayList<Integer> steps = new ArrayList();
+			steps.add(min);
+			for (int size = min; size < max;) {
+				size = Math.min(max, MathUtils.nextPowerOfTwo(size + 1));
+				steps.add(size);
+			}
+			return steps;
+		}
+
+		boolean isLast () {
+			if (sizes != null) return index == sizes.size() - 1;
+			return width == maxWidth && height == maxHeight;
+		}
+
+		void grow () {
+			if (sizes != null) {
+				index++;
+				width = sizes.get(index)[0];
+				height = sizes.get(index)[1];
+				return;
+			}
+			if (settings.pot) {
+				// 64,64 -> 128,64 -> 256,64 etc 64,128 -> 64,256 etc -> 128,128 -> 256,128 etc.
+				if (i % 3 == 0) {
+					grownPixels += MathUtils.nextPowerOfTwo(width + 1) - width;
+					width = MathUtils.nextPowerOfTwo(width + 1);
+					if (width > maxWidth) {
+						i++;
+						width -= grownPixels;
+						grownPixels = 0;
+					}
+				} else if (i % 3 == 1) {
+					grownPixels += MathUtils.nextPowerOfTwo(height + 1) - height;
+					height = MathUtils.nextPowerOfTwo(height + 1);
+					if (height > maxHeight) {
+						i++;
+						height -= grownPixels;
+						grownPixels = 0;
+					}
+				} else {
+					ii++;
+					if (ii % 2 == 1)
+						width = MathUtils.nextPowerOfTwo(width + 1);
+					else
+						height = MathUtils.nextPowerOfTwo(height + 1);
+					i++;
+				}
+			} else {
+				// 64-127,64 -> 64,64-127 -> 128-255,128 -> 128,128-255 etc.
+				int incr = 2;
+				if (i % 3 == 0) {
+					if (width + incr >= MathUtils.nextPowerOfTwo(width)) {
+						width -= grownPixels;
+						grownPixels = 0;
+						i++;
+					} else {
+						width += incr;
+						grownPixels += incr;
+					}
+				} else if (i % 3 == 1) {
+					if (height + incr >= MathUtils.nextPowerOfTwo(height)) {
+						height -= grownPixels;
+						grownPixels = 0;
+						i++;
+					} else {
+						height += incr;
+						grownPixels += incr;
+					}
+				} else {
+					if (width == MathUtils.nextPowerOfTwo(width) && height == MathUtils.nextPowerOfTwo(height)) ii++;
+					if (ii % 2 == 1)
+						width += incr;
+					else
+						height += incr;
+					i++;
+				}
+			}
+			width = Math.min(maxWidth, width);
+			height = Math.min(maxHeight, height);
+		}
+	}
+
 	private int insert (BufferedImage canvas, ArrayList<Image> images, int width, int height) throws IOException {
 		if (settings.debug && canvas != null) {
 			Graphics g = canvas.getGraphics();
@@ -324,18 +602,28 @@ public class TexturePacker {
 			if (!filter.direction.isX()) width += xPadding;
 			if (!filter.direction.isY()) height += yPadding;
 		}
-		Node root = new Node(x, y, width, height);
+		Node root = null;
+		MaxRects maxRects = null;
+		if (settings.maxRects)
+			maxRects = new MaxRects(x, y, width, height);
+		else
+			root = new Node(x, y, width, height);
 		int usedPixels = 0;
 		for (int i = images.size() - 1; i >= 0; i--) {
 			Image image = images.get(i);
-			Node node = root.insert(image, false);
-			if (node == null) {
-				if (settings.rotate) node = root.insert(image, true);
-				if (node == null) continue;
+			Node node;
+			if (maxRects != null)
+				node = maxRects.insert(image);
+			else {
+				node = root.insert(image, false);
+				if (node == null && settings.rotate) node = root.insert(image, true);
 			}
+			if (node == null) continue;
 			usedPixels += image.getWidth() * image.getHeight();
 			images.remove(i);
 			if (canvas != null) {
+				// Trial packs run in parallel and don't modify the images, only the final pack stores the rotation.
+				image.rotate = node.rotate;
 				node.writePackEntry();
 				Graphics2D g = (Graphics2D)canvas.getGraphics();
 				if (image.rotate) {
@@ -382,6 +670,7 @@ public class TexturePacker {
 				}
 			}
 		}
+		if (canvas != null) placedPixels = usedPixels;
 		return images.isEmpty() ? -1 : usedPixels;
 	}
 
@@ -389,6 +678,14 @@ public class TexturePacker {
 		if (source == null) return null;
 		if (!filter.accept(source)) return null;
 		uncompressedSize += source.getWidth() * source.getHeight();
+		Image image = strip(source, name, skipTopLeft);
+		if (image == null) log("Ignoring blank input image: " + name);
+		return image;
+	}
+
+	/** Removes the whitespace around an image. Doesn't change the packer, so it can be called from any thread.
+	 * @return the squeezed image or null if the image is blank */
+	private Image strip (BufferedImage source, String name, boolean skipTopLeft) {
 		WritableRaster alphaRaster = source.getAlphaRaster();
 		if (alphaRaster == null || !settings.stripWhitespace || name.contains("_ws"))
 			return new Image(name, source, 0, 0, source.getWidth(), source.getHeight());
@@ -447,23 +744,21 @@ public class TexturePacker {
 		}
 		int newWidth = right - left;
 		int newHeight = bottom - top;
-		if (newWidth <= 0 || newHeight <= 0) {
-			log("Ignoring blank input image: " + name);
-			return null;
-		}
+		if (newWidth <= 0 || newHeight <= 0) return null;
 		return new Image(name, source, left, top, newWidth, newHeight);
 	}
 
 	static private String hash (BufferedImage image) {
 		try {
+			// Hash the colors rather than the raster data, so images of different types can be compared.
 			MessageDigest digest = MessageDigest.getInstance("SHA1");
-			WritableRaster raster = image.getRaster();
-			final byte[] pixel = new byte[4];
+			int width = image.getWidth();
+			int[] row = new int[width];
+			ByteBuffer bytes = ByteBuffer.allocate(width * 4);
 			for (int y = 0; y < image.getHeight(); y++) {
-				for (int x = 0; x < image.getWidth(); x++) {
-					raster.getDataElements(x, y, pixel);
-					digest.update(pixel);
-				}
+				image.getRGB(0, y, width, 1, row, 0, width);
+				bytes.asIntBuffer().put(row);
+				digest.update(bytes.array());
 			}
 			return new BigInteger(1, digest.digest()).toString(16);
 		} catch (NoSuchAlgorithmException ex) {
@@ -475,6 +770,7 @@ public class TexturePacker {
 		int left, top, width, height;
 		Node child1, child2;
 		Image image;
+		boolean rotate;
 
 		public Node (int left, int top, int width, int height) {
 			this.left = left;
@@ -503,7 +799,7 @@ public class TexturePacker {
 			if (neededWidth > width || neededHeight > height) return null;
 			if (neededWidth == width && neededHeight == height) {
 				this.image = image;
-				image.rotate = rotate;
+				this.rotate = rotate;
 				return this;
 			}
 			int dw = width - neededWidth;
@@ -520,8 +816,10 @@ public class TexturePacker {
 
 		void writePackEntry () throws IOException {
 			writePackEntry(image, false);
-			for (Image alias : image.aliases)
+			for (Image alias : image.aliases) {
+				alias.rotate = image.rotate;
 				writePackEntry(alias, true);
+			}
 		}
 
 		private void writePackEntry (Image image, boolean alias) throws IOException {
@@ -547,6 +845,113 @@ public class TexturePacker {
 		}
 	}
 
+	/** Places images with the MaxRects algorithm. Every maximal free rectangle of the page is kept, so unlike the guillotine split of
+	 * {@link Node} no space is lost to an early cut, which helps with images of mixed sizes. */
+	private class MaxRects {
+		final Rectangle bounds;
+		final ArrayList<Rectangle> free = new ArrayList();
+		final ArrayList<Rectangle> used = new ArrayList();
+		final ArrayList<Rectangle> split = new ArrayList();
+
+		public MaxRects (int left, int top, int width, int height) {
+			bounds = new Rectangle(left, top, width, height);
+			free.add(new Rectangle(bounds));
+		}
+
+		/** @return the node the image was placed at or null if it doesn't fit. */
+		public Node insert (Image image) {
+			Rectangle best = null;
+			int bestWidth = 0, bestHeight = 0;
+			boolean bestRotate = false;
+			int bestScore1 = Integer.MAX_VALUE, bestScore2 = Integer.MAX_VALUE;
+			for (int r = 0, rn = settings.rotate ? 2 : 1; r < rn; r++) {
+				boolean rotate = r == 1;
+				int width = (rotate ? image.getHeight() : image.getWidth()) + xPadding;
+				int height = (rotate ? image.getWidth() : image.getHeight()) + yPadding;
+				for (int i = 0, n = free.size(); i < n; i++) {
+					Rectangle rect = free.get(i);
+					if (width > rect.width || height > rect.height) continue;
+					int score1, score2;
+					switch (settings.heuristic) {
+					case BestAreaFit:
+						score1 = rect.width * rect.height - width * height;
+						score2 = Math.min(rect.width - width, rect.height - height);
+						break;
+					case ContactPointRule:
+						score1 = -contactPoint(rect.x, rect.y, width, height);
+						score2 = rect.y * bounds.width + rect.x;
+						break;
+					default:
+						score1 = Math.min(rect.width - width, rect.height - height);
+						score2 = Math.max(rect.width - width, rect.height - height);
+					}
+					if (score1 < bestScore1 || (score1 == bestScore1 && score2 < bestScore2)) {
+						best = rect;
+						bestWidth = width;
+						bestHeight = height;
+						bestRotate = rotate;
+						bestScore1 = score1;
+						bestScore2 = score2;
+					}
+				}
+			}
+			if (best == null) return null;
+
+			Node node = new Node(best.x, best.y, bestWidth, bestHeight);
+			node.image = image;
+			node.rotate = bestRotate;
+			place(new Rectangle(best.x, best.y, bestWidth, bestHeight));
+			return node;
+		}
+
+		private void place (Rectangle placed) {
+			// Replace the free rectangles that overlap the placed rectangle with their parts around it.
+			split.clear();
+			for (int i = free.size() - 1; i >= 0; i--) {
+				Rectangle rect = free.get(i);
+				if (!rect.intersects(placed)) continue;
+				free.remove(i);
+				int rectRight = rect.x + rect.width, rectBottom = rect.y + rect.height;
+				int placedRight = placed.x + placed.width, placedBottom = placed.y + placed.height;
+				if (placed.x > rect.x) split.add(new Rectangle(rect.x, rect.y, placed.x - rect.x, rect.height));
+				if (placedRight < rectRight) split.add(new Rectangle(placedRight, rect.y, rectRight - placedRight, rect.height));
+				if (placed.y > rect.y) split.add(new Rectangle(rect.x, rect.y, rect.width, placed.y - rect.y));
+				if (placedBottom < rectBottom) split.add(new Rectangle(rect.x, placedBottom, rect.width, rectBottom - placedBottom));
+			}
+			// Keep only the new rectangles that aren't inside another. The remaining free rectangles were maximal and are parts of
+			// none of the removed ones, so they can't be inside a new one.
+			int freeCount = free.size();
+			outer:
+			for (int i = 0, n = split.size(); i < n; i++) {
+				Rectangle rect = split.get(i);
+				for (int ii = 0; ii < freeCount; ii++)
+					if (free.get(ii).contains(rect)) continue outer;
+				for (int ii = 0; ii < n; ii++) {
+					if (ii == i) continue;
+					Rectangle other = split.get(ii);
+					if (other.contains(rect) && (ii < i || !other.equals(rect))) continue outer;
+				}
+				free.add(rect);
+			}
+			used.add(placed);
+		}
+
+		/** @return the length of the edges of the rectangle that touch the page bounds or placed images. */
+		private int contactPoint (int x, int y, int width, int height) {
+			int score = 0;
+			if (x == bounds.x || x + width == bounds.x + bounds.width) score += height;
+			if (y == bounds.y || y + height == bounds.y + bounds.height) score += width;
+			for (int i = 0, n = used.size(); i < n; i++) {
+				Rectangle rect = used.get(i);
+				if (rect.x == x + width || rect.x + rect.width == x)
+					score += Math.max(0, Math.min(rect.y + rect.height, y + height) - Math.max(rect.y, y));
+				if (rect.y == y + height || rect.y + rect.height == y)
+					score += Math.max(0, Math.min(rect.x + rect.width, x + width) - Math.max(rect.x, x));
+			}
+			return score;
+		}
+	}
+
 	static private class Image extends BufferedImage {
 		final String name;
 		final int offsetX, offsetY;
@@ -555,13 +960,18 @@ public class TexturePacker {
 		ArrayList<Image> aliases = new ArrayList();
 
 		public Image (String name, BufferedImage src, int left, int top, int newWidth, int newHeight) {
-			super(src.getColorModel(), src.getRaster().createWritableChild(left, top, newWidth, newHeight, 0, 0, null), src
-				.getColorModel().isAlphaPremultiplied(), null);
+			this(name, src.getColorModel(), src.getRaster().createWritableChild(left, top, newWidth, newHeight, 0, 0, null), left,
+				top, src.getWidth(), src.getHeight());
+		}
+
+		public Image (String name, ColorModel colorModel, WritableRaster raster, int offsetX, int offsetY, int originalWidth,
+			int originalHeight) {
+			super(colorModel, raster, colorModel.isAlphaPremultiplied(), null);
 			this.name = name;
-			offsetX = left;
-			offsetY = top;
-			originalWidth = src.getWidth();
-			originalHeight = src.getHeight();
+			this.offsetX = offsetX;
+			this.offsetY = offsetY;
+			this.originalWidth = originalWidth;
+			this.originalHeight = originalHeight;
 		}
 
 		public String toString () {
@@ -569,6 +979,21 @@ public class TexturePacker {
 		}
 	}
 
+	/** An image file after loading, shared by the packers of a directory. */
+	static private class LoadedImage {
+		final String name;
+		final int originalWidth, originalHeight;
+		/** The squeezed image or null if the image is blank. */
+		final Image image;
+
+		public LoadedImage (String name, int originalWidth, int originalHeight, Image image) {
+			this.name = name;
+			this.originalWidth = originalWidth;
+			this.originalHeight = originalHeight;
+			this.image = image;
+		}
+	}
+
 	static private ArrayList<Comparator> imageComparators = new ArrayList();
 	static {
 		imageComparators.add(new Comparator<Image>() {
@@ -611,6 +1036,10 @@ public class TexturePacker {
 		}
 
 		public boolean accept (File dir, String name) {
+			return acceptDirection(name) && acceptFormat(name) && acceptFilter(name);
+		}
+
+		public boolean acceptDirection (String name) {
 			switch (direction) {
 			case none:
 				if (name.contains("_x") || name.contains("_y")) return false;
@@ -625,7 +1054,10 @@ public class TexturePacker {
 				if (!name.contains("_xy")) return false;
 				break;
 			}
+			return true;
+		}
 
+		public boolean acceptFormat (String name) {
 			if (format != null) {
 				if (!name.contains("_" + formatToAbbrev.get(format))) return false;
 			} else {
@@ -633,7 +1065,10 @@ public class TexturePacker {
 				for (String f : formatToAbbrev.values())
 					if (name.contains("_" + f)) return false;
 			}
+			return true;
+		}
 
+		public boolean acceptFilter (String name) {
 			if (minFilter != null && magFilter != null) {
 				if (!name.contains("_" + filterToAbbrev.get(minFilter) + "," + filterToAbbrev.get(magFilter) + ".")
 					&& !name.contains("_" + filterToAbbrev.get(minFilter) + "," + filterToAbbrev.get(magFilter) + "_")) return false;
@@ -654,12 +1089,26 @@ public class TexturePacker {
 		}
 
 		public boolean accept (BufferedImage image) {
-			if (width != -1 && image.getWidth() != width) return false;
-			if (height != -1 && image.getHeight() != height) return false;
+			return accept(image.getWidth(), image.getHeight());
+		}
+
+		public boolean accept (int imageWidth, int imageHeight) {
+			if (width != -1 && imageWidth != width) return false;
+			if (height != -1 && imageHeight != height) return false;
 			return true;
 		}
 	}
 
+	/** How {@link Settings#maxRects} chooses the free rectangle for an image. */
+	static public enum MaxRectsHeuristic {
+		/** Fits the shorter leftover side of the free rectangle as tightly as possible. */
+		BestShortSideFit,
+		/** Picks the smallest free rectangle the image fits in. */
+		BestAreaFit,
+		/** Picks the position where the image touches the most edges of the page and other images. */
+		ContactPointRule
+	}
+
 	static private enum Direction {
 		x, y, xy, none;
 
@@ -709,9 +1158,20 @@ public class TexturePacker {
 		public boolean incremental;
 		public boolean alias = true;
 		public boolean edgePadding = true;
+		/** Places images with the MaxRects algorithm instead of a guillotine tree, which wastes less space with images of mixed sizes.
+		 * With {@link #pot}, every power of two page size between the minimum and maximum is tried in order of area. */
+		public boolean maxRects;
+		public MaxRectsHeuristic heuristic = MaxRectsHeuristic.BestShortSideFit;
+		/** The number of threads used to load images, try page sizes and write pages. */
+		public int threads = Runtime.getRuntime().availableProcessors();
+		/** The directory where squeezed images are cached between runs, or null to disable the cache. Cache files are never deleted,
+		 * so the directory should be cleaned up by the caller. Default is null. */
+		public String cacheDir;
 
 		HashMap<String, Long> crcs = new HashMap();
 		HashMap<String, String> packSections = new HashMap();
+		HashMap<String, Future<LoadedImage>> loads = new HashMap();
+		long loadTime, packTime, writeTime;
 	}
 
 	static private void process (Settings settings, File inputDir, File outputDir, File packFile) throws IOException {
@@ -772,7 +1232,13 @@ public class TexturePacker {
 					if (file.getName().startsWith(prefix) && file.getName().endsWith(".png")) file.delete();
 			}
 
-			// Just check all combinations, because we are extremely lazy.
+			// Just check all combinations, because we are extremely lazy. The names are checked before any image is loaded, and
+			// the files are narrowed down by format and filter first so each combination only checks the names that can match.
+			File[] allFiles = inputDir.listFiles();
+			if (allFiles == null) return;
+			ArrayList<File> files = new ArrayList();
+			for (File file : allFiles)
+				if (!file.isDirectory()) files.add(file);
 			ArrayList<TextureFilter> filters = new ArrayList();
 			filters.add(null);
 			filters.addAll(Arrays.asList(TextureFilter.values()));
@@ -781,6 +1247,11 @@ public class TexturePacker {
 			formats.addAll(Arrays.asList(Format.values()));
 			for (int i = 0, n = formats.size(); i < n; i++) {
 				Format format = formats.get(i);
+				Filter formatFilter = new Filter(Direction.none, format, -1, -1, null, null);
+				ArrayList<File> formatFiles = new ArrayList();
+				for (File file : files)
+					if (formatFilter.acceptFormat(file.getName())) formatFiles.add(file);
+				if (formatFiles.isEmpty()) continue;
 				for (int ii = 0, nn = filters.size(); ii < nn; ii++) {
 					TextureFilter min = filters.get(ii);
 					for (int iii = 0; iii < nn; iii++) {
@@ -788,27 +1259,33 @@ public class TexturePacker {
 						if ((min == null && mag != null) || (min != null && mag == null)) continue;
 
 						Filter filter = new Filter(Direction.none, format, -1, -1, min, mag);
-						new TexturePacker(settings, inputDir, filter, outputDir, packFile);
+						ArrayList<File> filterFiles = new ArrayList();
+						for (File file : formatFiles)
+							if (filter.acceptFilter(file.getName())) filterFiles.add(file);
+						if (filterFiles.isEmpty()) continue;
+
+						process(settings, inputDir, filterFiles, filter, outputDir, packFile);
 
 						for (int width = settings.minWidth; width <= settings.maxWidth; width <<= 1) {
 							filter = new Filter(Direction.x, format, width, -1, min, mag);
-							new TexturePacker(settings, inputDir, filter, outputDir, packFile);
+							process(settings, inputDir, filterFiles, filter, outputDir, packFile);
 						}
 
 						for (int height = settings.minHeight; height <= settings.maxHeight; height <<= 1) {
 							filter = new Filter(Direction.y, format, -1, height, min, mag);
-							new TexturePacker(settings, inputDir, filter, outputDir, packFile);
+							process(settings, inputDir, filterFiles, filter, outputDir, packFile);
 						}
 
 						for (int width = settings.minWidth; width <= settings.maxWidth; width <<= 1) {
 							for (int height = settings.minHeight; height <= settings.maxHeight; height <<= 1) {
 								filter = new Filter(Direction.xy, format, width, height, min, mag);
-								new TexturePacker(settings, inputDir, filter, outputDir, packFile);
+								process(settings, inputDir, filterFiles, filter, outputDir, packFile);
 							}
 						}
 					}
 				}
 			}
+			settings.loads.clear();
 		}
 
 		// Process subdirectories.
@@ -818,6 +1295,15 @@ public class TexturePacker {
 			if (file.isDirectory()) process(settings, file, outputDir, packFile);
 	}
 
+	/** Packs the files whose names match the direction of the filter. The files must already match its format and filters. */
+	static private void process (Settings settings, File inputDir, ArrayList<File> files, Filter filter, File outputDir,
+		File packFile) throws IOException {
+		ArrayList<File> accepted = new ArrayList();
+		for (File file : files)
+			if (filter.acceptDirection(file.getName())) accepted.add(file);
+		if (!accepted.isEmpty()) new TexturePacker(settings, inputDir, accepted, filter, outputDir, packFile);
+	}
+
 	static public void process (Settings settings, String input, String output) {
 		process(settings, input, output, "pack");
 	}
@@ -882,7 +1368,10 @@ public class TexturePacker {
 			// Clean pack file.
 			packFile.delete();
 
+			settings.loadTime = settings.packTime = settings.writeTime = 0;
 			process(settings, inputDir, outputDir, packFile);
+			log("Total time: load " + settings.loadTime / 1000000 + " ms, pack " + settings.packTime / 1000000 + " ms, write "
+				+ settings.writeTime / 1000000 + " ms");
 
 			// Write incrmental file.
 			if (incrmentalFile != null) {
@@ -900,15 +1389,68 @@ public class TexturePacker {
 	}
 
 	static private String hash (String value) {
+		return hash(value.getBytes());
+	}
+
+	static private String hash (byte[] bytes) {
 		try {
 			MessageDigest digest = MessageDigest.getInstance("SHA1");
-			digest.update(value.getBytes());
+			digest.update(bytes);
 			return new BigInteger(1, digest.digest()).toString(16);
 		} catch (NoSuchAlgorithmException ex) {
 			throw new RuntimeException(ex);
 		}
 	}
 
+	static private byte[] readBytes (File file) throws IOException {
+		DataInputStream input = new DataInputStream(new FileInputStream(file));
+		try {
+			byte[] bytes = new byte[(int)file.length()];
+			input.readFully(bytes);
+			return bytes;
+		} finally {
+			input.close();
+		}
+	}
+
+	/** Runs the task on a shared pool of daemon threads, or right away on this thread if only one thread is used. */
+	static private <T> Future<T> execute (Callable<T> callable, int threads) {
+		FutureTask<T> task = new FutureTask(callable);
+		if (threads <= 1)
+			task.run();
+		else
+			getExecutor(threads).execute(task);
+		return task;
+	}
+
+	static synchronized private ExecutorService getExecutor (int threads) {
+		if (executor == null || executorThreads != threads) {
+			if (executor != null) executor.shutdown();
+			executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+				public Thread newThread (Runnable runnable) {
+					Thread thread = new Thread(runnable, "TexturePacker");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+			executorThreads = threads;
+		}
+		return executor;
+	}
+
+	static private <T> T get (Future<T> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException ex) {
+			throw new GdxRuntimeException(ex);
+		} catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException) throw (IOException)cause;
+			if (cause instanceof RuntimeException) throw (RuntimeException)cause;
+			throw new GdxRuntimeException(cause);
+		}
+	}
+
 	static private long crc (File file) {
 		try {
 			FileInputStream input = new FileInputStream(file);
@@ -15,6 +15,10 @@
  ******************************************************************************/
 package com.badlogic.gdx.graphics.g3d;
 
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Mesh.VertexDataType;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.g3d.loaders.ModelAssetLoader;
 import com.badlogic.gdx.graphics.g3d.loaders.ModelLoaderRegistry;
 
 /** Hints passed to a loader which might ignore them. See {@link ModelLoaderRegistry}.
@@ -22,8 +26,30 @@ import com.badlogic.gdx.graphics.g3d.loaders.ModelLoaderRegistry;
 public class ModelLoaderHints {
 	/** whether to flip the v texture coordinate **/
 	public final boolean flipV;
+	/** whether to create meshes backed by vertex arrays instead of VBOs. Such meshes don't touch OpenGL, so the model can be
+	 * loaded on a thread other than the rendering thread. Set by {@link ModelAssetLoader}, which later moves the meshes to VBOs on
+	 * the rendering thread. **/
+	public boolean vertexArrays = false;
 
 	public ModelLoaderHints (boolean flipV) {
 		this.flipV = flipV;
 	}
+
+	/** @return a copy of these hints, subclasses must override this to copy their own settings */
+	public ModelLoaderHints copy () {
+		ModelLoaderHints hints = new ModelLoaderHints(flipV);
+		hints.vertexArrays = vertexArrays;
+		return hints;
+	}
+
+	/** Creates a new {@link Mesh} for a loader, see {@link #vertexArrays}.
+	 * @param isStatic whether the mesh is static or not
+	 * @param maxVertices the maximum number of vertices
+	 * @param maxIndices the maximum number of indices
+	 * @param attributes the {@link VertexAttribute}s
+	 * @return the Mesh */
+	public Mesh newMesh (boolean isStatic, int maxVertices, int maxIndices, VertexAttribute... attributes) {
+		if (vertexArrays) return new Mesh(VertexDataType.VertexArray, isStatic, maxVertices, maxIndices, attributes);
+		return new Mesh(isStatic, maxVertices, maxIndices, attributes);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.graphics.g3d;
+
+import java.util.Comparator;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.g3d.materials.Material;
+import com.badlogic.gdx.graphics.g3d.model.Model;
+import com.badlogic.gdx.graphics.g3d.model.SubMesh;
+import com.badlogic.gdx.math.Frustum;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Pool;
+
+/** Collects the sub-meshes of the model instances to be drawn in a frame. Instances outside of the camera's {@link Frustum} are
+ * culled using their bounding sphere. The sub-meshes of the visible instances are split into an opaque and a blended queue. After
+ * {@link #sort()}, the opaque queue is ordered by shader and material and then front to back, the blended queue back to front.
+ * The bounding sphere of an instance is given by {@link StillModelInstance#getSortCenter()} and
+ * {@link StillModelInstance#getBoundingSphereRadius()}. If the radius is 0 a sphere around the model's bounding box is used,
+ * which is calculated once per model and cached.
+ * 
+ * <pre>
+ * queue.begin(cam);
+ * queue.add(model, instance);
+ * queue.sort();
+ * for (int i = 0; i &lt; queue.opaque.size; i++) { ... }
+ * for (int i = 0; i &lt; queue.blended.size; i++) { ... }
+ * queue.end();
+ * </pre> */
+public class RenderQueue {
+	/** the visible opaque sub-meshes, sorted by shader, material and front to back after {@link #sort()} **/
+	public final Array<RenderItem> opaque = new Array<RenderItem>(false, 256);
+	/** the visible blended sub-meshes, sorted back to front after {@link #sort()} **/
+	public final Array<RenderItem> blended = new Array<RenderItem>(false, 64);
+
+	private final Pool<RenderItem> itemPool = new Pool<RenderItem>(256) {
+		@Override
+		protected RenderItem newObject () {
+			return new RenderItem();
+		}
+	};
+	private final ObjectMap<Model, BoundingBox> modelBounds = new ObjectMap<Model, BoundingBox>();
+	private final Vector3 center = new Vector3();
+	private Camera cam;
+
+	private int culled;
+	private int drawn;
+	private int lastCulled;
+	private int lastDrawn;
+
+	private final Comparator<RenderItem> opaqueComparator = new Comparator<RenderItem>() {
+		@Override
+		public int compare (RenderItem a, RenderItem b) {
+			if (a.shaderKey != b.shaderKey) return a.shaderKey < b.shaderKey ? -1 : 1;
+			if (a.materialKey != b.materialKey) return a.materialKey < b.materialKey ? -1 : 1;
+			return a.distance < b.distance ? -1 : (a.distance > b.distance ? 1 : 0);
+		}
+	};
+
+	private final Comparator<RenderItem> blendedComparator = new Comparator<RenderItem>() {
+		@Override
+		public int compare (RenderItem a, RenderItem b) {
+			return a.distance > b.distance ? -1 : (a.distance < b.distance ? 1 : 0);
+		}
+	};
+
+	/** Starts a new frame. Instances will be culled against the frustum of the camera, which must be updated before.
+	 * @param cam the camera or null to disable culling */
+	public void begin (Camera cam) {
+		clear();
+		this.cam = cam;
+		culled = 0;
+		drawn = 0;
+	}
+
+	/** Ends the frame, the items are returned to the pool and the culling statistics are stored. */
+	public void end () {
+		clear();
+		lastCulled = culled;
+		lastDrawn = drawn;
+	}
+
+	/** Adds all sub-meshes of the model instance if its bounding sphere is inside the camera frustum.
+	 * @param model the model
+	 * @param instance the instance
+	 * @return whether the instance is visible */
+	public boolean add (Model model, StillModelInstance instance) {
+		center.set(instance.getSortCenter());
+		float radius = instance.getBoundingSphereRadius();
+		if (radius <= 0) radius = getBoundingSphereRadius(model, instance.getTransform());
+
+		if (cam != null && !cam.frustum.sphereInFrustum(center, radius)) {
+			culled++;
+			return false;
+		}
+		drawn++;
+
+		final float distance = cam != null ? center.dst2(cam.position) : 0;
+		final SubMesh[] subMeshes = model.getSubMeshes();
+		final Material[] materials = instance.getMaterials();
+		for (int i = 0; i < subMeshes.length; i++) {
+			final SubMesh subMesh = subMeshes[i];
+			final Material material = materials != null ? materials[i] : subMesh.material;
+
+			RenderItem item = itemPool.obtain();
+			item.model = model;
+			item.instance = instance;
+			item.subMesh = subMesh;
+			item.material = material;
+			item.center.set(center);
+			item.distance = distance;
+			if (material != null && material.needBlending)
+				blended.add(item);
+			else
+				opaque.add(item);
+		}
+		return true;
+	}
+
+	/** Sorts the opaque and blended queues. Shaders should be assigned to the materials before calling this, otherwise opaque
+	 * items are only sorted by material and distance. */
+	public void sort () {
+		for (int i = 0; i < opaque.size; i++) {
+			RenderItem item = opaque.get(i);
+			item.shaderKey = item.material != null && item.material.shader != null ? System.identityHashCode(item.material.shader)
+				: 0;
+			item.materialKey = item.material != null ? System.identityHashCode(item.material) : 0;
+		}
+		opaque.sort(opaqueComparator);
+		blended.sort(blendedComparator);
+	}
+
+	/** Removes all items from the queues. */
+	public void clear () {
+		itemPool.free(opaque);
+		itemPool.free(blended);
+		opaque.clear();
+		blended.clear();
+	}
+
+	/** Removes the cached bounding box of the model, e.g. if the model is disposed or its vertices changed.
+	 * @param model the model */
+	public void invalidate (Model model) {
+		modelBounds.remove(model);
+	}
+
+	/** @return the number of instances culled in the current frame so far */
+	public int getCulled () {
+		return culled;
+	}
+
+	/** @return the number of instances drawn in the current frame so far */
+	public int getDrawn () {
+		return drawn;
+	}
+
+	/** @return the number of instances culled in the last frame */
+	public int getLastCulled () {
+		return lastCulled;
+	}
+
+	/** @return the number of instances drawn in the last frame */
+	public int getLastDrawn () {
+		return lastDrawn;
+	}
+
+	private float getBoundingSphereRadius (Model model, Matrix4 transform) {
+		BoundingBox bounds = modelBounds.get(model);
+		if (bounds == null) {
+			bounds = new BoundingBox();
+			model.getBoundingBox(bounds);
+			modelBounds.put(model, bounds);
+		}
+		// sphere around the model origin containing the bounding box, scaled by the largest axis scale of the transform
+		float radius = Math.max(bounds.min.len(), bounds.max.len());
+		final float[] val = transform.val;
+		float scaleX = val[Matrix4.M00] * val[Matrix4.M00] + val[Matrix4.M10] * val[Matrix4.M10] + val[Matrix4.M20]
+			* val[Matrix4.M20];
+		float scaleY = val[Matrix4.M01] * val[Matrix4.M01] + val[Matrix4.M11] * val[Matrix4.M11] + val[Matrix4.M21]
+			* val[Matrix4.M21];
+		float scaleZ = val[Matrix4.M02] * val[Matrix4.M02] + val[Matrix4.M12] * val[Matrix4.M12] + val[Matrix4.M22]
+			* val[Matrix4.M22];
+		return radius * (float)Math.sqrt(Math.max(scaleX, Math.max(scaleY, scaleZ)));
+	}
+
+	/** A sub-mesh of a visible model instance. */
+	public static class RenderItem {
+		public Model model;
+		public StillModelInstance instance;
+		public SubMesh subMesh;
+		public Material material;
+		/** the center of the instance's bounding sphere **/
+		public final Vector3 center = new Vector3();
+		/** the squared distance of the center to the camera **/
+		public float distance;
+		int shaderKey;
+		int materialKey;
+	}
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.graphics.g3d.loaders;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AssetLoader;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader.TextureParameter;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g3d.ModelLoaderHints;
+import com.badlogic.gdx.graphics.g3d.materials.Material;
+import com.badlogic.gdx.graphics.g3d.materials.TextureAttribute;
+import com.badlogic.gdx.graphics.g3d.model.Model;
+import com.badlogic.gdx.graphics.g3d.model.SubMesh;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** Base class for the {@link AssetLoader} implementations of the model types. The model file is parsed on the {@link AssetManager}
+ * loader thread via the loaders registered with the {@link ModelLoaderRegistry}, with the meshes backed by vertex arrays. The VBOs
+ * are created on the rendering thread in {@link #loadSync(AssetManager, String, ModelParameter)}. Textures given in the
+ * {@link ModelParameter} are loaded as dependencies and set as the diffuse texture of the sub-meshes' materials.
+ * 
+ * @param <T> the type of {@link Model} */
+public abstract class ModelAssetLoader<T extends Model> extends AsynchronousAssetLoader<T, ModelAssetLoader.ModelParameter<T>> {
+	final Class<? extends ModelLoader> loaderType;
+	T model;
+
+	/** @param resolver the {@link FileHandleResolver}
+	 * @param loaderType the type of the {@link ModelLoader} instances to try, e.g. {@link StillModelLoader} */
+	public ModelAssetLoader (FileHandleResolver resolver, Class<? extends ModelLoader> loaderType) {
+		super(resolver);
+		this.loaderType = loaderType;
+	}
+
+	@Override
+	public Array<AssetDescriptor> getDependencies (String fileName, ModelParameter<T> parameter) {
+		if (parameter == null) return null;
+		Array<AssetDescriptor> deps = new Array<AssetDescriptor>();
+		if (parameter.texture != null) deps.add(new AssetDescriptor(parameter.texture, Texture.class, parameter.textureParameter));
+		if (parameter.subMeshTextures != null) {
+			for (String texture : parameter.subMeshTextures.values()) {
+				deps.add(new AssetDescriptor(texture, Texture.class, parameter.textureParameter));
+			}
+		}
+		return deps.size > 0 ? deps : null;
+	}
+
+	@Override
+	public void loadAsync (AssetManager manager, String fileName, ModelParameter<T> parameter) {
+		model = (T)ModelLoaderRegistry.loadVertexArrays(resolve(fileName), loaderType, parameter != null ? parameter.hints
+			: null);
+	}
+
+	@Override
+	public T loadSync (AssetManager manager, String fileName, ModelParameter<T> parameter) {
+		T model = this.model;
+		this.model = null;
+		createVertexBufferObjects(model);
+		if (parameter != null) setTextures(manager, model, parameter);
+		return model;
+	}
+
+	/** Replaces the vertex array backed meshes of the model with VBO backed meshes. Called on the rendering thread.
+	 * @param model the model */
+	protected abstract void createVertexBufferObjects (T model);
+
+	/** Copies the vertices and indices of a vertex array backed mesh to a new mesh and disposes the old one. Returns the mesh itself
+	 * if the new mesh would be vertex array backed as well, e.g. in case OpenGL ES 1.0 is used.
+	 * @param mesh the mesh created on the loader thread
+	 * @param isStatic whether the new mesh is static
+	 * @return the new mesh */
+	protected static Mesh createVertexBufferObject (Mesh mesh, boolean isStatic) {
+		if (Gdx.gl20 == null && Gdx.gl11 == null && !Mesh.forceVBO) return mesh;
+		Mesh vbo = new Mesh(isStatic, mesh.getMaxVertices(), mesh.getMaxIndices(), mesh.getVertexAttributes());
+		if (mesh.getNumVertices() > 0) {
+			float[] vertices = new float[mesh.getNumVertices() * mesh.getVertexSize() / 4];
+			mesh.getVertices(vertices);
+			vbo.setVertices(vertices);
+		}
+		if (mesh.getNumIndices() > 0) {
+			short[] indices = new short[mesh.getNumIndices()];
+			mesh.getIndices(indices);
+			vbo.setIndices(indices);
+		}
+		mesh.dispose();
+		return vbo;
+	}
+
+	private void setTextures (AssetManager manager, T model, ModelParameter<T> parameter) {
+		SubMesh[] subMeshes = model.getSubMeshes();
+		for (int i = 0; i < subMeshes.length; i++) {
+			SubMesh subMesh = subMeshes[i];
+			String texture = parameter.texture;
+			if (parameter.subMeshTextures != null && parameter.subMeshTextures.containsKey(subMesh.name))
+				texture = parameter.subMeshTextures.get(subMesh.name);
+			if (texture == null) continue;
+			String name = subMesh.material != null ? subMesh.material.name : "default";
+			subMesh.material = new Material(name, new TextureAttribute(manager.get(texture, Texture.class), 0,
+				TextureAttribute.diffuseTexture));
+		}
+	}
+
+	/** Parameter to be passed to {@link AssetManager#load(String, Class, AssetLoaderParameters)} to configure the loading of a
+	 * model.
+	 * 
+	 * @param <T> the type of {@link Model} */
+	static public class ModelParameter<T extends Model> extends AssetLoaderParameters<T> {
+		/** the {@link ModelLoaderHints} to use. If null, the default hints registered with the {@link ModelLoaderRegistry} are used.
+		 * {@link ModelLoaderHints#vertexArrays} will be set to true. **/
+		public ModelLoaderHints hints = null;
+		/** the file name of the diffuse texture of all sub-meshes, optional **/
+		public String texture = null;
+		/** the file names of the diffuse textures per sub-mesh name, overriding {@link #texture}, optional **/
+		public ObjectMap<String, String> subMeshTextures = null;
+		/** the parameter used to load the textures, optional **/
+		public TextureParameter textureParameter = null;
+	}
+}
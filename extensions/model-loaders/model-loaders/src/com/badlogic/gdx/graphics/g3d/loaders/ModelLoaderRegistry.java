@@ -18,6 +18,7 @@ package com.badlogic.gdx.graphics.g3d.loaders;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g3d.ModelLoaderHints;
 import com.badlogic.gdx.graphics.g3d.loaders.collada.ColladaLoader;
@@ -64,7 +65,7 @@ public class ModelLoaderRegistry {
 	 * @param extension the extension string, e.g. "dae" or "obj"
 	 * @param loader the {@link ModelLoader}
 	 * @param defaultHints the default {@link ModelLoaderHints} to be used with this loader. */
-	public static void registerLoader (String extension, ModelLoader loader, ModelLoaderHints defaultHints) {
+	public static synchronized void registerLoader (String extension, ModelLoader loader, ModelLoaderHints defaultHints) {
 		Array<ModelLoader> loaders = ModelLoaderRegistry.loaders.get(extension);
 		if (loaders == null) {
 			loaders = new Array<ModelLoader>();
@@ -381,4 +382,50 @@ public class ModelLoaderRegistry {
 		else
 			return model;
 	}
+
+	/** Loads the specified file with the registered loaders of the given type, creating meshes backed by vertex arrays so no
+	 * OpenGL context is needed, see {@link ModelLoaderHints#vertexArrays}. Used by {@link ModelAssetLoader} on the
+	 * {@link AssetManager} loader thread. Neither the given hints nor the default hints of the loaders are modified, a copy is
+	 * passed to each loader.
+	 * @param file the file to be loaded
+	 * @param loaderType the type of the loaders to try, e.g. {@link StillModelLoader}
+	 * @param hints the {@link ModelLoaderHints} to use or null to use the default hints of each loader
+	 * @return the {@link Model}
+	 * @throws GdxRuntimeException in case the model could not be loaded. */
+	static Model loadVertexArrays (FileHandle file, Class<? extends ModelLoader> loaderType, ModelLoaderHints hints) {
+		String name = file.name();
+		int dotIndex = name.lastIndexOf('.');
+		if (dotIndex == -1)
+			throw new GdxRuntimeException("file '" + file.name()
+				+ "' does not have an extension that can be matched to a ModelLoader");
+		String extension = name.substring(dotIndex + 1).toLowerCase();
+
+		Array<ModelLoader> loaders;
+		Array<ModelLoaderHints> defaultHints;
+		synchronized (ModelLoaderRegistry.class) {
+			loaders = ModelLoaderRegistry.loaders.get(extension);
+			defaultHints = ModelLoaderRegistry.defaultHints.get(extension);
+		}
+		if (loaders == null) throw new GdxRuntimeException("no loaders for extension '" + extension + "'");
+
+		Model model = null;
+		StringBuilder errors = new StringBuilder();
+		for (int i = 0; i < loaders.size && model == null; i++) {
+			ModelLoader loader = loaders.get(i);
+			if (!loaderType.isInstance(loader)) continue;
+			ModelLoaderHints hint = (hints != null ? hints : defaultHints.get(i)).copy();
+			hint.vertexArrays = true;
+			try {
+				model = loader.load(file, hint);
+			} catch (GdxRuntimeException e) {
+				errors.append("Couldn't load '" + file.name() + "' with loader of type " + loader.getClass().getSimpleName() + ": "
+					+ e.getMessage() + "\n");
+			}
+		}
+
+		if (model == null)
+			throw new GdxRuntimeException("Couldn't load model '" + file.name() + "', " + errors.toString());
+		else
+			return model;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.graphics.g3d.loaders;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.graphics.g3d.model.still.StillModel;
+import com.badlogic.gdx.graphics.g3d.model.still.StillSubMesh;
+
+/** {@link ModelAssetLoader} for {@link StillModel} instances, using the {@link StillModelLoader} instances registered with the
+ * {@link ModelLoaderRegistry}. Register it with {@link AssetManager#setLoader(Class, com.badlogic.gdx.assets.loaders.AssetLoader)}
+ * for the StillModel class. */
+public class StillModelAssetLoader extends ModelAssetLoader<StillModel> {
+	public StillModelAssetLoader (FileHandleResolver resolver) {
+		super(resolver, StillModelLoader.class);
+	}
+
+	@Override
+	protected void createVertexBufferObjects (StillModel model) {
+		for (int i = 0; i < model.subMeshes.length; i++) {
+			StillSubMesh subMesh = model.subMeshes[i];
+			StillSubMesh vboSubMesh = new StillSubMesh(subMesh.name, createVertexBufferObject(subMesh.mesh, true),
+				subMesh.primitiveType);
+			vboSubMesh.material = subMesh.material;
+			model.subMeshes[i] = vboSubMesh;
+		}
+	}
+}
@@ -15,6 +15,7 @@
  ******************************************************************************/
 package com.badlogic.gdx.graphics.g3d.loaders.collada;
 
+import java.io.IOException;
 import java.io.InputStream;
 
 import com.badlogic.gdx.files.FileHandle;
@@ -31,10 +32,27 @@ import com.badlogic.gdx.utils.XmlReader.Element;
 
 public class ColladaLoader implements StillModelLoader {
 	public static StillModel loadStillModel (FileHandle handle) {
-		return loadStillModel(handle.read());
+		return loadStillModel(handle, new ModelLoaderHints(false));
+	}
+
+	static StillModel loadStillModel (FileHandle handle, ModelLoaderHints hints) {
+		InputStream in = null;
+		try {
+			in = handle.read();
+			return loadStillModel(in, hints);
+		} finally {
+			if (in != null) try {
+				in.close();
+			} catch (IOException e) {
+			}
+		}
 	}
 
 	public static StillModel loadStillModel (InputStream in) {
+		return loadStillModel(in, new ModelLoaderHints(false));
+	}
+
+	public static StillModel loadStillModel (InputStream in, ModelLoaderHints hints) {
 		XmlReader xml = new XmlReader();
 		Element root = null;
 		try {
@@ -47,7 +65,7 @@ public class ColladaLoader implements StillModelLoader {
 		Array<Geometry> geos = readGeometries(root);
 
 		// convert geometries to meshes
-		StillSubMesh[] meshes = createMeshes(geos);
+		StillSubMesh[] meshes = createMeshes(geos, hints);
 
 		// create StillModel
 		StillModel model = new StillModel(meshes);
@@ -77,19 +95,20 @@ public class ColladaLoader implements StillModelLoader {
 		return geometries;
 	}
 
-	private static StillSubMesh[] createMeshes (Array<Geometry> geos) {
+	private static StillSubMesh[] createMeshes (Array<Geometry> geos, ModelLoaderHints hints) {
 		StillSubMesh[] meshes = new StillSubMesh[geos.size];
 		for (int i = 0; i < geos.size; i++) {
-			StillSubMesh subMesh = new StillSubMesh(geos.get(i).id, geos.get(i).getMesh(), GL10.GL_TRIANGLES);
+			StillSubMesh subMesh = new StillSubMesh(geos.get(i).id, geos.get(i).getMesh(hints), GL10.GL_TRIANGLES);
 			subMesh.material = new Material("Null Material");
 			meshes[i] = subMesh;
 		}
 		return meshes;
 	}
 
-	/** Loads all the meshes in a Collada file, does not interpret the visual_scene tag! Hints are ignored. */
+	/** Loads all the meshes in a Collada file, does not interpret the visual_scene tag! Hints are ignored except for
+	 * {@link ModelLoaderHints#vertexArrays}. */
 	@Override
 	public StillModel load (FileHandle handle, ModelLoaderHints hints) {
-		return loadStillModel(handle);
+		return loadStillModel(handle, hints);
 	}
 }
\ No newline at end of file
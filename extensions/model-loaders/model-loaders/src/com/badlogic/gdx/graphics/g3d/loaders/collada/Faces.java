@@ -23,6 +23,7 @@ import com.badlogic.gdx.graphics.GL10;
 import com.badlogic.gdx.graphics.Mesh;
 import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g3d.ModelLoaderHints;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
@@ -158,6 +159,10 @@ public class Faces {
 	}
 
 	public Mesh getMesh () {
+		return getMesh(new ModelLoaderHints(false));
+	}
+
+	public Mesh getMesh (ModelLoaderHints hints) {
 		float[] verts = new float[getVertexSize() * numVertices];
 		short[] indices = new short[numIndices];
 		VertexAttribute[] attributes = getVertexAttributes();
@@ -192,7 +197,7 @@ public class Faces {
 			}
 		}
 
-		Mesh mesh = new Mesh(true, vertices.size, indices.length, attributes);
+		Mesh mesh = hints.newMesh(true, vertices.size, indices.length, attributes);
 		mesh.setVertices(verts);
 		mesh.setIndices(indices);
 		return mesh;
@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.g3d.ModelLoaderHints;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.XmlReader.Element;
@@ -68,4 +69,8 @@ public class Geometry {
 	public Mesh getMesh () {
 		return faces.getMesh();
 	}
+
+	public Mesh getMesh (ModelLoaderHints hints) {
+		return faces.getMesh(hints);
+	}
 }
\ No newline at end of file
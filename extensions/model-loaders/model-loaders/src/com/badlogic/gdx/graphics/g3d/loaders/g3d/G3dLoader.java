@@ -38,6 +38,10 @@ import com.badlogic.gdx.utils.ObjectMap;
 
 public class G3dLoader {
 	public static StillModel loadStillModel (FileHandle handle) {
+		return loadStillModel(handle, new ModelLoaderHints(false));
+	}
+
+	public static StillModel loadStillModel (FileHandle handle, ModelLoaderHints hints) {
 		Chunk root = null;
 		InputStream in = null;
 		try {
@@ -96,7 +100,7 @@ public class G3dLoader {
 				int numIndices = indices.readInt();
 				short[] indexData = indices.readShorts();
 
-				StillSubMesh mesh = new StillSubMesh(name, new Mesh(true, numVertices, numIndices, vertAttribs), primitiveType);
+				StillSubMesh mesh = new StillSubMesh(name, hints.newMesh(true, numVertices, numIndices, vertAttribs), primitiveType);
 				mesh.mesh.setVertices(vertexData);
 				mesh.mesh.setIndices(indexData);
 				mesh.material = new Material("default");
@@ -117,6 +121,10 @@ public class G3dLoader {
 	}
 
 	public static KeyframedModel loadKeyframedModel (FileHandle handle) {
+		return loadKeyframedModel(handle, new ModelLoaderHints(false));
+	}
+
+	public static KeyframedModel loadKeyframedModel (FileHandle handle, ModelLoaderHints hints) {
 		Chunk root = null;
 		InputStream in = null;
 		try {
@@ -207,7 +215,7 @@ public class G3dLoader {
 					animations.put(animationName, new KeyframedAnimation(animationName, frameDuration, keyframes));
 				}
 
-				Mesh mesh = new Mesh(false, numVertices, numIndices, vertAttribs);
+				Mesh mesh = hints.newMesh(false, numVertices, numIndices, vertAttribs);
 				meshes[i] = new KeyframedSubMesh(meshName, mesh, vertexData, animations, animatedComponents, primitiveType);
 				mesh.setVertices(vertexData);
 				mesh.setIndices(indexData);
@@ -229,14 +237,14 @@ public class G3dLoader {
 	public static class G3dStillModelLoader implements StillModelLoader {
 		@Override
 		public StillModel load (FileHandle handle, ModelLoaderHints hints) {
-			return G3dLoader.loadStillModel(handle);
+			return G3dLoader.loadStillModel(handle, hints);
 		}
 	}
 
 	public static class G3dKeyframedModelLoader implements KeyframedModelLoader {
 		@Override
 		public KeyframedModel load (FileHandle handle, ModelLoaderHints hints) {
-			return G3dLoader.loadKeyframedModel(handle);
+			return G3dLoader.loadKeyframedModel(handle, hints);
 		}
 	}
 }
\ No newline at end of file
@@ -53,10 +53,22 @@ public class G3dtLoader {
 		return loadStillModel(handle.read(), flipV);
 	}
 
+	public static KeyframedModel loadKeyframedModel (FileHandle handle, ModelLoaderHints hints) {
+		return loadKeyframedModel(handle.read(), hints);
+	}
+
+	public static StillModel loadStillModel (FileHandle handle, ModelLoaderHints hints) {
+		return loadStillModel(handle.read(), hints);
+	}
+
 	static int lineNum = 0;
 	static String line = null;
 
 	public static StillModel loadStillModel (InputStream stream, boolean flipV) {
+		return loadStillModel(stream, new ModelLoaderHints(flipV));
+	}
+
+	public static StillModel loadStillModel (InputStream stream, ModelLoaderHints hints) {
 		BufferedReader in = new BufferedReader(new InputStreamReader(stream));
 
 		lineNum = 1;
@@ -66,7 +78,7 @@ public class G3dtLoader {
 			int numMeshes = readInt(in);
 			StillSubMesh[] subMeshes = new StillSubMesh[numMeshes];
 			for (int i = 0; i < numMeshes; i++) {
-				subMeshes[i] = readStillSubMesh(in, flipV);
+				subMeshes[i] = readStillSubMesh(in, hints);
 			}
 			StillModel model = new StillModel(subMeshes);
 			return model;
@@ -76,7 +88,8 @@ public class G3dtLoader {
 		}
 	}
 
-	private static StillSubMesh readStillSubMesh (BufferedReader in, boolean flipV) throws IOException {
+	private static StillSubMesh readStillSubMesh (BufferedReader in, ModelLoaderHints hints) throws IOException {
+		final boolean flipV = hints.flipV;
 		String name = readString(in);
 		IntArray indices = readFaces(in);
 		int numVertices = readInt(in);
@@ -114,13 +127,17 @@ public class G3dtLoader {
 			idx += vertexSize;
 		}
 
-		Mesh mesh = new Mesh(true, numVertices, indices.size, vertexAttributes);
+		Mesh mesh = hints.newMesh(true, numVertices, indices.size, vertexAttributes);
 		mesh.setVertices(vertices);
 		mesh.setIndices(convertToShortArray(indices));
 		return new StillSubMesh(name, mesh, GL10.GL_TRIANGLES);
 	}
 
 	public static KeyframedModel loadKeyframedModel (InputStream stream, boolean flipV) {
+		return loadKeyframedModel(stream, new ModelLoaderHints(flipV));
+	}
+
+	public static KeyframedModel loadKeyframedModel (InputStream stream, ModelLoaderHints hints) {
 		BufferedReader in = new BufferedReader(new InputStreamReader(stream));
 
 		lineNum = 1;
@@ -130,7 +147,7 @@ public class G3dtLoader {
 			int numMeshes = readInt(in);
 			KeyframedSubMesh[] subMeshes = new KeyframedSubMesh[numMeshes];
 			for (int i = 0; i < numMeshes; i++) {
-				subMeshes[i] = readMesh(in, flipV);
+				subMeshes[i] = readMesh(in, hints);
 			}
 			KeyframedModel model = new KeyframedModel(subMeshes);
 			model.setAnimation(model.getAnimations()[0].name, 0, false);
@@ -141,7 +158,8 @@ public class G3dtLoader {
 		}
 	}
 
-	private static KeyframedSubMesh readMesh (BufferedReader in, boolean flipV) throws IOException {
+	private static KeyframedSubMesh readMesh (BufferedReader in, ModelLoaderHints hints) throws IOException {
+		final boolean flipV = hints.flipV;
 		String name = readString(in);
 		IntArray indices = readFaces(in);
 		int numVertices = readInt(in);
@@ -193,7 +211,7 @@ public class G3dtLoader {
 			animations.put(animationName, animation);
 		}
 
-		KeyframedSubMesh mesh = new KeyframedSubMesh(name, new Mesh(false, numVertices, indices.size, createVertexAttributes(
+		KeyframedSubMesh mesh = new KeyframedSubMesh(name, hints.newMesh(false, numVertices, indices.size, createVertexAttributes(
 			hasNormals, uvSets.size)), buildVertices(numVertices, hasNormals, uvSets), animations, animatedComponents,
 			GL10.GL_TRIANGLES);
 		mesh.mesh.setIndices(convertToShortArray(indices));
@@ -330,14 +348,14 @@ public class G3dtLoader {
 
 		@Override
 		public StillModel load (FileHandle handle, ModelLoaderHints hints) {
-			return G3dtLoader.loadStillModel(handle, hints.flipV);
+			return G3dtLoader.loadStillModel(handle, hints);
 		}
 	}
 
 	public static class G3dtKeyframedModelLoader implements KeyframedModelLoader {
 		@Override
 		public KeyframedModel load (FileHandle handle, ModelLoaderHints hints) {
-			return G3dtLoader.loadKeyframedModel(handle, hints.flipV);
+			return G3dtLoader.loadKeyframedModel(handle, hints);
 		}
 	}
 }
\ No newline at end of file
@@ -43,13 +43,17 @@ public class MD2Loader implements KeyframedModelLoader {
 		if (hints instanceof MD2LoaderHints) {
 			frameDuration = ((MD2LoaderHints)hints).frameDuration;
 		}
-		return load(file, frameDuration);
+		return load(file, frameDuration, hints);
 	}
 
 	public KeyframedModel load (FileHandle fileHandle, float frameDuration) {
+		return load(fileHandle, frameDuration, new ModelLoaderHints(false));
+	}
+
+	private KeyframedModel load (FileHandle fileHandle, float frameDuration, ModelLoaderHints hints) {
 		InputStream in = fileHandle.read();
 		try {
-			return load(in, frameDuration);
+			return load(in, frameDuration, hints);
 		} finally {
 			if (in != null) try {
 				in.close();
@@ -60,6 +64,10 @@ public class MD2Loader implements KeyframedModelLoader {
 	}
 
 	public KeyframedModel load (InputStream in, float frameDuration) {
+		return load(in, frameDuration, new ModelLoaderHints(false));
+	}
+
+	private KeyframedModel load (InputStream in, float frameDuration, ModelLoaderHints hints) {
 		try {
 			byte[] bytes = loadBytes(in);
 
@@ -68,7 +76,7 @@ public class MD2Loader implements KeyframedModelLoader {
 			MD2Triangle[] triangles = loadTriangles(header, bytes);
 			MD2Frame[] frames = loadFrames(header, bytes);
 
-			return buildModel(header, triangles, texCoords, frames, frameDuration);
+			return buildModel(header, triangles, texCoords, frames, frameDuration, hints);
 		} catch (Exception ex) {
 			ex.printStackTrace();
 			return null;
@@ -76,7 +84,7 @@ public class MD2Loader implements KeyframedModelLoader {
 	}
 
 	private KeyframedModel buildModel (MD2Header header, MD2Triangle[] triangles, float[] texCoords, MD2Frame[] frames,
-		float frameDuration) {
+		float frameDuration, ModelLoaderHints hints) {
 		ArrayList<VertexIndices> vertCombos = new ArrayList<VertexIndices>();
 		short[] indices = new short[triangles.length * 3];
 		int idx = 0;
@@ -206,7 +214,7 @@ public class MD2Loader implements KeyframedModelLoader {
 			animation.keyframes[frameNum] = keyFrame;
 		}
 
-		Mesh mesh = new Mesh(false, header.numVertices, indices.length, new VertexAttribute(Usage.Position, 3,
+		Mesh mesh = hints.newMesh(false, header.numVertices, indices.length, new VertexAttribute(Usage.Position, 3,
 			ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(Usage.Normal, 3, ShaderProgram.NORMAL_ATTRIBUTE),
 			new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
 		mesh.setIndices(indices);
@@ -415,5 +423,12 @@ public class MD2Loader implements KeyframedModelLoader {
 			super(false);
 			this.frameDuration = frameDuration;
 		}
+
+		@Override
+		public ModelLoaderHints copy () {
+			MD2LoaderHints hints = new MD2LoaderHints(frameDuration);
+			hints.vertexArrays = vertexArrays;
+			return hints;
+		}
 	}
 }
\ No newline at end of file
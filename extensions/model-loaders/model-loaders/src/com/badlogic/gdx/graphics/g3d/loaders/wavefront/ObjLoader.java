@@ -62,6 +62,15 @@ public class ObjLoader implements StillModelLoader {
 	 * @param file the FileHandle
 	 * @param flipV whether to flip the v texture coordinate (Blender, Wings3D, et al) */
 	public StillModel loadObj (FileHandle file, boolean flipV) {
+		return loadObj(file, new ModelLoaderHints(flipV));
+	}
+
+	/** Loads a Wavefront OBJ file from a given file handle.
+	 * 
+	 * @param file the FileHandle
+	 * @param hints the {@link ModelLoaderHints} to use */
+	public StillModel loadObj (FileHandle file, ModelLoaderHints hints) {
+		final boolean flipV = hints.flipV;
 		String line;
 		String[] tokens;
 		char firstChar;
@@ -193,7 +202,7 @@ public class ObjLoader implements StillModelLoader {
 			if (hasNorms) attributes.add(new VertexAttribute(Usage.Normal, 3, ShaderProgram.NORMAL_ATTRIBUTE));
 			if (hasUVs) attributes.add(new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
 
-			mesh = new Mesh(true, numFaces * 3, numIndices, attributes.toArray(new VertexAttribute[attributes.size()]));
+			mesh = hints.newMesh(true, numFaces * 3, numIndices, attributes.toArray(new VertexAttribute[attributes.size()]));
 			mesh.setVertices(finalVerts);
 			if (numIndices > 0) mesh.setIndices(finalIndices);
 
@@ -253,6 +262,6 @@ public class ObjLoader implements StillModelLoader {
 
 	@Override
 	public StillModel load (FileHandle handle, ModelLoaderHints hints) {
-		return loadObj(handle, hints.flipV);
+		return loadObj(handle, hints);
 	}
 }
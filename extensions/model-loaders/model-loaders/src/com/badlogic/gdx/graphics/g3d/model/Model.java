@@ -18,8 +18,9 @@ package com.badlogic.gdx.graphics.g3d.model;
 import com.badlogic.gdx.graphics.g3d.materials.Material;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Disposable;
 
-public interface Model {
+public interface Model extends Disposable {
 	public void render ();
 
 	public void render (ShaderProgram program);
@@ -22,7 +22,6 @@ import com.badlogic.gdx.math.collision.BoundingBox;
 import com.badlogic.gdx.utils.ObjectMap;
 
 public class KeyframedSubMesh extends SubMesh {
-	public final String name;
 	public final Mesh mesh;
 	public final float[] blendedVertices;
 	public final int animatedComponents;
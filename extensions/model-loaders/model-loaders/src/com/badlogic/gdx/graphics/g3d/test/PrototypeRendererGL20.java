@@ -8,6 +8,8 @@ import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.GL10;
 import com.badlogic.gdx.graphics.g3d.AnimatedModelInstance;
 import com.badlogic.gdx.graphics.g3d.ModelRenderer;
+import com.badlogic.gdx.graphics.g3d.RenderQueue;
+import com.badlogic.gdx.graphics.g3d.RenderQueue.RenderItem;
 import com.badlogic.gdx.graphics.g3d.StillModelInstance;
 import com.badlogic.gdx.graphics.g3d.experimental.MaterialShaderHandler;
 import com.badlogic.gdx.graphics.g3d.lights.LightManager;
@@ -17,16 +19,10 @@ import com.badlogic.gdx.graphics.g3d.materials.Material;
 import com.badlogic.gdx.graphics.g3d.materials.MaterialAttribute;
 import com.badlogic.gdx.graphics.g3d.materials.TextureAttribute;
 import com.badlogic.gdx.graphics.g3d.model.AnimatedModel;
-import com.badlogic.gdx.graphics.g3d.model.Model;
-import com.badlogic.gdx.graphics.g3d.model.SubMesh;
 import com.badlogic.gdx.graphics.g3d.model.skeleton.SkeletonSubMesh;
 import com.badlogic.gdx.graphics.g3d.model.still.StillModel;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.Matrix3;
-import com.badlogic.gdx.math.Matrix4;
-import com.badlogic.gdx.math.Vector3;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Pool;
 
 //stuff that happens
 //0. render begin
@@ -41,10 +37,8 @@ import com.badlogic.gdx.utils.Pool;
 //7. tranparency
 
 public class PrototypeRendererGL20 implements ModelRenderer {
-
-	static final int SIZE = 256;// TODO better way
-	final private Array<Model> modelQueue = new Array<Model>(false, SIZE);
-	final private Array<StillModelInstance> modelInstances = new Array<StillModelInstance>(false, SIZE);
+	/** culls and sorts the instances drawn between {@link #begin()} and {@link #end()}, also holds the culling statistics **/
+	final public RenderQueue renderQueue = new RenderQueue();
 
 	final private MaterialShaderHandler materialShaderHandler;
 	private LightManager lightManager;
@@ -63,22 +57,18 @@ public class PrototypeRendererGL20 implements ModelRenderer {
 		drawing = true;
 		// all setting has to be done before this
 		// example: camera updating or updating lights positions
+		renderQueue.begin(cam);
 	}
 
 	@Override
 	public void draw (StillModel model, StillModelInstance instance) {
-		if (cam != null) if (!cam.frustum.sphereInFrustum(instance.getSortCenter(), instance.getBoundingSphereRadius())) return;
-		modelQueue.add(model);
-		modelInstances.add(instance);
+		renderQueue.add(model, instance);
 	}
 
 	@Override
 	public void draw (AnimatedModel model, AnimatedModelInstance instance) {
-		if (cam != null) if (!cam.frustum.sphereInFrustum(instance.getSortCenter(), instance.getBoundingSphereRadius())) return;
+		if (!renderQueue.add(model, instance)) return;
 		model.setAnimation(instance.getAnimation(), instance.getAnimationTime(), instance.isLooping());
-		// move skinned models to drawing list
-		modelQueue.add(model);
-		modelInstances.add(instance);
 	}
 
 	@Override
@@ -88,79 +78,73 @@ public class PrototypeRendererGL20 implements ModelRenderer {
 		else {
 			// TODO fixed pipeline
 		}
+		renderQueue.end();
 	}
 
 	private ShaderProgram currentShader;
 	final private TextureAttribute lastTexture[] = new TextureAttribute[TextureAttribute.MAX_TEXTURE_UNITS];
 
 	private void flush () {
-		Material currentMaterial = null;
-		// find N nearest lights per model
-		// draw all models from opaque queue
-		for (int i = 0; i < modelQueue.size; i++) {
-			final StillModelInstance instance = modelInstances.get(i);
-			final Vector3 center = instance.getSortCenter();
-			lightManager.calculateLights(center.x, center.y, center.z);
-			final Matrix4 modelMatrix = instance.getTransform();
-			normalMatrix.set(modelMatrix);
-
-			final SubMesh subMeshes[] = modelQueue.get(i).getSubMeshes();
-			final Material materials[] = instance.getMaterials();
-
-			boolean matrixChanged = true;
-			for (int j = 0; j < subMeshes.length; j++) {
-
-				final SubMesh subMesh = subMeshes[j];
-				final Material material = materials != null ? materials[j] : subMesh.material;
-
-				if (material.needBlending) {
-					addTranparentQueu(material, subMesh, modelMatrix, center);
+		// shaders are needed to sort the opaque queue by them
+		for (int i = 0; i < renderQueue.opaque.size; i++) {
+			final Material material = renderQueue.opaque.get(i).material;
+			if (material.shader == null) material.shader = materialShaderHandler.getShader(material);
+		}
+		renderQueue.sort();
 
-					continue;
-				}
+		Material currentMaterial = null;
+		StillModelInstance currentInstance = null;
+		// draw all sub-meshes from opaque queue, sorted by shader, material and front to back
+		for (int i = 0; i < renderQueue.opaque.size; i++) {
+			final RenderItem item = renderQueue.opaque.get(i);
+			final Material material = item.material;
+
+			// find N nearest lights per model
+			final boolean instanceChanged = item.instance != currentInstance;
+			if (instanceChanged) {
+				currentInstance = item.instance;
+				lightManager.calculateLights(item.center.x, item.center.y, item.center.z);
+				normalMatrix.set(item.instance.getTransform());
+			}
 
-				// bind new shader if material can't use old one
-				final boolean shaderChanged = bindShader(material);
+			// bind new shader if material can't use old one
+			final boolean shaderChanged = bindShader(material);
 
-				// if shaderChanged can't batch material
-				if (shaderChanged) currentMaterial = null;
+			// if shaderChanged can't batch material
+			if (shaderChanged) currentMaterial = null;
 
-				// if shaderChanged can't batch material
-				if (shaderChanged || matrixChanged) {
-					currentShader.setUniformMatrix("u_normalMatrix", normalMatrix, false);
-					currentShader.setUniformMatrix("u_modelMatrix", modelMatrix, false);
-					matrixChanged = false;
-				}
-				if ((material != null) && (material != currentMaterial)) {
-					currentMaterial = material;
-					for (int k = 0, len = currentMaterial.attributes.length; k < len; k++) {
-						final MaterialAttribute atrib = currentMaterial.attributes[k];
+			if (shaderChanged || instanceChanged) {
+				if (!shaderChanged) lightManager.applyLights(currentShader);
+				currentShader.setUniformMatrix("u_normalMatrix", normalMatrix, false);
+				currentShader.setUniformMatrix("u_modelMatrix", item.instance.getTransform(), false);
+			}
+			if ((material != null) && (material != currentMaterial)) {
+				currentMaterial = material;
+				for (int k = 0, len = currentMaterial.attributes.length; k < len; k++) {
+					final MaterialAttribute atrib = currentMaterial.attributes[k];
 
-						// special case for textures. really important to batch these
-						if (atrib instanceof TextureAttribute) {
-							final TextureAttribute texAtrib = (TextureAttribute)atrib;
-							if (!texAtrib.texturePortionEquals(lastTexture[texAtrib.unit])) {
-								lastTexture[texAtrib.unit] = texAtrib;
-								texAtrib.bind(currentShader);
-							} else {
-								// need to be done, shader textureAtribute name could be changed.
-								currentShader.setUniformi(texAtrib.name, texAtrib.unit);
-							}
+					// special case for textures. really important to batch these
+					if (atrib instanceof TextureAttribute) {
+						final TextureAttribute texAtrib = (TextureAttribute)atrib;
+						if (!texAtrib.texturePortionEquals(lastTexture[texAtrib.unit])) {
+							lastTexture[texAtrib.unit] = texAtrib;
+							texAtrib.bind(currentShader);
 						} else {
-							atrib.bind(currentShader);
+							// need to be done, shader textureAtribute name could be changed.
+							currentShader.setUniformi(texAtrib.name, texAtrib.unit);
 						}
+					} else {
+						atrib.bind(currentShader);
 					}
 				}
-				// finally render current submesh
-				subMesh.getMesh().render(currentShader, subMesh.primitiveType);
 			}
+			// finally render current submesh
+			item.subMesh.getMesh().render(currentShader, item.subMesh.primitiveType);
 		}
-		modelQueue.clear();
-		modelInstances.clear();
 
 		// if transparent queue is not empty enable blending(this force gpu to
 		// flush and there is some time to sort)
-		if (blendQueue.size > 0) renderBlended();
+		if (renderQueue.blended.size > 0) renderBlended();
 
 		// cleaning
 
@@ -170,7 +154,6 @@ public class PrototypeRendererGL20 implements ModelRenderer {
 		}
 		for (int i = 0, len = TextureAttribute.MAX_TEXTURE_UNITS; i < len; i++)
 			lastTexture[i] = null;
-		// clear all queus
 
 		drawing = false;
 	}
@@ -197,61 +180,34 @@ public class PrototypeRendererGL20 implements ModelRenderer {
 		materialShaderHandler.dispose();
 	}
 
-	class BlendedMesh implements Comparable {
-		public static final int PRIORITY_DISCRETE_STEPS = 256;
-		public Material material;
-		public SubMesh subMesh;
-		public Matrix4 modelMatrix;
-		public Vector3 center;
-		public int distance;
-
-		public BlendedMesh (Material material, SubMesh subMesh, Matrix4 modelMatrix, Vector3 center) {
-			this.material = material;
-			this.subMesh = subMesh;
-			this.modelMatrix = modelMatrix;
-			this.center = center;
-			distance = (int)(PRIORITY_DISCRETE_STEPS * center.dst(cam.position));
-		}
-
-		@Override
-		public int compareTo (Object other) {
-			return ((BlendedMesh)other).distance - this.distance;
-		}
-	}
-
-	final private Array<BlendedMesh> blendQueue = new Array<BlendedMesh>(true, 64);
-
-	private void addTranparentQueu (Material material, SubMesh subMesh, Matrix4 modelMatrix, Vector3 center) {
-		// FIX ME add pooling
-		blendQueue.add(new BlendedMesh(material, subMesh, modelMatrix, center));
-	}
-
 	private void renderBlended () {
 		Gdx.gl.glEnable(GL10.GL_BLEND);
 		Gdx.gl.glDepthMask(false);
-		blendQueue.sort();
 
 		Material currentMaterial = null;
 		// find N nearest lights per model
-		// draw all models from opaque queue
+		// draw all sub-meshes from blended queue, sorted back to front
 
 		int lastSrcBlend = -1;
 		int lastDstBlend = -1;
 
-		for (int i = 0; i < blendQueue.size; i++) {
-			final BlendedMesh instance = blendQueue.get(i);
-			final Material material = instance.material;
-			lightManager.calculateLights(instance.center.x, instance.center.y, instance.center.z);
-			normalMatrix.set(instance.modelMatrix);
+		for (int i = 0; i < renderQueue.blended.size; i++) {
+			final RenderItem item = renderQueue.blended.get(i);
+			final Material material = item.material;
+			lightManager.calculateLights(item.center.x, item.center.y, item.center.z);
+			normalMatrix.set(item.instance.getTransform());
 
 			// bind new shader if material can't use old one
 			final boolean shaderChanged = bindShader(material);
 			// if shaderChanged can't batch material
-			if (shaderChanged) currentMaterial = null;
+			if (shaderChanged)
+				currentMaterial = null;
+			else
+				lightManager.applyLights(currentShader);
 
 			// if shaderChanged can't batch material
 			currentShader.setUniformMatrix("u_normalMatrix", normalMatrix, false);
-			currentShader.setUniformMatrix("u_modelMatrix", instance.modelMatrix, false);
+			currentShader.setUniformMatrix("u_modelMatrix", item.instance.getTransform(), false);
 
 			if ((material != null) && (material != currentMaterial)) {
 				currentMaterial = material;
@@ -282,11 +238,10 @@ public class PrototypeRendererGL20 implements ModelRenderer {
 				}
 			}
 			// finally render current submesh
-			instance.subMesh.getMesh().render(currentShader, instance.subMesh.primitiveType);
+			item.subMesh.getMesh().render(currentShader, item.subMesh.primitiveType);
 		}
 
 		Gdx.gl.glDepthMask(true);
 		Gdx.gl.glDisable(GL10.GL_BLEND);
-		blendQueue.clear();
 	}
 }
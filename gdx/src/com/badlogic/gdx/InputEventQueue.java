@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/** An {@link InputProcessor} that queues input events and passes them to another processor when {@link #drain()} is called, eg
+ * once per frame. Consecutive {@link #touchDragged(int, int, int) drag} events for a pointer and consecutive
+ * {@link #touchMoved(int, int) move} events are coalesced into one event with the latest position, so a processor such as a
+ * {@link com.badlogic.gdx.scenes.scene2d.Stage Stage} hit tests at most once per pointer per frame no matter how many events the
+ * device produces. Events are only coalesced until an event of another kind is queued, so the order relative to touch down, touch
+ * up, key and scroll events is kept.
+ * <p>
+ * Queued events are reported as handled. When used with an {@link InputMultiplexer}, processors that need the events that were
+ * not handled by the queued processor should be added before the queue.
+ * <p>
+ * Events must be queued and drained on the same thread, which is the rendering thread for all backends. */
+public class InputEventQueue implements InputProcessor {
+	static private final int KEY_DOWN = 0;
+	static private final int KEY_UP = 1;
+	static private final int KEY_TYPED = 2;
+	static private final int TOUCH_DOWN = 3;
+	static private final int TOUCH_UP = 4;
+	static private final int TOUCH_DRAGGED = 5;
+	static private final int TOUCH_MOVED = 6;
+	static private final int SCROLLED = 7;
+
+	/** The number of ints stored per event: the type and up to four arguments. */
+	static private final int EVENT_SIZE = 5;
+	static private final int MAX_POINTERS = 20;
+
+	private InputProcessor processor;
+	private IntArray queue = new IntArray(EVENT_SIZE * 64);
+	private IntArray processing = new IntArray(EVENT_SIZE * 64);
+	/** The queue index of the drag event for each pointer that can still be coalesced, or -1. */
+	private final int[] dragIndex = new int[MAX_POINTERS];
+	private int moveIndex = -1;
+
+	/** The number of events received, and the number passed to the processor. Their difference is the number of coalesced
+	 * events. */
+	public int rawEvents, dispatchedEvents;
+
+	public InputEventQueue () {
+		Arrays.fill(dragIndex, -1);
+	}
+
+	public InputEventQueue (InputProcessor processor) {
+		this();
+		this.processor = processor;
+	}
+
+	public void setProcessor (InputProcessor processor) {
+		this.processor = processor;
+	}
+
+	public InputProcessor getProcessor () {
+		return processor;
+	}
+
+	/** Passes the queued events to the processor, in the order they were received, and clears the queue. Events queued while
+	 * draining are kept for the next call. Does nothing if there is no processor. */
+	public void drain () {
+		if (processor == null) return;
+		IntArray events = queue;
+		if (events.size == 0) return;
+		queue = processing;
+		processing = events;
+		endCoalescing();
+
+		InputProcessor processor = this.processor;
+		int[] items = events.items;
+		for (int i = 0, n = events.size; i < n; i += EVENT_SIZE) {
+			switch (items[i]) {
+			case KEY_DOWN:
+				processor.keyDown(items[i + 1]);
+				break;
+			case KEY_UP:
+				processor.keyUp(items[i + 1]);
+				break;
+			case KEY_TYPED:
+				processor.keyTyped((char)items[i + 1]);
+				break;
+			case TOUCH_DOWN:
+				processor.touchDown(items[i + 1], items[i + 2], items[i + 3], items[i + 4]);
+				break;
+			case TOUCH_UP:
+				processor.touchUp(items[i + 1], items[i + 2], items[i + 3], items[i + 4]);
+				break;
+			case TOUCH_DRAGGED:
+				processor.touchDragged(items[i + 1], items[i + 2], items[i + 3]);
+				break;
+			case TOUCH_MOVED:
+				processor.touchMoved(items[i + 1], items[i + 2]);
+				break;
+			case SCROLLED:
+				processor.scrolled(items[i + 1]);
+				break;
+			}
+			dispatchedEvents++;
+		}
+		events.clear();
+	}
+
+	/** Discards the queued events. */
+	public void clear () {
+		queue.clear();
+		endCoalescing();
+	}
+
+	/** Returns the number of events waiting to be drained. */
+	public int size () {
+		return queue.size / EVENT_SIZE;
+	}
+
+	public void resetCounters () {
+		rawEvents = 0;
+		dispatchedEvents = 0;
+	}
+
+	private void endCoalescing () {
+		Arrays.fill(dragIndex, -1);
+		moveIndex = -1;
+	}
+
+	/** Queues an event that is never coalesced and ends coalescing of the queued move and drag events. */
+	private int add (int type, int a, int b, int c, int d) {
+		endCoalescing();
+		return queue(type, a, b, c, d);
+	}
+
+	private int queue (int type, int a, int b, int c, int d) {
+		rawEvents++;
+		IntArray queue = this.queue;
+		int index = queue.size;
+		queue.add(type);
+		queue.add(a);
+		queue.add(b);
+		queue.add(c);
+		queue.add(d);
+		return index;
+	}
+
+	public boolean keyDown (int keycode) {
+		add(KEY_DOWN, keycode, 0, 0, 0);
+		return true;
+	}
+
+	public boolean keyUp (int keycode) {
+		add(KEY_UP, keycode, 0, 0, 0);
+		return true;
+	}
+
+	public boolean keyTyped (char character) {
+		add(KEY_TYPED, character, 0, 0, 0);
+		return true;
+	}
+
+	public boolean touchDown (int x, int y, int pointer, int button) {
+		add(TOUCH_DOWN, x, y, pointer, button);
+		return true;
+	}
+
+	public boolean touchUp (int x, int y, int pointer, int button) {
+		add(TOUCH_UP, x, y, pointer, button);
+		return true;
+	}
+
+	public boolean touchDragged (int x, int y, int pointer) {
+		if (pointer < 0 || pointer >= MAX_POINTERS) {
+			add(TOUCH_DRAGGED, x, y, pointer, 0);
+			return true;
+		}
+		int index = dragIndex[pointer];
+		if (index != -1) {
+			rawEvents++;
+			queue.items[index + 1] = x;
+			queue.items[index + 2] = y;
+		} else
+			dragIndex[pointer] = queue(TOUCH_DRAGGED, x, y, pointer, 0);
+		return true;
+	}
+
+	public boolean touchMoved (int x, int y) {
+		if (moveIndex != -1) {
+			rawEvents++;
+			queue.items[moveIndex + 1] = x;
+			queue.items[moveIndex + 2] = y;
+		} else
+			moveIndex = queue(TOUCH_MOVED, x, y, 0, 0);
+		return true;
+	}
+
+	public boolean scrolled (int amount) {
+		add(SCROLLED, amount, 0, 0, 0);
+		return true;
+	}
+}
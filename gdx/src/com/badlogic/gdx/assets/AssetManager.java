@@ -36,6 +36,7 @@ import com.badlogic.gdx.assets.loaders.TileMapRendererLoader;
 import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.GLMemoryTracker;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
@@ -554,6 +555,25 @@ public class AssetManager implements Disposable {
 		assets.get(type).get(fileName).setRefCount(refCount);
 	}
 
+	/** Returns the estimated OpenGL memory in bytes of an asset, not including its dependencies. Assets that don't own OpenGL
+	 * resources report 0.
+	 * @param fileName
+	 * @see GLMemoryTracker */
+	public synchronized long getGLMemory (String fileName) {
+		Class type = assetTypes.get(fileName);
+		if (type == null) throw new GdxRuntimeException("Asset not loaded: " + fileName);
+		return GLMemoryTracker.getBytes(assets.get(type).get(fileName).getObject(Object.class));
+	}
+
+	/** @return the estimated OpenGL memory in bytes of all loaded assets.
+	 * @see GLMemoryTracker */
+	public synchronized long getGLMemory () {
+		long total = 0;
+		for (String fileName : assetTypes.keys())
+			total += getGLMemory(fileName);
+		return total;
+	}
+
 	/** @return a string containg ref count and dependency information for all assets. */
 	public synchronized String getDiagnostics () {
 		StringBuffer buffer = new StringBuffer();
@@ -570,6 +590,12 @@ public class AssetManager implements Disposable {
 			buffer.append(", refs: ");
 			buffer.append(assetRef.getRefCount());
 
+			long glMemory = GLMemoryTracker.getBytes(assetRef.getObject(Object.class));
+			if (glMemory > 0) {
+				buffer.append(", gl bytes: ");
+				buffer.append(glMemory);
+			}
+
 			if (dependencies != null) {
 				buffer.append(", deps: [");
 				for (String dep : dependencies) {
@@ -19,22 +19,20 @@ package com.badlogic.gdx.assets.loaders;
 import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.assets.AssetLoaderParameters;
 import com.badlogic.gdx.assets.AssetManager;
-import com.badlogic.gdx.assets.loaders.TextureLoader.TextureParameter;
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Page;
 import com.badlogic.gdx.utils.Array;
 
 /**
  * {@link AssetLoader} to load {@link TextureAtlas} instances. Passing a {@link TextureAtlasParameter} to
  * {@link AssetManager#load(String, Class, AssetLoaderParameters)} allows to specify whether the atlas
- * regions should be flipped on the y-axis or not.
+ * regions should be flipped on the y-axis or not. The page images are decoded in parallel on worker threads,
+ * only the textures are created on the rendering thread.
  * @author mzechner
  *
  */
-public class TextureAtlasLoader extends SynchronousAssetLoader<TextureAtlas, TextureAtlasLoader.TextureAtlasParameter> {
+public class TextureAtlasLoader extends AsynchronousAssetLoader<TextureAtlas, TextureAtlasLoader.TextureAtlasParameter> {
 	public TextureAtlasLoader (FileHandleResolver resolver) {
 		super(resolver);
 	}
@@ -42,42 +40,36 @@ public class TextureAtlasLoader extends SynchronousAssetLoader<TextureAtlas, Tex
 	TextureAtlasData data;
 
 	@Override
-	public TextureAtlas load (AssetManager assetManager, String fileName, TextureAtlasParameter parameter) {
-		for (Page page : data.getPages()) {
-			Texture texture = assetManager.get(page.textureFile.path().replaceAll("\\\\", "/"), Texture.class);
-			page.texture = texture;
-		}
-
-		return new TextureAtlas(data);
-	}
-
-	@Override
-	public Array<AssetDescriptor> getDependencies (String fileName, TextureAtlasParameter parameter) {
+	public void loadAsync (AssetManager manager, String fileName, TextureAtlasParameter parameter) {
 		FileHandle atlasFile = resolve(fileName);
 		FileHandle imgDir = atlasFile.parent();
 
-		if (parameter != null)
+		if (parameter != null) {
 			data = new TextureAtlasData(atlasFile, imgDir, parameter.flip);
-		else {
+			data.retainEncodedData = parameter.retainEncodedData;
+		} else {
 			data = new TextureAtlasData(atlasFile, imgDir, false);
 		}
+		data.decodePages();
+	}
 
-		Array<AssetDescriptor> dependencies = new Array<AssetDescriptor>();
-		for (Page page : data.getPages()) {
-			FileHandle handle = resolve(page.textureFile.path());
-			TextureParameter params = new TextureParameter();
-			params.format = page.format;
-			params.genMipMaps = page.useMipMaps;
-			params.minFilter = page.minFilter;
-			params.magFilter = page.magFilter;
-			dependencies.add(new AssetDescriptor(handle.path().replaceAll("\\\\", "/"), Texture.class, params));
-		}
-		return dependencies;
+	@Override
+	public TextureAtlas loadSync (AssetManager manager, String fileName, TextureAtlasParameter parameter) {
+		TextureAtlas atlas = new TextureAtlas(data);
+		data = null;
+		return atlas;
+	}
+
+	@Override
+	public Array<AssetDescriptor> getDependencies (String fileName, TextureAtlasParameter parameter) {
+		return null;
 	}
 
 	static public class TextureAtlasParameter extends AssetLoaderParameters<TextureAtlas> {
 		/** whether to flip the texture atlas vertically **/
 		public boolean flip = false;
+		/** whether to keep the page image files in memory, so the textures are restored faster after the context is lost **/
+		public boolean retainEncodedData = false;
 
 		public TextureAtlasParameter () {
 		}
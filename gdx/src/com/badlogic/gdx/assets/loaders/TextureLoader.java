@@ -66,6 +66,8 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoade
 				if(fileName.contains(".cim")) pixmap = PixmapIO.readCIM(handle);
 				else pixmap = new Pixmap(handle);
 				data = new FileTextureData(handle, pixmap, format, genMipMaps);
+				// Builds the mipmaps here if they are generated on the CPU.
+				data.prepare();
 			} else {
 				data = new ETC1TextureData(handle, genMipMaps);
 			}
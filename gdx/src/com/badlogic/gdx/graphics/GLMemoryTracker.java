@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics;
+
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.IdentityMap;
+
+/** Keeps track of the estimated OpenGL memory used by textures, frame buffers and vertex and index buffers. The estimates are
+ * based on the size and format of each resource, as OpenGL ES doesn't report the memory it actually uses. A
+ * {@link BudgetListener} can be notified when the total goes over a budget, eg to unload assets before a low end device runs out
+ * of memory.
+ * <p>
+ * Resources register themselves when their storage is allocated and unregister when they are disposed. The color texture of a
+ * {@link com.badlogic.gdx.graphics.glutils.FrameBuffer} is counted as a texture, the frame buffer itself only counts its depth
+ * buffer. */
+public class GLMemoryTracker {
+	public enum ResourceType {
+		Texture, FrameBuffer, VertexBuffer, IndexBuffer
+	}
+
+	/** Notified on the thread that allocated a resource when the total goes over the budget. */
+	public interface BudgetListener {
+		public void budgetExceeded (long total, long budget);
+	}
+
+	static private final IdentityMap<Object, Entry> entries = new IdentityMap();
+	static private final long[] totals = new long[ResourceType.values().length];
+	static private long total;
+	static private long budget;
+	static private BudgetListener listener;
+
+	/** Sets the number of bytes or replaces the previous number of a resource.
+	 * @param resource the texture, frame buffer or buffer object. */
+	static public void track (Object resource, ResourceType type, long bytes) {
+		BudgetListener notify = null;
+		long newTotal;
+		synchronized (entries) {
+			Entry entry = entries.get(resource);
+			if (entry == null) {
+				entry = new Entry();
+				entries.put(resource, entry);
+			} else {
+				totals[entry.type.ordinal()] -= entry.bytes;
+				total -= entry.bytes;
+			}
+			long oldTotal = total;
+			entry.type = type;
+			entry.bytes = bytes;
+			totals[type.ordinal()] += bytes;
+			total += bytes;
+			newTotal = total;
+			if (listener != null && oldTotal <= budget && total > budget) notify = listener;
+		}
+		if (notify != null) notify.budgetExceeded(newTotal, budget);
+	}
+
+	/** Removes a resource, eg after it was disposed. */
+	static public void untrack (Object resource) {
+		synchronized (entries) {
+			Entry entry = entries.remove(resource);
+			if (entry == null) return;
+			totals[entry.type.ordinal()] -= entry.bytes;
+			total -= entry.bytes;
+		}
+	}
+
+	/** @return the estimated bytes used by the resource. For a {@link TextureAtlas}, {@link BitmapFont} or {@link Mesh}, the bytes
+	 *         of its textures or buffers. 0 if the resource is unknown. */
+	static public long getBytes (Object resource) {
+		if (resource instanceof TextureAtlas) {
+			long bytes = 0;
+			for (Texture texture : ((TextureAtlas)resource).getTextures())
+				bytes += getBytes(texture);
+			return bytes;
+		}
+		if (resource instanceof BitmapFont) return getBytes(((BitmapFont)resource).getRegion().getTexture());
+		if (resource instanceof Mesh) {
+			Mesh mesh = (Mesh)resource;
+			return getBytes(mesh.vertices) + getBytes(mesh.indices);
+		}
+		synchronized (entries) {
+			Entry entry = entries.get(resource);
+			return entry == null ? 0 : entry.bytes;
+		}
+	}
+
+	/** @return the estimated bytes used by all resources. */
+	static public long getTotal () {
+		synchronized (entries) {
+			return total;
+		}
+	}
+
+	/** @return the estimated bytes used by all resources of the type. */
+	static public long getTotal (ResourceType type) {
+		synchronized (entries) {
+			return totals[type.ordinal()];
+		}
+	}
+
+	/** @param budget the number of bytes above which the listener is notified. The listener is notified each time the total goes
+	 *           from below or at the budget to above it.
+	 * @param listener the listener, may be null. */
+	static public void setBudget (long budget, BudgetListener listener) {
+		synchronized (entries) {
+			GLMemoryTracker.budget = budget;
+			GLMemoryTracker.listener = listener;
+		}
+	}
+
+	static public long getBudget () {
+		synchronized (entries) {
+			return budget;
+		}
+	}
+
+	/** @return the estimated bytes of a texture, including a third more for the smaller mipmap levels. */
+	static public long estimateTextureBytes (int width, int height, Format format, boolean mipMaps) {
+		long bytes = (long)width * height * getBytesPerPixel(format);
+		if (mipMaps) bytes += bytes / 3;
+		return bytes;
+	}
+
+	static private int getBytesPerPixel (Format format) {
+		switch (format) {
+		case Alpha:
+		case Intensity:
+			return 1;
+		case LuminanceAlpha:
+		case RGB565:
+		case RGBA4444:
+			return 2;
+		case RGB888:
+			return 3;
+		default:
+			return 4;
+		}
+	}
+
+	static private class Entry {
+		ResourceType type;
+		long bytes;
+	}
+}
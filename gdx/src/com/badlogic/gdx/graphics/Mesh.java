@@ -31,6 +31,7 @@ import com.badlogic.gdx.graphics.glutils.IndexBufferObject;
 import com.badlogic.gdx.graphics.glutils.IndexBufferObjectSubData;
 import com.badlogic.gdx.graphics.glutils.IndexData;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.glutils.StreamingVertexBufferObject;
 import com.badlogic.gdx.graphics.glutils.VertexArray;
 import com.badlogic.gdx.graphics.glutils.VertexBufferObject;
 import com.badlogic.gdx.graphics.glutils.VertexBufferObjectSubData;
@@ -66,7 +67,7 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
  * @author mzechner, Dave Clayton <contact@redskyforge.com> */
 public class Mesh implements Disposable {
 	public enum VertexDataType {
-		VertexArray, VertexBufferObject, VertexBufferObjectSubData,
+		VertexArray, VertexBufferObject, VertexBufferObjectSubData, StreamingVertexBufferObject,
 	}
 
 	/** list of all meshes **/
@@ -141,6 +142,10 @@ public class Mesh implements Disposable {
 			vertices = new VertexBufferObjectSubData(isStatic, maxVertices, attributes);
 			indices = new IndexBufferObjectSubData(isStatic, maxIndices);
 			isVertexArray = false;
+		} else if (type == VertexDataType.StreamingVertexBufferObject) {
+			vertices = new StreamingVertexBufferObject(maxVertices, attributes);
+			indices = new IndexBufferObject(true, maxIndices);
+			isVertexArray = false;
 		} else {
 			vertices = new VertexArray(maxVertices, attributes);
 			indices = new IndexArray(maxIndices);
@@ -167,6 +172,27 @@ public class Mesh implements Disposable {
 		this.vertices.setVertices(vertices, offset, count);
 	}
 
+	/** Copies vertices to part of this Mesh, without changing the number of vertices. When the Mesh uses a vertex buffer object,
+	 * only the changed part is uploaded.
+	 * 
+	 * @param targetOffset the offset in floats into the vertices of this Mesh
+	 * @param source the vertices
+	 * @param sourceOffset the offset into the source array
+	 * @param count the number of floats to copy */
+	public void updateVertices (int targetOffset, float[] source, int sourceOffset, int count) {
+		if (vertices instanceof VertexBufferObject) {
+			((VertexBufferObject)vertices).updateVertices(targetOffset, source, sourceOffset, count);
+			return;
+		}
+		FloatBuffer buffer = vertices.getBuffer();
+		if (targetOffset < 0 || count < 0 || targetOffset + count > buffer.limit())
+			throw new IllegalArgumentException("Vertices out of range: " + targetOffset + ", " + count + " (" + buffer.limit() + ")");
+		int pos = buffer.position();
+		buffer.position(targetOffset);
+		buffer.put(source, sourceOffset, count);
+		buffer.position(pos);
+	}
+
 	/** Copies the vertices from the Mesh to the float array. The float array must be large enough to hold all the Mesh's vertices.
 	 * @param vertices the array to copy the vertices to */
 	public void getVertices (float[] vertices) {
@@ -195,6 +221,27 @@ public class Mesh implements Disposable {
 		this.indices.setIndices(indices, offset, count);
 	}
 
+	/** Copies indices to part of this Mesh, without changing the number of indices. When the Mesh uses an index buffer object,
+	 * only the changed part is uploaded.
+	 * 
+	 * @param targetOffset the offset into the indices of this Mesh
+	 * @param source the indices
+	 * @param sourceOffset the offset into the source array
+	 * @param count the number of indices to copy */
+	public void updateIndices (int targetOffset, short[] source, int sourceOffset, int count) {
+		if (indices instanceof IndexBufferObject) {
+			((IndexBufferObject)indices).updateIndices(targetOffset, source, sourceOffset, count);
+			return;
+		}
+		ShortBuffer buffer = indices.getBuffer();
+		if (targetOffset < 0 || count < 0 || targetOffset + count > buffer.limit())
+			throw new IllegalArgumentException("Indices out of range: " + targetOffset + ", " + count + " (" + buffer.limit() + ")");
+		int pos = buffer.position();
+		buffer.position(targetOffset);
+		buffer.put(source, sourceOffset, count);
+		buffer.position(pos);
+	}
+
 	/** Copies the indices from the Mesh to the short array. The short array must be large enough to hold all the Mesh's indices.
 	 * @param indices the array to copy the indices to */
 	public void getIndices (short[] indices) {
@@ -411,7 +458,9 @@ public class Mesh implements Disposable {
 
 	/** Frees all resources associated with this Mesh */
 	public void dispose () {
-		if (meshes.get(Gdx.app) != null) meshes.get(Gdx.app).remove(this);
+		synchronized (Mesh.class) {
+			if (meshes.get(Gdx.app) != null) meshes.get(Gdx.app).remove(this);
+		}
 		vertices.dispose();
 		indices.dispose();
 	}
@@ -491,7 +540,7 @@ public class Mesh implements Disposable {
 		return indices.getBuffer();
 	}
 
-	private static void addManagedMesh (Application app, Mesh mesh) {
+	private static synchronized void addManagedMesh (Application app, Mesh mesh) {
 		List<Mesh> managedResources = meshes.get(app);
 		if (managedResources == null) managedResources = new ArrayList<Mesh>();
 		managedResources.add(mesh);
@@ -500,19 +549,21 @@ public class Mesh implements Disposable {
 
 	/** Invalidates all meshes so the next time they are rendered new VBO handles are generated.
 	 * @param app */
-	public static void invalidateAllMeshes (Application app) {
+	public static synchronized void invalidateAllMeshes (Application app) {
 		List<Mesh> meshesList = meshes.get(app);
 		if (meshesList == null) return;
 		for (int i = 0; i < meshesList.size(); i++) {
 			if (meshesList.get(i).vertices instanceof VertexBufferObject) {
 				((VertexBufferObject)meshesList.get(i).vertices).invalidate();
+			} else if (meshesList.get(i).vertices instanceof StreamingVertexBufferObject) {
+				((StreamingVertexBufferObject)meshesList.get(i).vertices).invalidate();
 			}
 			meshesList.get(i).indices.invalidate();
 		}
 	}
 
 	/** Will clear the managed mesh cache. I wouldn't use this if i was you :) */
-	public static void clearAllMeshes (Application app) {
+	public static synchronized void clearAllMeshes (Application app) {
 		meshes.remove(app);
 	}
 
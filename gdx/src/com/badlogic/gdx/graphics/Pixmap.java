@@ -17,6 +17,7 @@
 package com.badlogic.gdx.graphics;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 
 import com.badlogic.gdx.files.FileHandle;
@@ -129,13 +130,18 @@ public class Pixmap implements Disposable {
 	}
 
 	/** Creates a new Pixmap instance from the given file. The file must be a Png, Jpeg or Bitmap. Paletted formats are not
-	 * supported.
+	 * supported. The file is read into a buffer that is reused by later loads on the same thread, see
+	 * {@link Gdx2DPixmap#maxDecodeBufferSize}.
 	 * 
 	 * @param file the {@link FileHandle} */
 	public Pixmap (FileHandle file) {
 		try {
-			byte[] bytes = file.readBytes();
-			pixmap = new Gdx2DPixmap(bytes, 0, bytes.length, 0);
+			InputStream input = file.read();
+			try {
+				pixmap = new Gdx2DPixmap(input, (int)file.length(), 0);
+			} finally {
+				input.close();
+			}
 		} catch (Exception e) {
 			throw new GdxRuntimeException("Couldn't load file: " + file, e);
 		}
@@ -23,12 +23,14 @@ import java.util.List;
 import java.util.Map;
 
 import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Application.ApplicationType;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetLoaderParameters.LoadedCallback;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.assets.loaders.AssetLoader;
 import com.badlogic.gdx.assets.loaders.TextureLoader.TextureParameter;
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GLMemoryTracker.ResourceType;
 import com.badlogic.gdx.graphics.Pixmap.Blending;
 import com.badlogic.gdx.graphics.Pixmap.Format;
 import com.badlogic.gdx.graphics.TextureData.TextureDataType;
@@ -68,8 +70,11 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
 public class Texture implements Disposable {
 	static private boolean enforcePotImages = true;
 	static private boolean useHWMipMap = true;
+	static private boolean reloadIncrementally;
+	static int bindCount;
 	private static AssetManager assetManager;
 	final static Map<Application, List<Texture>> managedTextures = new HashMap<Application, List<Texture>>();
+	final static Map<Application, TextureReloader> reloaders = new HashMap<Application, TextureReloader>();
 
 	public enum TextureFilter {
 		Nearest(GL10.GL_NEAREST), Linear(GL10.GL_LINEAR), MipMap(GL10.GL_LINEAR_MIPMAP_LINEAR), MipMapNearestNearest(
@@ -113,6 +118,7 @@ public class Texture implements Disposable {
 	TextureWrap vWrap = TextureWrap.ClampToEdge;
 	int glHandle;
 	TextureData data;
+	int lastBind;
 
 	public Texture (String internalPath) {
 		this(Gdx.files.internal(internalPath));
@@ -173,6 +179,7 @@ public class Texture implements Disposable {
 		this.data = data;
 
 		if (!data.isPrepared()) data.prepare();
+		long bytes = estimateBytes();
 
 		if (data.getType() == TextureDataType.Pixmap) {
 			Pixmap pixmap = data.consumePixmap();
@@ -189,6 +196,18 @@ public class Texture implements Disposable {
 			setWrap(uWrap, vWrap);
 		}
 		Gdx.gl.glBindTexture(GL10.GL_TEXTURE_2D, 0);
+		GLMemoryTracker.track(this, ResourceType.Texture, bytes);
+	}
+
+	/** @return the estimated OpenGL memory of the data, which must be prepared. */
+	private long estimateBytes () {
+		int width = data.getWidth(), height = data.getHeight();
+		// ETC1 data stays compressed where ETC1TextureData uploads it as is.
+		if (data instanceof ETC1TextureData && Gdx.app.getType() != ApplicationType.Desktop && Gdx.graphics.isGL20Available()) {
+			long bytes = (long)((width + 3) / 4) * ((height + 3) / 4) * 8;
+			return data.useMipMaps() ? bytes + bytes / 3 : bytes;
+		}
+		return GLMemoryTracker.estimateTextureBytes(width, height, data.getFormat(), data.useMipMaps());
 	}
 
 	private void uploadImageData (Pixmap pixmap) {
@@ -233,6 +252,7 @@ public class Texture implements Disposable {
 	 * {@link GLCommon#glActiveTexture(int)}. */
 	public void bind () {
 		Gdx.gl.glBindTexture(GL10.GL_TEXTURE_2D, glHandle);
+		lastBind = ++bindCount;
 	}
 
 	/** Binds the texture to the given texture unit. Sets the currently active texture unit via
@@ -241,6 +261,7 @@ public class Texture implements Disposable {
 	public void bind (int unit) {
 		Gdx.gl.glActiveTexture(GL10.GL_TEXTURE0 + unit);
 		Gdx.gl.glBindTexture(GL10.GL_TEXTURE_2D, glHandle);
+		lastBind = ++bindCount;
 	}
 
 	/** Draws the given {@link Pixmap} to the texture at position x, y. No clipping is performed so you have to make sure that you
@@ -328,6 +349,7 @@ public class Texture implements Disposable {
 		if (data.isManaged()) {
 			if (managedTextures.get(Gdx.app) != null) managedTextures.get(Gdx.app).remove(this);
 		}
+		GLMemoryTracker.untrack(this);
 		glHandle = 0;
 	}
 
@@ -343,9 +365,30 @@ public class Texture implements Disposable {
 		managedTextures.put(app, managedTexureList);
 	}
 
+	/** @param reloadIncrementally whether managed textures that are not reloaded by the {@link AssetManager} are reloaded over
+	 *           several frames by a {@link TextureReloader} after the context is lost, instead of all at once. Default is false. */
+	static public void setReloadIncrementally (boolean reloadIncrementally) {
+		Texture.reloadIncrementally = reloadIncrementally;
+	}
+
+	/** @return the reloader that is restoring the managed textures of the application, or null if no incremental reload is in
+	 *         progress. */
+	public static TextureReloader getReloader (Application app) {
+		return reloaders.get(app);
+	}
+
+	/** Uploads the textures of an incremental reload. Called by the backend each frame before rendering. This is an internal
+	 * method. Do not use it! */
+	public static void updateReload (Application app) {
+		TextureReloader reloader = reloaders.get(app);
+		if (reloader != null && reloader.update()) reloaders.remove(app);
+	}
+
 	/** Clears all managed textures. This is an internal method. Do not use it! */
 	public static void clearAllTextures (Application app) {
 		managedTextures.remove(app);
+		TextureReloader reloader = reloaders.remove(app);
+		if (reloader != null) reloader.cancel();
 	}
 
 	/** Invalidate all managed textures. This is an internal method. Do not use it! */
@@ -353,10 +396,17 @@ public class Texture implements Disposable {
 		List<Texture> managedTexureList = managedTextures.get(app);
 		if (managedTexureList == null) return;
 
+		TextureReloader reloader = reloaders.remove(app);
+		if (reloader != null) reloader.cancel();
+
 		if (assetManager == null) {
-			for (int i = 0; i < managedTexureList.size(); i++) {
-				Texture texture = managedTexureList.get(i);
-				texture.reload();
+			if (reloadIncrementally)
+				reloaders.put(app, new TextureReloader(managedTexureList));
+			else {
+				for (int i = 0; i < managedTexureList.size(); i++) {
+					Texture texture = managedTexureList.get(i);
+					texture.reload();
+				}
 			}
 		} else {
 			// first we have to make sure the AssetManager isn't loading anything anymore,
@@ -367,10 +417,14 @@ public class Texture implements Disposable {
 			// next we go through each texture and reload either directly or via the
 			// asset manager.
 			List<Texture> textures = new ArrayList<Texture>(managedTexureList);
+			List<Texture> reloadTextures = new ArrayList<Texture>();
 			for (Texture texture : textures) {
 				String fileName = assetManager.getAssetFileName(texture);
 				if (fileName == null) {
-					texture.reload();
+					if (reloadIncrementally)
+						reloadTextures.add(texture);
+					else
+						texture.reload();
 				} else {
 					// get the ref count of the texture, then set it to 0 so we
 					// can actually remove it from the assetmanager. Also set the
@@ -405,6 +459,7 @@ public class Texture implements Disposable {
 			}
 			managedTexureList.clear();
 			managedTexureList.addAll(textures);
+			if (reloadTextures.size() > 0) reloaders.put(app, new TextureReloader(reloadTextures));
 		}
 	}
 
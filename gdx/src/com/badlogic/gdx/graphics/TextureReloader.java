@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Reloads managed textures after the OpenGL context was lost, spread over several frames instead of all at once. The
+ * {@link TextureData} of each texture is prepared on worker threads, starting with the textures that were bound most recently, so
+ * the textures of the current screen come back first. Prepared textures are uploaded on the rendering thread by {@link #update()}
+ * within {@link #uploadBudget} per frame. Until a texture is uploaded it has a valid but empty OpenGL handle.
+ * <p>
+ * Enabled with {@link Texture#setReloadIncrementally(boolean)}. The reloader of an application is available via
+ * {@link Texture#getReloader(com.badlogic.gdx.Application)} until all its textures are uploaded, eg to show the progress. */
+public class TextureReloader {
+	/** The time spent uploading textures per {@link #update()}, in milliseconds. At least one prepared texture is uploaded per
+	 * update. */
+	static public int uploadBudget = 8;
+	/** The number of threads that prepare texture data. */
+	static public int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+	final Array<Texture> textures;
+	final Array<Future> futures;
+	final ExecutorService executor;
+	final int total;
+
+	/** Creates new OpenGL handles for the textures and starts preparing their data. */
+	TextureReloader (List<Texture> managedTextures) {
+		textures = new Array(managedTextures.size());
+		for (Texture texture : managedTextures)
+			textures.add(texture);
+		textures.sort(new Comparator<Texture>() {
+			public int compare (Texture texture1, Texture texture2) {
+				return texture2.lastBind - texture1.lastBind;
+			}
+		});
+		total = textures.size;
+
+		executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+			@Override
+			public Thread newThread (Runnable r) {
+				Thread thread = new Thread(r, "TextureReloader");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		futures = new Array(textures.size);
+		for (Texture texture : textures) {
+			texture.glHandle = Texture.createGLHandle();
+			final TextureData data = texture.getTextureData();
+			futures.add(executor.submit(new Runnable() {
+				public void run () {
+					// A previous reload that was cancelled may still prepare the same data.
+					synchronized (data) {
+						if (!data.isPrepared()) data.prepare();
+					}
+				}
+			}));
+		}
+		executor.shutdown();
+	}
+
+	/** Uploads the textures whose data is prepared, in order of priority, until {@link #uploadBudget} is used up. Must be called
+	 * on the rendering thread.
+	 * @return whether all textures are uploaded. */
+	public boolean update () {
+		long end = System.nanoTime() + uploadBudget * 1000000L;
+		for (int i = 0; i < textures.size; i++) {
+			if (!futures.get(i).isDone()) continue;
+			upload(i--);
+			if (System.nanoTime() >= end) break;
+		}
+		return textures.size == 0;
+	}
+
+	/** Prepares and uploads all remaining textures, blocking until they are done. Must be called on the rendering thread. */
+	public void finish () {
+		while (textures.size > 0)
+			upload(0);
+	}
+
+	private void upload (int index) {
+		Texture texture = textures.removeIndex(index);
+		Future future = futures.removeIndex(index);
+		try {
+			future.get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new GdxRuntimeException("Interrupted while reloading texture.", ex);
+		} catch (ExecutionException ex) {
+			throw new GdxRuntimeException("Couldn't reload texture.", ex.getCause());
+		}
+		// The texture may have been disposed in the meantime.
+		if (texture.glHandle == 0) return;
+		TextureData data = texture.getTextureData();
+		synchronized (data) {
+			texture.load(data);
+		}
+	}
+
+	/** Stops preparing texture data. Textures that weren't uploaded yet keep their empty OpenGL handles. */
+	void cancel () {
+		executor.shutdownNow();
+		textures.clear();
+		futures.clear();
+	}
+
+	/** @return the number of textures that are uploaded. */
+	public int getUploaded () {
+		return total - textures.size;
+	}
+
+	/** @return the total number of textures to reload. */
+	public int getTotal () {
+		return total;
+	}
+
+	/** @return the progress of the reload, between 0 and 1. */
+	public float getProgress () {
+		if (total == 0) return 1;
+		return getUploaded() / (float)total;
+	}
+}
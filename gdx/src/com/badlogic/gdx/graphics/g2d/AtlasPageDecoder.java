@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Page;
+import com.badlogic.gdx.graphics.glutils.ETC1TextureData;
+import com.badlogic.gdx.graphics.glutils.FileTextureData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Decodes the page images of a {@link TextureAtlasData} on multiple threads. Decoding doesn't use OpenGL, so only creating the
+ * textures from the decoded pages has to happen on the rendering thread.
+ * @see TextureAtlasData#decodePages() */
+class AtlasPageDecoder implements Runnable {
+	/** The number of threads that decode pages, including the calling thread. */
+	static final int threads = Runtime.getRuntime().availableProcessors();
+
+	static private ExecutorService executor;
+
+	private final TextureAtlasData data;
+	private final Array<Page> pages;
+	private final AtomicInteger next = new AtomicInteger();
+	private volatile RuntimeException error;
+
+	private AtlasPageDecoder (TextureAtlasData data, Array<Page> pages) {
+		this.data = data;
+		this.pages = pages;
+	}
+
+	public void run () {
+		while (error == null) {
+			int index = next.getAndIncrement();
+			if (index >= pages.size) return;
+			Page page = pages.get(index);
+			try {
+				page.textureData = decode(page);
+			} catch (RuntimeException ex) {
+				error = new GdxRuntimeException("Error decoding page: " + page.textureFile, ex);
+			}
+		}
+	}
+
+	private TextureData decode (Page page) {
+		FileHandle file = page.textureFile;
+		TextureData textureData;
+		if (file.name().contains(".etc1"))
+			textureData = new ETC1TextureData(file, page.useMipMaps);
+		else if (data.retainEncodedData && !file.extension().equals("cim"))
+			textureData = new FileTextureData(file, file.readBytes(), null, page.format, page.useMipMaps);
+		else
+			textureData = new FileTextureData(file, null, page.format, page.useMipMaps);
+		textureData.prepare();
+		return textureData;
+	}
+
+	/** Releases the decoded pages after a page could not be decoded. */
+	private void release () {
+		for (Page page : pages) {
+			TextureData textureData = page.textureData;
+			if (textureData == null) continue;
+			if (textureData instanceof FileTextureData && textureData.isPrepared())
+				textureData.consumePixmap().dispose();
+			else if (textureData instanceof ETC1TextureData) ((ETC1TextureData)textureData).disposePreparedData();
+			page.textureData = null;
+		}
+	}
+
+	/** Decodes up to count pages of the atlas, starting at the specified index, that have neither a texture nor decoded texture
+	 * data. Up to {@link #threads} pages are decoded at once and the calling thread decodes pages too. This method returns when
+	 * all the pages are decoded.
+	 * @throws GdxRuntimeException if a page could not be decoded. Pages already decoded are released. */
+	static void decode (TextureAtlasData data, int start, int count) {
+		Array<Page> pages = new Array(Math.min(count, data.pages.size - start));
+		for (int i = start, n = data.pages.size; i < n && pages.size < count; i++) {
+			Page page = data.pages.get(i);
+			if (page.texture == null && page.textureData == null) pages.add(page);
+		}
+		if (pages.size == 0) return;
+
+		AtlasPageDecoder decoder = new AtlasPageDecoder(data, pages);
+		Future[] futures = new Future[Math.min(pages.size, threads) - 1];
+		if (futures.length > 0) {
+			ExecutorService executor = getExecutor();
+			for (int i = 0; i < futures.length; i++)
+				futures[i] = executor.submit(decoder);
+		}
+		decoder.run();
+		// The pages are written by the other threads, so wait for them even if interrupted.
+		boolean interrupted = false;
+		for (int i = 0; i < futures.length; i++) {
+			while (true) {
+				try {
+					futures[i].get();
+					break;
+				} catch (InterruptedException ex) {
+					interrupted = true;
+				} catch (ExecutionException ex) {
+					if (decoder.error == null) decoder.error = new GdxRuntimeException("Error decoding pages.", ex.getCause());
+					break;
+				}
+			}
+		}
+		if (interrupted) Thread.currentThread().interrupt();
+
+		if (decoder.error != null) {
+			decoder.release();
+			throw decoder.error;
+		}
+	}
+
+	static private synchronized ExecutorService getExecutor () {
+		if (executor == null) {
+			executor = Executors.newFixedThreadPool(threads - 1, new ThreadFactory() {
+				@Override
+				public Thread newThread (Runnable r) {
+					Thread thread = new Thread(r, "TextureAtlas-Decoder-Thread");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+		return executor;
+	}
+}
@@ -20,6 +20,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
 import com.badlogic.gdx.graphics.g2d.BitmapFont.HAlignment;
 import com.badlogic.gdx.graphics.g2d.BitmapFont.TextBounds;
+import com.badlogic.gdx.graphics.g2d.TextLayoutCache.TextLayout;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.NumberUtils;
 
@@ -29,8 +30,8 @@ import com.badlogic.gdx.utils.NumberUtils;
  * @author Matthias Mann */
 public class BitmapFontCache implements Disposable {
 	private final BitmapFont font;
-	private float[] vertices = new float[0];
-	private int idx;
+	float[] vertices = new float[0];
+	int idx;
 	private float x, y;
 	private float color = Color.WHITE.toFloatBits();
 	private final Color tmpColor = new Color(Color.WHITE);
@@ -258,6 +259,35 @@ public class BitmapFontCache implements Disposable {
 		return textBounds;
 	}
 
+	/** Caches text that was laid out by a {@link TextLayoutCache}, with the specified position. Only the cached vertices are
+	 * copied, the glyphs are not laid out again.
+	 * @param x The x position of the layout.
+	 * @param y The y position for the top of most capital letters in the font (the {@link BitmapFont#getCapHeight() cap height}).
+	 * @return The bounds of the cached text. */
+	public TextBounds setText (TextLayout layout, float x, float y) {
+		if (layout.getFont() != font) throw new IllegalArgumentException("The layout was created for a different font.");
+		int count = layout.vertexCount;
+		reset(count / 20);
+		float[] src = layout.vertices, vertices = this.vertices;
+		float color = this.color;
+		boolean integer = this.integer;
+		for (int i = 0; i < count; i += 5) {
+			float vx = src[i] + x, vy = src[i + 1] + y;
+			if (integer) {
+				vx = (int)vx;
+				vy = (int)vy;
+			}
+			vertices[i] = vx;
+			vertices[i + 1] = vy;
+			vertices[i + 2] = color;
+			vertices[i + 3] = src[i + 3];
+			vertices[i + 4] = src[i + 4];
+		}
+		idx = count;
+		textBounds.set(layout.bounds);
+		return textBounds;
+	}
+
 	/** Caches a string, which may contain newlines (\n), with the specified position.
 	 * @param x The x position for the left most character.
 	 * @param y The y position for the top of most capital letters in the font (the {@link BitmapFont#getCapHeight() cap height}).
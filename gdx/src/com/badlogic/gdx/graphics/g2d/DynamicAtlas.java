@@ -0,0 +1,299 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Blending;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.TextureData.TextureDataType;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker.Node;
+import com.badlogic.gdx.graphics.glutils.PixmapTextureData;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** Packs images that are only known at runtime, such as downloaded pictures or generated glyphs, into a few shared page textures
+ * so a {@link SpriteBatch} switches textures and flushes less often. Images are placed with the same packing as
+ * {@link PixmapPacker} and each addition uploads only the rows it touched with glTexSubImage2D.
+ * <p>
+ * When no page has room and the maximum number of pages exists, the least recently used page is evicted: all of its images are
+ * removed and the page is cleared for reuse. An image is used when it is added or retrieved with {@link #get(String)}, so call
+ * get each frame for the images being drawn rather than holding on to the returned regions, which show other images once their
+ * page is evicted. An {@link EvictionListener} is notified before a page is cleared, eg to flush a batch that still references
+ * it or to forget cached glyphs.
+ * <p>
+ * Pages are managed textures and are restored after a context loss. This class is not thread safe and must be used on the
+ * rendering thread. */
+public class DynamicAtlas implements Disposable {
+	final int pageWidth, pageHeight;
+	final Format format;
+	final int padding;
+	final int maxPages;
+	final Array<Page> pages = new Array();
+	final ObjectMap<String, Entry> entries = new ObjectMap();
+	TextureFilter minFilter = TextureFilter.Nearest, magFilter = TextureFilter.Nearest;
+	EvictionListener listener;
+	int useCount, evictions;
+
+	/** @param pageWidth the width of each page texture
+	 * @param pageHeight the height of each page texture
+	 * @param format the format of the pages
+	 * @param padding the number of transparent pixels around each image
+	 * @param maxPages the number of pages after which the least recently used page is evicted */
+	public DynamicAtlas (int pageWidth, int pageHeight, Format format, int padding, int maxPages) {
+		if (maxPages < 1) throw new IllegalArgumentException("maxPages must be > 0: " + maxPages);
+		this.pageWidth = pageWidth;
+		this.pageHeight = pageHeight;
+		this.format = format;
+		this.padding = padding;
+		this.maxPages = maxPages;
+	}
+
+	/** Adds a copy of the pixmap, which may be disposed afterwards.
+	 * @see #add(String, Pixmap, int, int, int, int) */
+	public TextureRegion add (String name, Pixmap pixmap) {
+		return add(name, pixmap, 0, 0, pixmap.getWidth(), pixmap.getHeight());
+	}
+
+	/** Adds a copy of the pixels of the region, without its flipping. The texture of the region must have
+	 * {@link TextureDataType#Pixmap} data, eg a texture loaded from a file, which is prepared again to read the pixels.
+	 * @see #add(String, Pixmap, int, int, int, int) */
+	public TextureRegion add (String name, TextureRegion region) {
+		Texture texture = region.getTexture();
+		TextureData data = texture.getTextureData();
+		if (data.getType() != TextureDataType.Pixmap)
+			throw new GdxRuntimeException("Only regions of textures with pixmap data can be added: " + name);
+		int x = Math.round(Math.min(region.getU(), region.getU2()) * texture.getWidth());
+		int y = Math.round(Math.min(region.getV(), region.getV2()) * texture.getHeight());
+		if (!data.isPrepared()) data.prepare();
+		Pixmap pixmap = data.consumePixmap();
+		try {
+			return add(name, pixmap, x, y, Math.abs(region.getRegionWidth()), Math.abs(region.getRegionHeight()));
+		} finally {
+			if (data.disposePixmap()) pixmap.dispose();
+		}
+	}
+
+	/** Adds a copy of part of the pixmap, which may be disposed afterwards. The rows of the page that the image covers are uploaded
+	 * right away. If no page has room and {@link #getMaxPages()} pages exist, the least recently used page is evicted first.
+	 * @return the region of the image in its page
+	 * @throws GdxRuntimeException if the name is already used or the image doesn't fit in a page */
+	public TextureRegion add (String name, Pixmap pixmap, int srcX, int srcY, int width, int height) {
+		if (entries.containsKey(name)) throw new GdxRuntimeException("Image already added: " + name);
+		int border = padding * 2;
+		if (width + border > pageWidth || height + border > pageHeight)
+			throw new GdxRuntimeException("Image doesn't fit in a page: " + name + " (" + width + "x" + height + ")");
+
+		Rectangle size = new Rectangle(0, 0, width + border, height + border);
+		Page page = null;
+		Node node = null;
+		for (int i = 0; i < pages.size; i++) {
+			node = PixmapPacker.insert(pages.get(i).root, size);
+			if (node != null) {
+				page = pages.get(i);
+				break;
+			}
+		}
+		if (node == null) {
+			page = pages.size < maxPages ? newPage() : evict();
+			node = PixmapPacker.insert(page.root, size);
+		}
+		node.leaveName = name;
+
+		int x = (int)node.rect.x + padding, y = (int)node.rect.y + padding;
+		Blending blending = Pixmap.getBlending();
+		Pixmap.setBlending(Blending.None);
+		page.pixmap.drawPixmap(pixmap, x, y, srcX, srcY, width, height);
+		Pixmap.setBlending(blending);
+		page.upload((int)node.rect.y, (int)node.rect.height);
+
+		Entry entry = new Entry(page, new TextureRegion(page.texture, x, y, width, height));
+		entries.put(name, entry);
+		page.names.add(name);
+		page.lastUsed = ++useCount;
+		return entry.region;
+	}
+
+	/** Returns the region of an image and marks its page as used.
+	 * @return the region or null if the image was never added, was removed or its page was evicted */
+	public TextureRegion get (String name) {
+		Entry entry = entries.get(name);
+		if (entry == null) return null;
+		entry.page.lastUsed = ++useCount;
+		return entry.region;
+	}
+
+	/** @return whether the image is in the atlas, without marking its page as used */
+	public boolean contains (String name) {
+		return entries.containsKey(name);
+	}
+
+	/** Removes an image. Its space is reused once all images of its page are removed.
+	 * @return whether the image was in the atlas */
+	public boolean remove (String name) {
+		Entry entry = entries.remove(name);
+		if (entry == null) return false;
+		Page page = entry.page;
+		page.names.removeValue(name, false);
+		if (page.names.size == 0) page.clear();
+		return true;
+	}
+
+	private Page newPage () {
+		Page page = new Page();
+		pages.add(page);
+		return page;
+	}
+
+	private Page evict () {
+		Page page = pages.get(0);
+		for (int i = 1; i < pages.size; i++)
+			if (pages.get(i).lastUsed < page.lastUsed) page = pages.get(i);
+		if (listener != null) listener.evicted(page.texture, page.names);
+		for (int i = 0; i < page.names.size; i++)
+			entries.remove(page.names.get(i));
+		page.clear();
+		evictions++;
+		return page;
+	}
+
+	/** Sets the filters of the existing and future pages. */
+	public void setFilter (TextureFilter minFilter, TextureFilter magFilter) {
+		this.minFilter = minFilter;
+		this.magFilter = magFilter;
+		for (int i = 0; i < pages.size; i++)
+			pages.get(i).texture.setFilter(minFilter, magFilter);
+	}
+
+	public void setEvictionListener (EvictionListener listener) {
+		this.listener = listener;
+	}
+
+	/** @return the page textures created so far */
+	public Array<Texture> getTextures () {
+		Array<Texture> textures = new Array(pages.size);
+		for (int i = 0; i < pages.size; i++)
+			textures.add(pages.get(i).texture);
+		return textures;
+	}
+
+	/** @return the number of images in the atlas */
+	public int size () {
+		return entries.size;
+	}
+
+	/** @return the number of pages evicted so far */
+	public int getEvictions () {
+		return evictions;
+	}
+
+	public int getPageWidth () {
+		return pageWidth;
+	}
+
+	public int getPageHeight () {
+		return pageHeight;
+	}
+
+	public int getMaxPages () {
+		return maxPages;
+	}
+
+	/** Disposes the page textures and pixmaps. Regions returned by this atlas must no longer be used. */
+	public void dispose () {
+		for (int i = 0; i < pages.size; i++) {
+			Page page = pages.get(i);
+			page.texture.dispose();
+			page.pixmap.dispose();
+		}
+		pages.clear();
+		entries.clear();
+	}
+
+	/** Notified before a page is cleared to make room for new images. */
+	public interface EvictionListener {
+		/** @param texture the page texture, which keeps being used by the atlas
+		 * @param names the images that are removed, must not be modified or kept */
+		public void evicted (Texture texture, Array<String> names);
+	}
+
+	static class Entry {
+		final Page page;
+		final TextureRegion region;
+
+		Entry (Page page, TextureRegion region) {
+			this.page = page;
+			this.region = region;
+		}
+	}
+
+	class Page {
+		final Pixmap pixmap;
+		final Texture texture;
+		final Array<String> names = new Array();
+		Node root;
+		int lastUsed;
+
+		Page () {
+			pixmap = new Pixmap(pageWidth, pageHeight, format);
+			pixmap.setColor(0, 0, 0, 0);
+			pixmap.fill();
+			texture = new Texture(new PageTextureData(pixmap));
+			texture.setFilter(minFilter, magFilter);
+			root = new Node(0, 0, pageWidth, pageHeight, null, null, null);
+		}
+
+		void clear () {
+			root = new Node(0, 0, pageWidth, pageHeight, null, null, null);
+			names.clear();
+			pixmap.setColor(0, 0, 0, 0);
+			pixmap.fill();
+			upload(0, pageHeight);
+		}
+
+		/** Uploads whole rows of the pixmap, OpenGL ES can't skip the pixels of a row outside the changed area. */
+		void upload (int y, int height) {
+			ByteBuffer pixels = pixmap.getPixels();
+			int rowBytes = pixels.capacity() / pageHeight;
+			pixels.position(y * rowBytes);
+			texture.bind();
+			Gdx.gl.glPixelStorei(GL10.GL_UNPACK_ALIGNMENT, 1);
+			Gdx.gl.glTexSubImage2D(GL10.GL_TEXTURE_2D, 0, 0, y, pageWidth, height, pixmap.getGLFormat(), pixmap.getGLType(), pixels);
+			pixels.position(0);
+		}
+	}
+
+	/** Keeps the page pixmap so the page is restored after a context loss. */
+	static class PageTextureData extends PixmapTextureData {
+		PageTextureData (Pixmap pixmap) {
+			super(pixmap, null, false, false);
+		}
+
+		public boolean isManaged () {
+			return true;
+		}
+	}
+}
@@ -16,7 +16,6 @@
 
 package com.badlogic.gdx.graphics.g2d;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
@@ -40,6 +39,10 @@ public class Gdx2DPixmap implements Disposable {
 	public static final int GDX2D_BLEND_NONE = 0;
 	public static final int GDX2D_BLEND_SRC_OVER = 1;
 
+	/** Decode buffers larger than this many bytes are not kept for reuse by the thread that allocated them. */
+	static public int maxDecodeBufferSize = 1024 * 1024;
+	static private final ThreadLocal<byte[]> decodeBytes = new ThreadLocal();
+
 	final long basePtr;
 	final int width;
 	final int height;
@@ -63,16 +66,29 @@ public class Gdx2DPixmap implements Disposable {
 	}
 
 	public Gdx2DPixmap (InputStream in, int requestedFormat) throws IOException {
-		ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
-		byte[] buffer = new byte[1024];
-		int readBytes = 0;
+		this(in, 0, requestedFormat);
+	}
 
-		while ((readBytes = in.read(buffer)) != -1) {
-			bytes.write(buffer, 0, readBytes);
+	/** Reads the stream into a byte array that is reused by later decodes on the calling thread and decodes it from there.
+	 * @param length the number of bytes in the stream if known, else 0. */
+	public Gdx2DPixmap (InputStream in, int length, int requestedFormat) throws IOException {
+		byte[] buffer = decodeBytes.get();
+		// One byte more than the length, so the end of the stream is found without growing the buffer.
+		if (buffer == null || buffer.length <= length) buffer = new byte[Math.max(length + 1, 1024)];
+		int position = 0;
+		while (true) {
+			int count = in.read(buffer, position, buffer.length - position);
+			if (count == -1) break;
+			position += count;
+			if (position == buffer.length) {
+				byte[] newBuffer = new byte[buffer.length * 2];
+				System.arraycopy(buffer, 0, newBuffer, 0, position);
+				buffer = newBuffer;
+			}
 		}
+		if (buffer.length <= maxDecodeBufferSize) decodeBytes.set(buffer);
 
-		buffer = bytes.toByteArray();
-		pixelPtr = load(nativeData, buffer, 0, buffer.length, requestedFormat);
+		pixelPtr = load(nativeData, buffer, 0, position, requestedFormat);
 		if (pixelPtr == null) throw new IOException("couldn't load pixmap");
 
 		basePtr = nativeData[0];
@@ -215,7 +215,7 @@ public class PixmapPacker implements Disposable {
 		currPage = page;
 	}
 
-	private Node insert (Node node, Rectangle rect) {
+	static Node insert (Node node, Rectangle rect) {
 		if (node.leaveName == null && node.leftChild != null && node.rightChild != null) {
 			Node newNode = null;
 
@@ -28,9 +28,12 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes.Usage;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.glutils.StreamingVertexBufferObject;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix3;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.NumberUtils;
 
 /** <p>
@@ -86,6 +89,13 @@ public class SpriteBatch implements Disposable {
 	private final Matrix4 projectionMatrix = new Matrix4();
 	private final Matrix4 combinedMatrix = new Matrix4();
 
+	/** The 2D affine transform applied to vertices on the CPU, see {@link #pushTransform(Matrix3)}. */
+	private float m00 = 1, m01, m02, m10, m11 = 1, m12;
+	private boolean cpuTransform;
+	private final FloatArray transformStack = new FloatArray(6 * 8);
+	/** Vertices before this index already have the CPU transform applied. */
+	private int transformedIdx;
+
 	private boolean drawing = false;
 
 	private boolean blendingDisabled = false;
@@ -153,14 +163,24 @@ public class SpriteBatch implements Disposable {
 	 * The size parameter specifies the maximum size of a single batch in number of sprites
 	 * </p>
 	 * 
+	 * <p>
+	 * With OpenGL ES 1.1 or 2.0, a single {@link StreamingVertexBufferObject} is used and the buffers parameter is ignored. Each
+	 * batch is appended to the ring of the buffer object, so no batch waits for the previous ones to be drawn.
+	 * </p>
+	 * 
 	 * @param size the batch size in number of sprites
-	 * @param buffers the number of buffers to use. only makes sense with VBOs. This is an expert function.
+	 * @param buffers the number of vertex arrays to use with OpenGL ES 1.0. This is an expert function.
 	 * @param defaultShader the default shader to use. This is not owned by the SpriteBatch and must be disposed separately. */
 	public SpriteBatch (int size, int buffers, ShaderProgram defaultShader) {
+		VertexDataType type = VertexDataType.VertexArray;
+		if (Gdx.gl20 != null || Gdx.gl11 != null) {
+			type = VertexDataType.StreamingVertexBufferObject;
+			buffers = 1;
+		}
 		this.buffers = new Mesh[buffers];
 
 		for (int i = 0; i < buffers; i++) {
-			this.buffers[i] = new Mesh(VertexDataType.VertexArray, false, size * 4, size * 6, new VertexAttribute(Usage.Position, 2,
+			this.buffers[i] = new Mesh(type, false, size * 4, size * 6, new VertexAttribute(Usage.Position, 2,
 				ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
 				new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
 		}
@@ -246,6 +266,7 @@ public class SpriteBatch implements Disposable {
 		setupMatrices();
 
 		idx = 0;
+		transformedIdx = 0;
 		lastTexture = null;
 		drawing = true;
 	}
@@ -257,6 +278,7 @@ public class SpriteBatch implements Disposable {
 		if (idx > 0) renderMesh();
 		lastTexture = null;
 		idx = 0;
+		transformedIdx = 0;
 		drawing = false;
 
 		GLCommon gl = Gdx.gl;
@@ -1021,6 +1043,7 @@ public class SpriteBatch implements Disposable {
 
 	private void renderMesh () {
 		if (idx == 0) return;
+		if (cpuTransform) applyCpuTransform();
 
 		renderCalls++;
 		totalRenderCalls++;
@@ -1029,8 +1052,6 @@ public class SpriteBatch implements Disposable {
 
 		lastTexture.bind();
 		mesh.setVertices(vertices, 0, idx);
-		mesh.getIndicesBuffer().position(0);
-		mesh.getIndicesBuffer().limit(spritesInBatch * 6); 
 
 		if (blendingDisabled) {
 			Gdx.gl.glDisable(GL20.GL_BLEND);
@@ -1049,11 +1070,73 @@ public class SpriteBatch implements Disposable {
 		}
 
 		idx = 0;
+		transformedIdx = 0;
 		currBufferIdx++;
 		if (currBufferIdx == buffers.length) currBufferIdx = 0;
 		mesh = buffers[currBufferIdx];
 	}
 
+	/** Sets the transform that is applied on the CPU to the vertices of everything drawn until the next call to
+	 * {@link #pushTransform(Matrix3)} or {@link #popTransform()}, saving the current one. Only the 2D affine part of the matrix is
+	 * used. It is applied before the {@link #setTransformMatrix(Matrix4) transform matrix}.
+	 * <p>
+	 * Unlike changing the transform matrix, this doesn't flush the batch, so sprites drawn with different transforms can be rendered
+	 * with a single draw call. The cost is transforming the four vertices of each sprite drawn while a transform other than the
+	 * identity is set.
+	 * @param transform the transform to use, which replaces the current one rather than being combined with it */
+	public void pushTransform (Matrix3 transform) {
+		applyCpuTransform();
+		FloatArray stack = transformStack;
+		stack.add(m00);
+		stack.add(m01);
+		stack.add(m02);
+		stack.add(m10);
+		stack.add(m11);
+		stack.add(m12);
+		float[] val = transform.val;
+		setCpuTransform(val[Matrix3.M00], val[Matrix3.M01], val[Matrix3.M02], val[Matrix3.M10], val[Matrix3.M11],
+			val[Matrix3.M12]);
+	}
+
+	/** Restores the transform that was set before the last call to {@link #pushTransform(Matrix3)}. */
+	public void popTransform () {
+		FloatArray stack = transformStack;
+		if (stack.size == 0) throw new IllegalStateException("popTransform called without a matching pushTransform.");
+		applyCpuTransform();
+		float m12 = stack.pop(), m11 = stack.pop(), m10 = stack.pop();
+		float m02 = stack.pop(), m01 = stack.pop(), m00 = stack.pop();
+		setCpuTransform(m00, m01, m02, m10, m11, m12);
+	}
+
+	/** Returns the number of transforms pushed with {@link #pushTransform(Matrix3)} that have not been popped. */
+	public int getTransformDepth () {
+		return transformStack.size / 6;
+	}
+
+	private void setCpuTransform (float m00, float m01, float m02, float m10, float m11, float m12) {
+		this.m00 = m00;
+		this.m01 = m01;
+		this.m02 = m02;
+		this.m10 = m10;
+		this.m11 = m11;
+		this.m12 = m12;
+		cpuTransform = m00 != 1 || m01 != 0 || m02 != 0 || m10 != 0 || m11 != 1 || m12 != 0;
+	}
+
+	/** Transforms the vertices drawn since the CPU transform last changed. */
+	private void applyCpuTransform () {
+		if (cpuTransform) {
+			float[] vertices = this.vertices;
+			float m00 = this.m00, m01 = this.m01, m02 = this.m02, m10 = this.m10, m11 = this.m11, m12 = this.m12;
+			for (int i = transformedIdx, n = idx; i < n; i += 5) {
+				float x = vertices[i], y = vertices[i + 1];
+				vertices[i] = m00 * x + m01 * y + m02;
+				vertices[i + 1] = m10 * x + m11 * y + m12;
+			}
+		}
+		transformedIdx = idx;
+	}
+
 	/** Disables blending for drawing sprites. Does not disable blending for text rendering */
 	public void disableBlending () {
 		renderMesh();
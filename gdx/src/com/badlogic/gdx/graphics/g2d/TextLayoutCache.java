@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont.HAlignment;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.TextBounds;
+import com.badlogic.gdx.utils.NumberUtils;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** A size bounded, least recently used cache of laid out text. Each entry stores the glyph vertices for a string as
+ * {@link BitmapFontCache} would compute them at position 0,0, along with the text bounds. Widgets showing the same text, or
+ * relaying out text that hasn't changed, can copy the vertices with {@link BitmapFontCache#setText(TextLayout, float, float)}
+ * instead of measuring and laying out every glyph again.
+ * <p>
+ * Entries are keyed by the font, its scale, the text, the wrap width and the alignment. Looking up an entry does not allocate;
+ * adding one copies the text to a String. A returned layout is only valid until the next lookup, as it may be discarded and
+ * reused for other text. Entries depend on the font's glyphs, so {@link #clear()} should be called if a font's data is
+ * changed other than by scaling it. */
+public class TextLayoutCache {
+	/** The maximum number of entries. When exceeded, the least recently used entry is discarded. */
+	public final int maxEntries;
+
+	private final ObjectMap<TextLayout, TextLayout> entries;
+	private final ObjectMap<BitmapFont, BitmapFontCache> builders = new ObjectMap();
+	private final TextLayout lookup = new TextLayout();
+	/** Doubly linked list of entries, most recently used first. */
+	private TextLayout head, tail;
+
+	/** The number of lookups that found an entry, that had to lay out the text, and the number of entries discarded. */
+	public int hits, misses, evictions;
+
+	public TextLayoutCache (int maxEntries) {
+		if (maxEntries < 1) throw new IllegalArgumentException("maxEntries must be > 0: " + maxEntries);
+		this.maxEntries = maxEntries;
+		entries = new ObjectMap(Math.min(maxEntries, 1024));
+	}
+
+	/** Returns the layout of text which may contain newlines (\n), each line aligned within the width of the text's bounds.
+	 * @see BitmapFontCache#setMultiLineText(CharSequence, float, float, float, HAlignment) */
+	public TextLayout getMultiLine (BitmapFont font, CharSequence text, HAlignment alignment) {
+		return get(font, text, false, 0, alignment);
+	}
+
+	/** Returns the layout of text which may contain newlines (\n) and is wrapped to keep it within the specified width. Each line
+	 * is aligned within the width of the wrapped text's bounds.
+	 * @param wrapWidth The width to wrap at, or <= 0 to only wrap at newlines.
+	 * @see BitmapFontCache#setWrappedText(CharSequence, float, float, float, HAlignment) */
+	public TextLayout getWrapped (BitmapFont font, CharSequence text, float wrapWidth, HAlignment alignment) {
+		return get(font, text, true, wrapWidth, alignment);
+	}
+
+	private TextLayout get (BitmapFont font, CharSequence text, boolean wrap, float wrapWidth, HAlignment alignment) {
+		if (font == null) throw new IllegalArgumentException("font cannot be null.");
+		if (text == null) throw new IllegalArgumentException("text cannot be null.");
+		TextLayout lookup = this.lookup;
+		lookup.set(font, text, wrap, wrap ? wrapWidth : 0, alignment);
+		TextLayout layout = entries.get(lookup);
+		lookup.text = null;
+		if (layout != null) {
+			hits++;
+			if (layout != head) {
+				unlink(layout);
+				link(layout);
+			}
+			return layout;
+		}
+		misses++;
+
+		if (entries.size >= maxEntries) {
+			// Reuse the least recently used entry, and its vertices.
+			layout = tail;
+			unlink(layout);
+			entries.remove(layout);
+			evictions++;
+		} else
+			layout = new TextLayout();
+		layout.set(font, text.toString(), wrap, lookup.wrapWidth, alignment);
+		build(layout);
+		entries.put(layout, layout);
+		link(layout);
+		return layout;
+	}
+
+	private void build (TextLayout layout) {
+		BitmapFont font = layout.font;
+		BitmapFontCache builder = builders.get(font);
+		if (builder == null) {
+			// Positions are kept fractional so they can be rounded after being translated.
+			builder = new BitmapFontCache(font, false);
+			builders.put(font, builder);
+		}
+		CharSequence text = layout.text;
+		if (layout.wrap) {
+			layout.bounds.set(font.getWrappedBounds(text, layout.wrapWidth));
+			builder.setWrappedText(text, 0, 0, layout.bounds.width, layout.alignment);
+		} else {
+			layout.bounds.set(font.getMultiLineBounds(text));
+			builder.setMultiLineText(text, 0, 0, layout.bounds.width, layout.alignment);
+		}
+		int count = builder.idx;
+		if (layout.vertices.length < count) layout.vertices = new float[count];
+		System.arraycopy(builder.vertices, 0, layout.vertices, 0, count);
+		layout.vertexCount = count;
+	}
+
+	private void link (TextLayout layout) {
+		layout.prev = null;
+		layout.next = head;
+		if (head != null) head.prev = layout;
+		head = layout;
+		if (tail == null) tail = layout;
+	}
+
+	private void unlink (TextLayout layout) {
+		if (layout.prev != null)
+			layout.prev.next = layout.next;
+		else
+			head = layout.next;
+		if (layout.next != null)
+			layout.next.prev = layout.prev;
+		else
+			tail = layout.prev;
+		layout.prev = null;
+		layout.next = null;
+	}
+
+	/** Returns the number of entries in the cache. */
+	public int size () {
+		return entries.size;
+	}
+
+	/** Returns the fraction of lookups since the counters were last reset that found an entry, or 0 if there were none. */
+	public float getHitRate () {
+		int total = hits + misses;
+		return total == 0 ? 0 : hits / (float)total;
+	}
+
+	public void resetCounters () {
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+
+	/** Discards all entries and the per font state used to build them. */
+	public void clear () {
+		entries.clear();
+		builders.clear();
+		head = null;
+		tail = null;
+	}
+
+	/** Laid out text, see {@link TextLayoutCache}. */
+	static public class TextLayout {
+		BitmapFont font;
+		CharSequence text;
+		boolean wrap;
+		float wrapWidth, scaleX, scaleY;
+		HAlignment alignment;
+		int hashCode;
+		TextLayout prev, next;
+
+		/** The bounds of the text, as returned by {@link BitmapFont#getMultiLineBounds(CharSequence)} or
+		 * {@link BitmapFont#getWrappedBounds(CharSequence, float)}. */
+		public final TextBounds bounds = new TextBounds();
+		/** The glyph vertices for the text positioned at 0,0. Only the first {@link #vertexCount} values are used. */
+		public float[] vertices = new float[0];
+		public int vertexCount;
+
+		void set (BitmapFont font, CharSequence text, boolean wrap, float wrapWidth, HAlignment alignment) {
+			this.font = font;
+			this.text = text;
+			this.wrap = wrap;
+			this.wrapWidth = wrapWidth;
+			this.alignment = alignment;
+			scaleX = font.getScaleX();
+			scaleY = font.getScaleY();
+
+			int hashCode = 0;
+			for (int i = 0, n = text.length(); i < n; i++)
+				hashCode = 31 * hashCode + text.charAt(i);
+			hashCode = 31 * hashCode + System.identityHashCode(font);
+			hashCode = 31 * hashCode + NumberUtils.floatToIntBits(wrapWidth);
+			hashCode = 31 * hashCode + NumberUtils.floatToIntBits(scaleX);
+			hashCode = 31 * hashCode + NumberUtils.floatToIntBits(scaleY);
+			hashCode = 31 * hashCode + alignment.ordinal();
+			this.hashCode = wrap ? hashCode : ~hashCode;
+		}
+
+		public CharSequence getText () {
+			return text;
+		}
+
+		public BitmapFont getFont () {
+			return font;
+		}
+
+		public int hashCode () {
+			return hashCode;
+		}
+
+		public boolean equals (Object obj) {
+			if (this == obj) return true;
+			if (!(obj instanceof TextLayout)) return false;
+			TextLayout other = (TextLayout)obj;
+			if (hashCode != other.hashCode) return false;
+			if (font != other.font || wrap != other.wrap || alignment != other.alignment) return false;
+			if (wrapWidth != other.wrapWidth || scaleX != other.scaleX || scaleY != other.scaleY) return false;
+			CharSequence text = this.text, otherText = other.text;
+			int length = text.length();
+			if (length != otherText.length()) return false;
+			for (int i = 0; i < length; i++)
+				if (text.charAt(i) != otherText.charAt(i)) return false;
+			return true;
+		}
+	}
+}
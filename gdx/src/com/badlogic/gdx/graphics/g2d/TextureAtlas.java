@@ -33,6 +33,7 @@ import com.badlogic.gdx.graphics.Pixmap.Format;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.Texture.TextureWrap;
+import com.badlogic.gdx.graphics.TextureData;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Page;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Region;
 import com.badlogic.gdx.utils.Array;
@@ -43,6 +44,10 @@ import com.badlogic.gdx.utils.ObjectMap;
 import static com.badlogic.gdx.graphics.Texture.TextureWrap.*;
 
 /** Loads images from texture atlases created by TexturePacker.<br>
+ * <br>
+ * Regions are indexed by name when they are loaded or added, so looking them up is cheap. {@link #getRegions(String)} returns
+ * the regions with a name without copying them, and a {@link RegionHandle} finds its region again after the atlas is
+ * {@link #reload(TextureAtlasData) reloaded}.<br>
  * <br>
  * A TextureAtlas must be disposed to free up the resources consumed by the backing textures.
  * @author Nathan Sweet */
@@ -51,11 +56,18 @@ public class TextureAtlas implements Disposable {
 
 	private final HashSet<Texture> textures = new HashSet(4);
 	private final ArrayList<AtlasRegion> regions = new ArrayList<AtlasRegion>();
+	/** The regions for each name, ordered by smallest to largest index. */
+	private final ObjectMap<String, Array<AtlasRegion>> namedRegions = new ObjectMap();
+	/** Incremented when regions are loaded or added, so handles know to find their region again. */
+	int generation;
 
 	public static class TextureAtlasData {
 		public static class Page {
 			public final FileHandle textureFile;
 			public Texture texture;
+			/** The decoded image of the page, set by {@link TextureAtlasData#decodePages()}. The texture for the page is created from
+			 * it when the atlas is loaded. */
+			public TextureData textureData;
 			public final boolean useMipMaps;
 			public final Format format;
 			public final TextureFilter minFilter;
@@ -93,6 +105,9 @@ public class TextureAtlas implements Disposable {
 
 		final Array<Page> pages = new Array<Page>();
 		final Array<Region> regions = new Array<Region>();
+		/** If true, the contents of each page image file are kept in memory when the pages are decoded, so the textures can be
+		 * restored after the OpenGL context is lost without reading the files again. */
+		public boolean retainEncodedData;
 
 		public TextureAtlasData (FileHandle packFile, FileHandle imagesDir, boolean flip) {
 			PriorityQueue<Region> sortedRegions = new PriorityQueue(16, indexComparator);
@@ -181,6 +196,14 @@ public class TextureAtlas implements Disposable {
 			return pages;
 		}
 
+		/** Decodes the images of the pages that don't have a texture yet on multiple threads, blocking until all are decoded. This
+		 * doesn't use OpenGL, so it can be called on any thread before the atlas is created on the rendering thread. All the decoded
+		 * pages are held in memory until the atlas is created. If it isn't called, the atlas decodes only a few pages at a time
+		 * while it is loaded. */
+		public void decodePages () {
+			AtlasPageDecoder.decode(this, 0, pages.size);
+		}
+
 		public Array<Region> getRegions () {
 			return regions;
 		}
@@ -222,10 +245,15 @@ public class TextureAtlas implements Disposable {
 
 	private void load (TextureAtlasData data) {
 		ObjectMap<Page, Texture> pageToTexture = new ObjectMap<Page, Texture>();
-		for (Page page : data.pages) {
+		for (int i = 0, n = data.pages.size; i < n; i++) {
+			Page page = data.pages.get(i);
 			Texture texture = null;
 			if (page.texture == null) {
-				texture = new Texture(page.textureFile, page.format, page.useMipMaps);
+				// Decode the next pages in parallel, but only as many as are decoded at once, so the decoded pages are uploaded and
+				// released before more are decoded.
+				if (page.textureData == null) AtlasPageDecoder.decode(data, i, AtlasPageDecoder.threads);
+				texture = new Texture(page.textureData);
+				page.textureData = null;
 				texture.setFilter(page.minFilter, page.magFilter);
 				texture.setWrap(page.uWrap, page.vWrap);
 			} else {
@@ -249,7 +277,29 @@ public class TextureAtlas implements Disposable {
 			atlasRegion.rotate = region.rotate;
 			if (region.flip) atlasRegion.flip(false, true);
 			regions.add(atlasRegion);
+			index(atlasRegion);
+		}
+		generation++;
+	}
+
+	/** Adds the region to the regions with its name. The regions are loaded in index order, so this keeps them ordered. */
+	private void index (AtlasRegion region) {
+		Array<AtlasRegion> named = namedRegions.get(region.name);
+		if (named == null) {
+			named = new Array(2);
+			namedRegions.put(region.name, named);
 		}
+		named.add(region);
+	}
+
+	/** Replaces the textures and regions of this atlas with the ones from the specified data. The current textures are disposed,
+	 * so regions and sprites obtained from this atlas before should no longer be used, while {@link RegionHandle}s will find their
+	 * region again. */
+	public void reload (TextureAtlasData data) {
+		dispose();
+		regions.clear();
+		namedRegions.clear();
+		load(data);
 	}
 
 	/** Adds a region to the atlas. The specified texture will be disposed when the atlas is disposed. */
@@ -261,6 +311,8 @@ public class TextureAtlas implements Disposable {
 		region.originalHeight = height;
 		region.index = -1;
 		regions.add(region);
+		index(region);
+		generation++;
 		return region;
 	}
 
@@ -275,39 +327,57 @@ public class TextureAtlas implements Disposable {
 		return regions;
 	}
 
-	/** Returns the first region found with the specified name. This method uses string comparison to find the region, so the result
-	 * should be cached rather than calling this method multiple times.
+	/** Returns all regions with the specified name, ordered by smallest to largest {@link AtlasRegion#index index}. The returned
+	 * array is used internally by the atlas and must not be modified.
+	 * @return The regions, or null if there are none. */
+	public Array<AtlasRegion> getRegions (String name) {
+		return namedRegions.get(name);
+	}
+
+	/** Returns the first region found with the specified name.
 	 * @return The region, or null. */
 	public AtlasRegion findRegion (String name) {
-		for (int i = 0, n = regions.size(); i < n; i++)
-			if (regions.get(i).name.equals(name)) return regions.get(i);
-		return null;
+		Array<AtlasRegion> named = namedRegions.get(name);
+		if (named == null) return null;
+		return named.get(0);
 	}
 
-	/** Returns the first region found with the specified name and index. This method uses string comparison to find the region, so
-	 * the result should be cached rather than calling this method multiple times.
+	/** Returns the first region found with the specified name and index.
 	 * @return The region, or null. */
 	public AtlasRegion findRegion (String name, int index) {
-		for (int i = 0, n = regions.size(); i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (!region.name.equals(name)) continue;
-			if (region.index != index) continue;
-			return region;
+		Array<AtlasRegion> named = namedRegions.get(name);
+		if (named == null) return null;
+		for (int i = 0, n = named.size; i < n; i++) {
+			AtlasRegion region = named.get(i);
+			if (region.index == index) return region;
 		}
 		return null;
 	}
 
-	/** Returns all regions with the specified name, ordered by smallest to largest {@link AtlasRegion#index index}. This method
-	 * uses string comparison to find the regions, so the result should be cached rather than calling this method multiple times. */
+	/** Returns copies of all regions with the specified name, ordered by smallest to largest {@link AtlasRegion#index index}. This
+	 * method creates new regions, so the result should be cached rather than calling this method multiple times.
+	 * @see #getRegions(String) */
 	public List<AtlasRegion> findRegions (String name) {
-		ArrayList<AtlasRegion> matched = new ArrayList();
-		for (int i = 0, n = regions.size(); i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.name.equals(name)) matched.add(new AtlasRegion(region));
-		}
+		Array<AtlasRegion> named = namedRegions.get(name);
+		if (named == null) return new ArrayList();
+		ArrayList<AtlasRegion> matched = new ArrayList(named.size);
+		for (int i = 0, n = named.size; i < n; i++)
+			matched.add(new AtlasRegion(named.get(i)));
 		return matched;
 	}
 
+	/** Returns a handle to the first region with the specified name. Unlike the region itself, the handle remains valid when the
+	 * atlas is {@link #reload(TextureAtlasData) reloaded}. */
+	public RegionHandle getHandle (String name) {
+		return new RegionHandle(this, name, RegionHandle.ANY_INDEX);
+	}
+
+	/** Returns a handle to the region with the specified name and index.
+	 * @see #getHandle(String) */
+	public RegionHandle getHandle (String name, int index) {
+		return new RegionHandle(this, name, index);
+	}
+
 	/** Returns all regions in the atlas as sprites. This method creates a new sprite for each region, so the result should be
 	 * stored rather than calling this method multiple times.
 	 * @see #createSprite(String) */
@@ -319,39 +389,34 @@ public class TextureAtlas implements Disposable {
 	}
 
 	/** Returns the first region found with the specified name as a sprite. If whitespace was stripped from the region when it was
-	 * packed, the sprite is automatically positioned as if whitespace had not been stripped. This method uses string comparison to
-	 * find the region and constructs a new sprite, so the result should be cached rather than calling this method multiple times.
+	 * packed, the sprite is automatically positioned as if whitespace had not been stripped. This method constructs a new sprite,
+	 * so the result should be cached rather than calling this method multiple times.
 	 * @return The sprite, or null. */
 	public Sprite createSprite (String name) {
-		for (int i = 0, n = regions.size(); i < n; i++)
-			if (regions.get(i).name.equals(name)) return newSprite(regions.get(i));
-		return null;
+		AtlasRegion region = findRegion(name);
+		if (region == null) return null;
+		return newSprite(region);
 	}
 
-	/** Returns the first region found with the specified name and index as a sprite. This method uses string comparison to find the
-	 * region and constructs a new sprite, so the result should be cached rather than calling this method multiple times.
+	/** Returns the first region found with the specified name and index as a sprite. This method constructs a new sprite, so the
+	 * result should be cached rather than calling this method multiple times.
 	 * @return The sprite, or null.
 	 * @see #createSprite(String) */
 	public Sprite createSprite (String name, int index) {
-		for (int i = 0, n = regions.size(); i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (!region.name.equals(name)) continue;
-			if (region.index != index) continue;
-			return newSprite(regions.get(i));
-		}
-		return null;
+		AtlasRegion region = findRegion(name, index);
+		if (region == null) return null;
+		return newSprite(region);
 	}
 
 	/** Returns all regions with the specified name as sprites, ordered by smallest to largest {@link AtlasRegion#index index}. This
-	 * method uses string comparison to find the regions and constructs new sprites, so the result should be cached rather than
-	 * calling this method multiple times.
+	 * method constructs new sprites, so the result should be cached rather than calling this method multiple times.
 	 * @see #createSprite(String) */
 	public List<Sprite> createSprites (String name) {
-		ArrayList<Sprite> matched = new ArrayList();
-		for (int i = 0, n = regions.size(); i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.name.equals(name)) matched.add(newSprite(region));
-		}
+		Array<AtlasRegion> named = namedRegions.get(name);
+		if (named == null) return new ArrayList();
+		ArrayList<Sprite> matched = new ArrayList(named.size);
+		for (int i = 0, n = named.size; i < n; i++)
+			matched.add(newSprite(named.get(i)));
 		return matched;
 	}
 
@@ -409,6 +474,47 @@ public class TextureAtlas implements Disposable {
 		tuple[1] = line.substring(comma + 1).trim();
 	}
 
+	/** A reference to a region of an atlas by name and index, which finds the region again when the atlas is
+	 * {@link TextureAtlas#reload(TextureAtlasData) reloaded} or regions are added.
+	 * @see TextureAtlas#getHandle(String, int) */
+	static public class RegionHandle {
+		static final int ANY_INDEX = Integer.MIN_VALUE;
+
+		private final TextureAtlas atlas;
+		private final String name;
+		private final int index;
+		private AtlasRegion region;
+		private int generation = -1;
+
+		RegionHandle (TextureAtlas atlas, String name, int index) {
+			if (name == null) throw new IllegalArgumentException("name cannot be null.");
+			this.atlas = atlas;
+			this.name = name;
+			this.index = index;
+		}
+
+		/** Returns the current region, or null if the atlas has no region with the name and index. */
+		public AtlasRegion get () {
+			if (generation != atlas.generation) {
+				region = index == ANY_INDEX ? atlas.findRegion(name) : atlas.findRegion(name, index);
+				generation = atlas.generation;
+			}
+			return region;
+		}
+
+		public TextureAtlas getAtlas () {
+			return atlas;
+		}
+
+		public String getName () {
+			return name;
+		}
+
+		public String toString () {
+			return index == ANY_INDEX ? name : name + "_" + index;
+		}
+	}
+
 	/** Describes the region of a packed image and provides information about the original image before it was packed. */
 	static public class AtlasRegion extends TextureRegion {
 		/** The number at the end of the original image file name, or -1 if none.<br>
@@ -28,6 +28,7 @@ import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntSet;
 
 /** A renderer for Tiled maps backed with a Sprite Cache.
  * @author David Fraska */
@@ -46,7 +47,7 @@ public class TileMapRenderer implements Disposable {
 	private int[] allLayers;
 	private boolean isSimpleTileAtlas = false;
 
-	private IntArray blendedTiles;
+	private IntSet blendedTiles;
 
 	/** A renderer for static tile maps backed with a Sprite Cache.
 	 * 
@@ -185,7 +186,8 @@ public class TileMapRenderer implements Disposable {
 		this.unitsPerTileX = unitsPerTileX;
 		this.unitsPerTileY = unitsPerTileY;
 
-		this.blendedTiles = blendedTiles;
+		this.blendedTiles = new IntSet(blendedTiles.size);
+		this.blendedTiles.addAll(blendedTiles);
 		this.tilesPerBlockX = tilesPerBlockX;
 		this.tilesPerBlockY = tilesPerBlockY;
 
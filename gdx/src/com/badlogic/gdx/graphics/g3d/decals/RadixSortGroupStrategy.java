@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.decals;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** <p>
+ * A {@link CameraGroupStrategy} meant for large numbers of decals. Instead of comparing camera distances in a comparator, a depth
+ * key is computed once per decal and the keys are radix sorted, which takes linear time.
+ * </p>
+ * <p>
+ * Transparent decals are sorted back to front. Opaque decals are bucketed by {@link DecalMaterial}, so each material is set only
+ * once per flush, and sorted front to back within their bucket to reduce overdraw.
+ * </p>
+ * <p>
+ * The time spent sorting and the total time of the last flush are available via {@link #getSortTime()} and
+ * {@link #getFlushTime()}. GL states are handled the same way as by {@link CameraGroupStrategy}.
+ * </p> */
+public class RadixSortGroupStrategy extends CameraGroupStrategy {
+	/** ranges smaller than this are insertion sorted **/
+	private static final int INSERTION_SORT_THRESHOLD = 32;
+
+	private final ObjectIntMap<DecalMaterial> materialBuckets = new ObjectIntMap<DecalMaterial>();
+	private int[] bucketStarts = new int[16];
+	private final int[] histogram = new int[256];
+	private int[] keys = new int[0];
+	private int[] tmpKeys = new int[0];
+	private int[] decalBuckets = new int[0];
+	private Decal[] decals = new Decal[0];
+	private Decal[] tmpDecals = new Decal[0];
+
+	private long flushStart;
+	private long sortTime;
+	private long lastSortTime;
+	private long lastFlushTime;
+
+	public RadixSortGroupStrategy (Camera camera) {
+		super(camera);
+	}
+
+	@Override
+	public void beforeGroup (int group, Array<Decal> contents) {
+		long start = TimeUtils.nanoTime();
+		int n = contents.size;
+		ensureCapacity(n);
+		Vector3 cameraPosition = camera.position;
+
+		if (group == GROUP_BLEND) {
+			Gdx.gl.glEnable(GL10.GL_BLEND);
+			// camera distances are positive, so their bits compare like ints, inverted they sort back to front
+			for (int i = 0; i < n; i++) {
+				Decal decal = contents.get(i);
+				decals[i] = decal;
+				keys[i] = ~Float.floatToRawIntBits(cameraPosition.dst2(decal.position));
+			}
+			sort(0, n);
+		} else {
+			// counting sort by material, buckets are numbered in order of first appearance
+			int numBuckets = 0;
+			for (int i = 0; i < n; i++) {
+				DecalMaterial material = contents.get(i).material;
+				int bucket = materialBuckets.get(material, -1);
+				if (bucket == -1) {
+					bucket = numBuckets++;
+					materialBuckets.put(material, bucket);
+					if (numBuckets == bucketStarts.length) {
+						int[] newBucketStarts = new int[numBuckets << 1];
+						System.arraycopy(bucketStarts, 0, newBucketStarts, 0, numBuckets);
+						bucketStarts = newBucketStarts;
+					}
+					bucketStarts[bucket] = 0;
+				}
+				decalBuckets[i] = bucket;
+				bucketStarts[bucket]++;
+			}
+			materialBuckets.clear();
+
+			int offset = 0;
+			for (int b = 0; b < numBuckets; b++) {
+				int count = bucketStarts[b];
+				bucketStarts[b] = offset;
+				offset += count;
+			}
+			for (int i = 0; i < n; i++) {
+				Decal decal = contents.get(i);
+				int index = bucketStarts[decalBuckets[i]]++;
+				decals[index] = decal;
+				keys[index] = Float.floatToRawIntBits(cameraPosition.dst2(decal.position));
+			}
+			// bucketStarts now hold the ends of the buckets
+			for (int b = 0, from = 0; b < numBuckets; b++) {
+				sort(from, bucketStarts[b]);
+				from = bucketStarts[b];
+			}
+		}
+
+		contents.clear();
+		contents.addAll(decals, 0, n);
+		for (int i = 0; i < n; i++)
+			decals[i] = null;
+		sortTime += TimeUtils.nanoTime() - start;
+	}
+
+	private void ensureCapacity (int size) {
+		if (keys.length >= size) return;
+		size = Math.max(size, (int)(keys.length * 1.75f));
+		keys = new int[size];
+		tmpKeys = new int[size];
+		decalBuckets = new int[size];
+		decals = new Decal[size];
+		tmpDecals = new Decal[size];
+	}
+
+	/** Sorts the decals in the range ascending by their keys, comparing them as unsigned ints. */
+	private void sort (int from, int to) {
+		if (to - from < INSERTION_SORT_THRESHOLD) {
+			insertionSort(from, to);
+			return;
+		}
+
+		int[] keys = this.keys, tmpKeys = this.tmpKeys;
+		Decal[] decals = this.decals, tmpDecals = this.tmpDecals;
+		int[] histogram = this.histogram;
+		for (int shift = 0; shift < 32; shift += 8) {
+			for (int i = 0; i < 256; i++)
+				histogram[i] = 0;
+			for (int i = from; i < to; i++)
+				histogram[(keys[i] >>> shift) & 0xff]++;
+			// skip the pass if all keys share this byte
+			if (histogram[(keys[from] >>> shift) & 0xff] == to - from) continue;
+
+			for (int i = 0, offset = from; i < 256; i++) {
+				int count = histogram[i];
+				histogram[i] = offset;
+				offset += count;
+			}
+			for (int i = from; i < to; i++) {
+				int key = keys[i];
+				int index = histogram[(key >>> shift) & 0xff]++;
+				tmpKeys[index] = key;
+				tmpDecals[index] = decals[i];
+			}
+
+			int[] swapKeys = keys;
+			keys = tmpKeys;
+			tmpKeys = swapKeys;
+			Decal[] swapDecals = decals;
+			decals = tmpDecals;
+			tmpDecals = swapDecals;
+		}
+
+		if (keys != this.keys) {
+			System.arraycopy(keys, from, this.keys, from, to - from);
+			System.arraycopy(decals, from, this.decals, from, to - from);
+		}
+		for (int i = from; i < to; i++)
+			this.tmpDecals[i] = null;
+	}
+
+	private void insertionSort (int from, int to) {
+		int[] keys = this.keys;
+		Decal[] decals = this.decals;
+		for (int i = from + 1; i < to; i++) {
+			int key = keys[i];
+			Decal decal = decals[i];
+			int j = i - 1;
+			// adding MIN_VALUE turns the unsigned comparison into a signed one
+			while (j >= from && keys[j] + Integer.MIN_VALUE > key + Integer.MIN_VALUE) {
+				keys[j + 1] = keys[j];
+				decals[j + 1] = decals[j];
+				j--;
+			}
+			keys[j + 1] = key;
+			decals[j + 1] = decal;
+		}
+	}
+
+	@Override
+	public void beforeGroups () {
+		flushStart = TimeUtils.nanoTime();
+		sortTime = 0;
+		super.beforeGroups();
+	}
+
+	@Override
+	public void afterGroups () {
+		super.afterGroups();
+		lastSortTime = sortTime;
+		lastFlushTime = TimeUtils.nanoTime() - flushStart;
+	}
+
+	/** @return the time in nanoseconds spent sorting decals during the last flush */
+	public long getSortTime () {
+		return lastSortTime;
+	}
+
+	/** @return the time in nanoseconds the last flush took, including sorting */
+	public long getFlushTime () {
+		return lastFlushTime;
+	}
+}
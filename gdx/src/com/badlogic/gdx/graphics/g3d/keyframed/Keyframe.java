@@ -19,7 +19,9 @@ package com.badlogic.gdx.graphics.g3d.keyframed;
 import com.badlogic.gdx.math.Quaternion;
 import com.badlogic.gdx.math.Vector3;
 
-/** Container for the geometry of a single animation keyframe.
+/** Container for the geometry of a single animation keyframe. Keyframes of a compressed {@link KeyframeAnimation} have no
+ * vertices but quantized positions and normals instead, see {@link KeyframeCompressor}. The indices are shared by all keyframes
+ * of an animation.
  * 
  * @author Dave Clayton <contact@redskyforge.com> */
 public class Keyframe {
@@ -28,6 +30,16 @@ public class Keyframe {
 	public boolean indicesSet = false;
 	public boolean indicesSent = false;
 
+	/** quantized positions per mesh of the first frame of a run, null for frames storing deltas **/
+	public short[][] positions = null;
+	/** quantized position deltas per mesh to the previous frame, null for the first frame of a run **/
+	public byte[][] deltas = null;
+	/** octahedron encoded normals per mesh **/
+	public byte[][] normals = null;
+	/** per mesh the minimum position followed by the quantization step per axis for the first frame of a run, the delta step
+	 * per axis for the following frames **/
+	public float[][] steps = null;
+
 	public Vector3[] taggedJointPos = null;
 	public Quaternion[] taggedJoint = null;
 }
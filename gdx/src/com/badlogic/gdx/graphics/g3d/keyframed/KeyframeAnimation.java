@@ -25,6 +25,10 @@ public class KeyframeAnimation extends Animation {
 	public float length;
 	public float sampleRate;
 	public int refs;
+	/** whether the keyframes hold compressed data, see {@link #compress()} **/
+	public boolean compressed;
+	/** texture coordinates per mesh, shared by all keyframes of a compressed animation **/
+	public float[][] texCoords;
 
 	public KeyframeAnimation (String name, int frames, float length, float sampleRate) {
 		this.name = name;
@@ -44,6 +48,12 @@ public class KeyframeAnimation extends Animation {
 		return keyframes.length;
 	}
 
+	/** Replaces the vertices of all keyframes with quantized, delta encoded positions and normals. The {@link KeyframeAnimator}
+	 * decodes the frames it interpolates on the fly. */
+	public void compress () {
+		KeyframeCompressor.compress(this);
+	}
+
 	public void addRef () {
 		refs++;
 	}
@@ -16,12 +16,14 @@
 
 package com.badlogic.gdx.graphics.g3d.keyframed;
 
+import com.badlogic.gdx.graphics.g3d.Animation;
 import com.badlogic.gdx.graphics.g3d.Animator;
 import com.badlogic.gdx.graphics.g3d.loaders.md5.MD5Quaternion;
 import com.badlogic.gdx.math.Quaternion;
 import com.badlogic.gdx.math.Vector3;
 
-/** An animation controller for keyframed animations.
+/** An animation controller for keyframed animations. Frames of compressed {@link KeyframeAnimation}s are decoded on the fly when
+ * the interpolated frames change, consecutive frames only need their deltas applied.
  * 
  * @author Dave Clayton <contact@redskyforge.com> */
 public class KeyframeAnimator extends Animator {
@@ -35,6 +37,14 @@ public class KeyframeAnimator extends Animator {
 	private int numMeshes = 0;
 	private float invSampleRate = 0;
 
+	// decoded frames of compressed animations
+	private Keyframe decodedA = null;
+	private Keyframe decodedB = null;
+	private int decodedAIdx = -1;
+	private int decodedBIdx = -1;
+	private float[][] cursor = null;
+	private int cursorFrame = -1;
+
 	/** Get the current {@link Keyframe}.
 	 * @return the current keyframe. */
 	public Keyframe getInterpolatedKeyframe () {
@@ -51,6 +61,15 @@ public class KeyframeAnimator extends Animator {
 		this.R.vertices = new float[numMeshes][];
 		this.R.indices = new short[numMeshes][];
 		this.invSampleRate = 1.f / sampleRate;
+		this.decodedA = newDecodedKeyframe(numMeshes);
+		this.decodedB = newDecodedKeyframe(numMeshes);
+		this.cursor = new float[numMeshes][];
+	}
+
+	private static Keyframe newDecodedKeyframe (int numMeshes) {
+		Keyframe k = new Keyframe();
+		k.vertices = new float[numMeshes][];
+		return k;
 	}
 
 	/** Set the result (interpolated) keyframe internal array dimensions.
@@ -74,10 +93,55 @@ public class KeyframeAnimator extends Animator {
 			R.taggedJoint[i] = new Quaternion(0, 0, 0, 0);
 	}
 
+	@Override
+	public void setAnimation (Animation anim, WrapMode mode) {
+		super.setAnimation(anim, mode);
+		decodedAIdx = decodedBIdx = cursorFrame = -1;
+	}
+
 	@Override
 	protected void setInterpolationFrames () {
-		A = ((KeyframeAnimation)mCurrentAnim).keyframes[mCurrentFrameIdx];
-		B = ((KeyframeAnimation)mCurrentAnim).keyframes[mNextFrameIdx];
+		KeyframeAnimation anim = (KeyframeAnimation)mCurrentAnim;
+		if (!anim.compressed) {
+			A = anim.keyframes[mCurrentFrameIdx];
+			B = anim.keyframes[mNextFrameIdx];
+			return;
+		}
+
+		if (decodedAIdx != mCurrentFrameIdx) {
+			if (decodedBIdx == mCurrentFrameIdx) {
+				Keyframe tmp = decodedA;
+				decodedA = decodedB;
+				decodedB = tmp;
+				decodedBIdx = decodedAIdx;
+				decodedAIdx = mCurrentFrameIdx;
+			} else {
+				decode(anim, mCurrentFrameIdx, decodedA);
+				decodedAIdx = mCurrentFrameIdx;
+			}
+		}
+		if (decodedBIdx != mNextFrameIdx) {
+			decode(anim, mNextFrameIdx, decodedB);
+			decodedBIdx = mNextFrameIdx;
+		}
+		A = decodedA;
+		B = decodedB;
+	}
+
+	private void decode (KeyframeAnimation anim, int frame, Keyframe out) {
+		Keyframe k = anim.keyframes[frame];
+		for (int i = 0; i < numMeshes; i++) {
+			int numVertices = anim.texCoords[i].length / 2;
+			if (cursor[i] == null || cursor[i].length != numVertices * 3) cursor[i] = new float[numVertices * 3];
+			if (out.vertices[i] == null || out.vertices[i].length != numVertices * sStride)
+				out.vertices[i] = new float[numVertices * sStride];
+			KeyframeCompressor.seek(anim, i, cursor[i], cursorFrame, frame);
+			KeyframeCompressor.decode(anim, i, cursor[i], frame, out.vertices[i]);
+		}
+		cursorFrame = frame;
+		out.indices = k.indices;
+		out.taggedJointPos = k.taggedJointPos;
+		out.taggedJoint = k.taggedJoint;
 	}
 
 	static MD5Quaternion jointAOrient = new MD5Quaternion();
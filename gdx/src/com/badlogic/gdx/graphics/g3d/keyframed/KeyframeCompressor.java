@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.keyframed;
+
+/** Converts the sampled {@link Keyframe}s of a {@link KeyframeAnimation} into a compressed representation. Texture coordinates
+ * are stored once per mesh. The first frame of a run stores its positions quantized to 16 bits relative to the frame's bounds,
+ * the following frames store 8 bit deltas to the reconstructed previous frame with a per frame step size, so quantization errors
+ * don't accumulate. A new run starts when the deltas of a frame would lose too much precision or after {@link #MAX_RUN_LENGTH}
+ * frames. Normals are octahedron encoded into two bytes. */
+class KeyframeCompressor {
+	/** the maximum number of frames decoded to reach a frame **/
+	static final int MAX_RUN_LENGTH = 16;
+	/** the maximum ratio between the delta step and the largest step of the key frame of a run **/
+	static final float MAX_DELTA_STEP_RATIO = 16;
+	static final int STRIDE = KeyframeAnimator.sStride;
+	static final int QUANT_STEPS = 65535;
+
+	static void compress (KeyframeAnimation anim) {
+		if (anim.compressed) return;
+		Keyframe[] frames = anim.keyframes;
+		int numMeshes = frames[0].vertices.length;
+
+		for (int i = 0; i < frames.length; i++) {
+			Keyframe k = frames[i];
+			k.positions = new short[numMeshes][];
+			k.deltas = new byte[numMeshes][];
+			k.normals = new byte[numMeshes][];
+			k.steps = new float[numMeshes][];
+		}
+
+		anim.texCoords = new float[numMeshes][];
+		for (int m = 0; m < numMeshes; m++) {
+			float[] vertices = frames[0].vertices[m];
+			int numVertices = vertices.length / STRIDE;
+			float[] texCoords = new float[numVertices * 2];
+			for (int v = 0, n = 0; n < vertices.length; v += 2, n += STRIDE) {
+				texCoords[v] = vertices[n + 3];
+				texCoords[v + 1] = vertices[n + 4];
+			}
+			anim.texCoords[m] = texCoords;
+
+			float[] positions = new float[numVertices * 3];
+			float maxStep = 0;
+			int runLength = 0;
+			for (int i = 0; i < frames.length; i++) {
+				Keyframe k = frames[i];
+				// the first frame always starts a run, seek relies on finding one at or before every frame
+				if (i == 0 || runLength == MAX_RUN_LENGTH || !encodeDeltas(k, m, positions, maxStep * MAX_DELTA_STEP_RATIO)) {
+					encodePositions(k, m, positions);
+					float[] steps = k.steps[m];
+					maxStep = Math.max(steps[3], Math.max(steps[4], steps[5]));
+					runLength = 0;
+				}
+				k.normals[m] = encodeNormals(k.vertices[m]);
+				runLength++;
+			}
+		}
+
+		for (int i = 0; i < frames.length; i++)
+			frames[i].vertices = null;
+		anim.compressed = true;
+	}
+
+	/** Quantizes the positions of a mesh relative to the bounds of the keyframe and stores the reconstructed positions. */
+	private static void encodePositions (Keyframe k, int mesh, float[] positions) {
+		float[] vertices = k.vertices[mesh];
+		float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE, minZ = Float.MAX_VALUE;
+		float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE, maxZ = -Float.MAX_VALUE;
+		for (int n = 0; n < vertices.length; n += STRIDE) {
+			minX = Math.min(minX, vertices[n]);
+			minY = Math.min(minY, vertices[n + 1]);
+			minZ = Math.min(minZ, vertices[n + 2]);
+			maxX = Math.max(maxX, vertices[n]);
+			maxY = Math.max(maxY, vertices[n + 1]);
+			maxZ = Math.max(maxZ, vertices[n + 2]);
+		}
+		float[] steps = {minX, minY, minZ, (maxX - minX) / QUANT_STEPS, (maxY - minY) / QUANT_STEPS, (maxZ - minZ) / QUANT_STEPS};
+
+		short[] quantized = new short[positions.length];
+		for (int n = 0, q = 0; n < vertices.length; n += STRIDE, q += 3) {
+			for (int c = 0; c < 3; c++) {
+				float step = steps[3 + c];
+				int value = step > 0 ? Math.round((vertices[n + c] - steps[c]) / step) : 0;
+				value = value < 0 ? 0 : value > QUANT_STEPS ? QUANT_STEPS : value;
+				quantized[q + c] = (short)(value - 32768);
+				positions[q + c] = steps[c] + value * step;
+			}
+		}
+		k.positions[mesh] = quantized;
+		k.steps[mesh] = steps;
+	}
+
+	/** Encodes the positions of a mesh as deltas to the reconstructed positions of the previous frame and updates them. Fails
+	 * without modifying anything if the delta step size of an axis would exceed maxStep. */
+	private static boolean encodeDeltas (Keyframe k, int mesh, float[] positions, float maxStep) {
+		float[] vertices = k.vertices[mesh];
+		float[] steps = new float[3];
+		for (int n = 0, q = 0; n < vertices.length; n += STRIDE, q += 3)
+			for (int c = 0; c < 3; c++)
+				steps[c] = Math.max(steps[c], Math.abs(vertices[n + c] - positions[q + c]));
+		for (int c = 0; c < 3; c++) {
+			steps[c] /= 127;
+			if (steps[c] > maxStep) return false;
+		}
+
+		byte[] deltas = new byte[positions.length];
+		for (int n = 0, q = 0; n < vertices.length; n += STRIDE, q += 3) {
+			for (int c = 0; c < 3; c++) {
+				float step = steps[c];
+				int delta = step > 0 ? Math.round((vertices[n + c] - positions[q + c]) / step) : 0;
+				delta = delta < -127 ? -127 : delta > 127 ? 127 : delta;
+				deltas[q + c] = (byte)delta;
+				positions[q + c] += delta * step;
+			}
+		}
+		k.deltas[mesh] = deltas;
+		k.steps[mesh] = steps;
+		return true;
+	}
+
+	private static byte[] encodeNormals (float[] vertices) {
+		byte[] normals = new byte[vertices.length / STRIDE * 2];
+		for (int n = 0, q = 0; n < vertices.length; n += STRIDE, q += 2) {
+			float x = vertices[n + 5], y = vertices[n + 6], z = vertices[n + 7];
+			float len = Math.abs(x) + Math.abs(y) + Math.abs(z);
+			if (len == 0) len = 1;
+			x /= len;
+			y /= len;
+			if (z < 0) {
+				float tx = x;
+				x = (1 - Math.abs(y)) * (x >= 0 ? 1 : -1);
+				y = (1 - Math.abs(tx)) * (y >= 0 ? 1 : -1);
+			}
+			normals[q] = (byte)Math.round(x * 127);
+			normals[q + 1] = (byte)Math.round(y * 127);
+		}
+		return normals;
+	}
+
+	/** Reconstructs the positions of a frame of a mesh into the given cursor. The cursor holds the positions of cursorFrame, if
+	 * it lies in the same run as frame and before it only the deltas in between are applied. */
+	static void seek (KeyframeAnimation anim, int mesh, float[] cursor, int cursorFrame, int frame) {
+		Keyframe[] frames = anim.keyframes;
+		int runStart = frame;
+		while (frames[runStart].positions[mesh] == null)
+			runStart--;
+
+		int from = cursorFrame;
+		if (cursorFrame < runStart || cursorFrame > frame) {
+			short[] quantized = frames[runStart].positions[mesh];
+			float[] steps = frames[runStart].steps[mesh];
+			for (int q = 0; q < quantized.length; q += 3)
+				for (int c = 0; c < 3; c++)
+					cursor[q + c] = steps[c] + (quantized[q + c] + 32768) * steps[3 + c];
+			from = runStart;
+		}
+		for (int i = from + 1; i <= frame; i++) {
+			byte[] deltas = frames[i].deltas[mesh];
+			float[] steps = frames[i].steps[mesh];
+			for (int q = 0; q < deltas.length; q += 3)
+				for (int c = 0; c < 3; c++)
+					cursor[q + c] += deltas[q + c] * steps[c];
+		}
+	}
+
+	/** Writes the positions reconstructed by {@link #seek}, the shared texture coordinates and the decoded normals of a frame of
+	 * a mesh into interleaved vertices. */
+	static void decode (KeyframeAnimation anim, int mesh, float[] cursor, int frame, float[] vertices) {
+		byte[] normals = anim.keyframes[frame].normals[mesh];
+		float[] texCoords = anim.texCoords[mesh];
+		for (int n = 0, q = 0, t = 0; n < vertices.length; n += STRIDE, q += 3, t += 2) {
+			vertices[n] = cursor[q];
+			vertices[n + 1] = cursor[q + 1];
+			vertices[n + 2] = cursor[q + 2];
+			vertices[n + 3] = texCoords[t];
+			vertices[n + 4] = texCoords[t + 1];
+
+			float x = normals[t] / 127f, y = normals[t + 1] / 127f;
+			float z = 1 - Math.abs(x) - Math.abs(y);
+			if (z < 0) {
+				float tx = x;
+				x = (1 - Math.abs(y)) * (x >= 0 ? 1 : -1);
+				y = (1 - Math.abs(tx)) * (y >= 0 ? 1 : -1);
+			}
+			float len = (float)Math.sqrt(x * x + y * y + z * z);
+			vertices[n + 5] = x / len;
+			vertices[n + 6] = y / len;
+			vertices[n + 7] = z / len;
+		}
+	}
+}
@@ -85,6 +85,15 @@ public class KeyframedModel {
 	 * @param animKey The name used to store the animation in the mode's animation map. */
 	public KeyframeAnimation sampleAnimationFromMD5 (MD5Model md5model, MD5Renderer md5renderer, MD5Animator md5animator,
 		MD5Animation md5animation, float sampleRate, String modelAsset, String animKey) {
+		return sampleAnimationFromMD5(md5model, md5renderer, md5animator, md5animation, sampleRate, modelAsset, animKey, true);
+	}
+
+	/** Loads a single {@link KeyframeAnimation} from an {@link MD5Animation}, see
+	 * {@link #sampleAnimationFromMD5(MD5Model, MD5Renderer, MD5Animator, MD5Animation, float, String, String)}.
+	 * @param compress whether to store the keyframes compressed, see {@link KeyframeAnimation#compress()}. Compressed animations
+	 *           take roughly a tenth of the memory at the cost of decoding each frame once during playback. */
+	public KeyframeAnimation sampleAnimationFromMD5 (MD5Model md5model, MD5Renderer md5renderer, MD5Animator md5animator,
+		MD5Animation md5animation, float sampleRate, String modelAsset, String animKey, boolean compress) {
 		this.assetName = modelAsset;
 		numMeshes = md5model.meshes.length;
 		boolean cached = false;
@@ -126,6 +135,8 @@ public class KeyframedModel {
 
 		int i = 0;
 		int numVertices = 0, numIndices = 0;
+		// the topology doesn't change between frames, so all keyframes share the indices
+		short[][] sharedIndices = new short[numMeshes][];
 		for (float t = 0; t < len; t += sampleRate) {
 			// store meshes.
 			Keyframe k = null;
@@ -145,7 +156,8 @@ public class KeyframedModel {
 				numIndices = indices.length;
 				if (!cached) {
 					k.vertices[m] = clone(vertices);
-					k.indices[m] = clone(indices);
+					if (sharedIndices[m] == null) sharedIndices[m] = clone(indices);
+					k.indices[m] = sharedIndices[m];
 				}
 
 				if (target[m] == null) {
@@ -189,6 +201,8 @@ public class KeyframedModel {
 			i++;
 		}
 
+		if (!cached && compress) a.compress();
+
 		if (cached) {
 			// Gdx.app.log("Loader",
 // "Added ref to animation "+key+" - keyframes ("+i+" keyframes generated). animations.size = "+animations.size);
@@ -92,6 +92,15 @@ public class ETC1TextureData implements TextureData {
 		isPrepared = false;
 	}
 
+	/** Releases the data read by {@link #prepare()} without uploading it, eg when the texture will not be created after all. Does
+	 * nothing if the data isn't prepared. */
+	public void disposePreparedData () {
+		if (!isPrepared) return;
+		data.dispose();
+		data = null;
+		isPrepared = false;
+	}
+
 	@Override
 	public Pixmap consumePixmap () {
 		throw new GdxRuntimeException("This TextureData implementation does not return a Pixmap");
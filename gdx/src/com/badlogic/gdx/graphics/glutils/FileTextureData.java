@@ -29,15 +29,24 @@ public class FileTextureData implements TextureData {
 	static public boolean copyToPOT;
 
 	final FileHandle file;
+	final byte[] encodedData;
 	int width = 0;
 	int height = 0;
 	Format format;
 	Pixmap pixmap;
+	MipMapChain mipMapChain;
 	boolean useMipMaps;
 	boolean isPrepared = false;
 
 	public FileTextureData (FileHandle file, Pixmap preloadedPixmap, Format format, boolean useMipMaps) {
+		this(file, null, preloadedPixmap, format, useMipMaps);
+	}
+
+	/** @param encodedData The contents of the file, which are decoded instead of reading the file each time the texture is loaded,
+	 *           eg after the OpenGL context was lost. May be null. */
+	public FileTextureData (FileHandle file, byte[] encodedData, Pixmap preloadedPixmap, Format format, boolean useMipMaps) {
 		this.file = file;
+		this.encodedData = encodedData;
 		this.pixmap = preloadedPixmap;
 		this.format = format;
 		this.useMipMaps = useMipMaps;
@@ -60,12 +69,17 @@ public class FileTextureData implements TextureData {
 		if (pixmap == null) {
 			if (file.extension().equals("cim"))
 				pixmap = PixmapIO.readCIM(file);
+			else if (encodedData != null)
+				pixmap = ensurePot(new Pixmap(encodedData, 0, encodedData.length));
 			else
 				pixmap = ensurePot(new Pixmap(file));
 			width = pixmap.getWidth();
 			height = pixmap.getHeight();
 			if (format == null) format = pixmap.getFormat();
 		}
+		// Mipmaps that will be generated on the CPU are built here, possibly off the rendering thread.
+		if (useMipMaps && format == pixmap.getFormat() && MipMapGenerator.generatesOnCPU())
+			mipMapChain = new MipMapChain(pixmap, MipMapGenerator.filter);
 		isPrepared = true;
 	}
 
@@ -89,6 +103,10 @@ public class FileTextureData implements TextureData {
 	public Pixmap consumePixmap () {
 		if (!isPrepared) throw new GdxRuntimeException("Call prepare() before calling getPixmap()");
 		isPrepared = false;
+		if (mipMapChain != null) {
+			mipMapChain.dispose();
+			mipMapChain = null;
+		}
 		Pixmap pixmap = this.pixmap;
 		this.pixmap = null;
 		return pixmap;
@@ -128,13 +146,21 @@ public class FileTextureData implements TextureData {
 		return file;
 	}
 
+	/** @return {@link TextureDataType#Compressed} if the mipmaps were built by {@link #prepare()}, as the data then uploads
+	 *         itself, else {@link TextureDataType#Pixmap}. */
 	@Override
 	public TextureDataType getType () {
-		return TextureDataType.Pixmap;
+		return mipMapChain != null ? TextureDataType.Compressed : TextureDataType.Pixmap;
 	}
 
 	@Override
 	public void consumeCompressedData () {
-		throw new GdxRuntimeException("This TextureData implementation does not upload data itself");
+		if (mipMapChain == null) throw new GdxRuntimeException("This TextureData implementation does not upload data itself");
+		mipMapChain.upload();
+		mipMapChain.dispose();
+		mipMapChain = null;
+		pixmap.dispose();
+		pixmap = null;
+		isPrepared = false;
 	}
 }
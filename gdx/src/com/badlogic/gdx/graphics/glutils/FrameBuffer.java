@@ -27,6 +27,8 @@ import java.util.Map;
 import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GLMemoryTracker;
+import com.badlogic.gdx.graphics.GLMemoryTracker.ResourceType;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.Texture.TextureFilter;
@@ -117,6 +119,8 @@ public class FrameBuffer implements Disposable {
 			gl.glBindRenderbuffer(GL20.GL_RENDERBUFFER, depthbufferHandle);
 			gl.glRenderbufferStorage(GL20.GL_RENDERBUFFER, GL20.GL_DEPTH_COMPONENT16, colorTexture.getWidth(),
 				colorTexture.getHeight());
+			// The color attachment is tracked by its Texture, only the 16 bit depth buffer is tracked here.
+			GLMemoryTracker.track(this, ResourceType.FrameBuffer, (long)colorTexture.getWidth() * colorTexture.getHeight() * 2);
 		}
 
 		gl.glBindFramebuffer(GL20.GL_FRAMEBUFFER, framebufferHandle);
@@ -166,6 +170,7 @@ public class FrameBuffer implements Disposable {
 			handle.put(depthbufferHandle);
 			handle.flip();
 			gl.glDeleteRenderbuffers(1, handle);
+			GLMemoryTracker.untrack(this);
 		}
 
 		handle.clear();
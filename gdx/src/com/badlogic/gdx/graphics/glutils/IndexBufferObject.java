@@ -24,6 +24,8 @@ import java.nio.ShortBuffer;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL11;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GLMemoryTracker;
+import com.badlogic.gdx.graphics.GLMemoryTracker.ResourceType;
 import com.badlogic.gdx.utils.BufferUtils;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
@@ -33,6 +35,12 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
  * </p>
  * 
  * <p>
+ * Changing part of the indices via {@link #updateIndices(int, short[], int, int)} only uploads the changed range with
+ * glBufferSubData, unless most of the buffer changed, see {@link VertexBufferObject#orphanThreshold}. The number of bytes
+ * uploaded by all instances is counted in {@link #bytesUploaded}.
+ * </p>
+ * 
+ * <p>
  * Uses indirect Buffers on Android 1.5/1.6 to fix GC invocation due to leaking PlatformAddress instances.
  * </p>
  * 
@@ -50,6 +58,9 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
 public class IndexBufferObject implements IndexData {
 	final static IntBuffer tmpHandle = BufferUtils.newIntBuffer(1);
 
+	/** The number of bytes and the number of uploads to all index buffer objects since the counters were last reset. */
+	static public int bytesUploaded, uploads;
+
 	ShortBuffer buffer;
 	ByteBuffer byteBuffer;
 	int bufferHandle;
@@ -57,6 +68,10 @@ public class IndexBufferObject implements IndexData {
 	boolean isDirty = true;
 	boolean isBound = false;
 	final int usage;
+	/** The byte range changed since the last upload, if the whole buffer is not dirty. */
+	int dirtyStart = Integer.MAX_VALUE, dirtyEnd;
+	/** The size in bytes of the data store of the OpenGL buffer. */
+	int bufferSize;
 
 	/** Creates a new IndexBufferObject.
 	 * 
@@ -135,16 +150,64 @@ public class IndexBufferObject implements IndexData {
 		byteBuffer.position(0);
 		byteBuffer.limit(count << 1);
 
-		if (isBound) {
-			if (Gdx.gl11 != null) {
-				GL11 gl = Gdx.gl11;
-				gl.glBufferData(GL11.GL_ELEMENT_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
-			} else if (Gdx.gl20 != null) {
-				GL20 gl = Gdx.gl20;
-				gl.glBufferData(GL20.GL_ELEMENT_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
-			}
-			isDirty = false;
-		}
+		if (isBound) upload();
+	}
+
+	/** Copies indices to part of this buffer, without changing the number of indices. Only the changed range is uploaded, either
+	 * when the buffer is bound next or immediately if it is bound.
+	 * @param targetOffset the offset in shorts into this buffer
+	 * @param indices the index data
+	 * @param sourceOffset the offset to start copying the data from
+	 * @param count the number of shorts to copy */
+	public void updateIndices (int targetOffset, short[] indices, int sourceOffset, int count) {
+		int limit = buffer.limit();
+		if (targetOffset < 0 || count < 0 || targetOffset + count > limit)
+			throw new IllegalArgumentException("Indices out of range: " + targetOffset + ", " + count + " (" + limit + ")");
+		buffer.position(targetOffset);
+		buffer.put(indices, sourceOffset, count);
+		buffer.position(0);
+
+		dirtyStart = Math.min(dirtyStart, targetOffset * 2);
+		dirtyEnd = Math.max(dirtyEnd, (targetOffset + count) * 2);
+		if (isBound) upload();
+	}
+
+	/** Uploads the dirty part of the indices to the bound buffer. */
+	private void upload () {
+		int size = buffer.limit() * 2;
+		int dirtySize = dirtyEnd - dirtyStart;
+		if (isDirty || size != bufferSize || dirtySize > size * VertexBufferObject.orphanThreshold) {
+			byteBuffer.position(0);
+			byteBuffer.limit(size);
+			if (Gdx.gl11 != null)
+				Gdx.gl11.glBufferData(GL11.GL_ELEMENT_ARRAY_BUFFER, size, byteBuffer, usage);
+			else
+				Gdx.gl20.glBufferData(GL20.GL_ELEMENT_ARRAY_BUFFER, size, byteBuffer, usage);
+			bufferSize = size;
+			GLMemoryTracker.track(this, ResourceType.IndexBuffer, size);
+			bytesUploaded += size;
+		} else if (dirtySize > 0) {
+			byteBuffer.limit(dirtyEnd);
+			byteBuffer.position(dirtyStart);
+			if (Gdx.gl11 != null)
+				Gdx.gl11.glBufferSubData(GL11.GL_ELEMENT_ARRAY_BUFFER, dirtyStart, dirtySize, byteBuffer);
+			else
+				Gdx.gl20.glBufferSubData(GL20.GL_ELEMENT_ARRAY_BUFFER, dirtyStart, dirtySize, byteBuffer);
+			byteBuffer.position(0);
+			byteBuffer.limit(size);
+			bytesUploaded += dirtySize;
+		} else
+			return;
+		uploads++;
+		isDirty = false;
+		dirtyStart = Integer.MAX_VALUE;
+		dirtyEnd = 0;
+	}
+
+	/** Sets {@link #bytesUploaded} and {@link #uploads} to zero. */
+	static public void resetCounters () {
+		bytesUploaded = 0;
+		uploads = 0;
 	}
 
 	/** <p>
@@ -165,20 +228,11 @@ public class IndexBufferObject implements IndexData {
 		if (Gdx.gl11 != null) {
 			GL11 gl = Gdx.gl11;
 			gl.glBindBuffer(GL11.GL_ELEMENT_ARRAY_BUFFER, bufferHandle);
-			if (isDirty) {
-				byteBuffer.limit(buffer.limit() * 2);
-				gl.glBufferData(GL11.GL_ELEMENT_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
-				isDirty = false;
-			}
 		} else {
 			GL20 gl = Gdx.gl20;
 			gl.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, bufferHandle);
-			if (isDirty) {
-				byteBuffer.limit(buffer.limit() * 2);
-				gl.glBufferData(GL20.GL_ELEMENT_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
-				isDirty = false;
-			}
 		}
+		upload();
 		isBound = true;
 	}
 
@@ -195,6 +249,8 @@ public class IndexBufferObject implements IndexData {
 	/** Invalidates the IndexBufferObject so a new OpenGL buffer handle is created. Use this in case of a context loss. */
 	public void invalidate () {
 		bufferHandle = createBufferObject();
+		bufferSize = 0;
+		GLMemoryTracker.untrack(this);
 		isDirty = true;
 	}
 
@@ -217,6 +273,7 @@ public class IndexBufferObject implements IndexData {
 			gl.glDeleteBuffers(1, tmpHandle);
 			bufferHandle = 0;
 		}
+		GLMemoryTracker.untrack(this);
 		BufferUtils.disposeUnsafeByteBuffer(byteBuffer);
 	}
 }
@@ -0,0 +1,382 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.glutils.MipMapGenerator.Filter;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** The mipmap levels of a {@link Pixmap}, computed on the CPU down to 1x1. No OpenGL calls are made until {@link #upload()}, so
+ * a chain can be built on any thread, eg while an asset is loaded asynchronously. Each level is downsampled from the previous one
+ * with a {@link Filter}. Large levels are split into tiles of rows that are filtered in parallel. All levels but the first are
+ * stored in one buffer, in the format of the pixmap.
+ * <p>
+ * The pixmap is level 0 and is not copied, so it must not be disposed while the chain is still uploaded or read. */
+public class MipMapChain implements Disposable {
+	/** The number of rows of a level that are filtered by one task. */
+	static public int tileRows = 32;
+	/** The number of threads that filter tiles, including the thread building the chain. Must be set before the first chain is
+	 * built. */
+	static public int threads = Runtime.getRuntime().availableProcessors();
+	/** The radius of the {@link Filter#Kaiser} filter, in pixels of the smaller level. */
+	static public float kaiserRadius = 3;
+	/** The alpha parameter of the Kaiser window, higher values trade sharpness for less ringing. */
+	static public float kaiserAlpha = 4;
+
+	static private ExecutorService executor;
+
+	final Pixmap pixmap;
+	final Format format;
+	final int[] widths, heights, offsets;
+	ByteBuffer data;
+
+	/** Builds all mipmap levels of the pixmap. Can be called on any thread.
+	 * @param pixmap level 0 of the chain, not copied. */
+	public MipMapChain (Pixmap pixmap, Filter filter) {
+		this.pixmap = pixmap;
+		this.format = pixmap.getFormat();
+
+		int width = pixmap.getWidth(), height = pixmap.getHeight();
+		int levels = 1;
+		while (width > 1 || height > 1) {
+			width = Math.max(1, width / 2);
+			height = Math.max(1, height / 2);
+			levels++;
+		}
+		widths = new int[levels];
+		heights = new int[levels];
+		offsets = new int[levels];
+		widths[0] = pixmap.getWidth();
+		heights[0] = pixmap.getHeight();
+		int channels = getChannels(format), bytesPerPixel = getBytesPerPixel(format);
+		int workSize = 0, dataSize = 0;
+		int[] workOffsets = new int[levels];
+		for (int level = 1; level < levels; level++) {
+			widths[level] = Math.max(1, widths[level - 1] / 2);
+			heights[level] = Math.max(1, heights[level - 1] / 2);
+			workOffsets[level] = workSize;
+			offsets[level] = dataSize;
+			workSize += widths[level] * heights[level] * channels;
+			dataSize += widths[level] * heights[level] * bytesPerPixel;
+		}
+
+		byte[] source = unpack(pixmap.getPixels(), widths[0] * heights[0], format);
+		byte[] work = new byte[workSize];
+		int sourceOffset = 0;
+		for (int level = 1; level < levels; level++) {
+			filter(source, sourceOffset, widths[level - 1], heights[level - 1], work, workOffsets[level], widths[level],
+				heights[level], channels, filter);
+			source = work;
+			sourceOffset = workOffsets[level];
+		}
+
+		data = BufferUtils.newUnsafeByteBuffer(Math.max(1, dataSize));
+		pack(work, data, format);
+	}
+
+	/** @return the number of levels, including level 0. */
+	public int getLevels () {
+		return widths.length;
+	}
+
+	public int getWidth (int level) {
+		return widths[level];
+	}
+
+	public int getHeight (int level) {
+		return heights[level];
+	}
+
+	public Format getFormat () {
+		return format;
+	}
+
+	/** @return the pixels of the level in the format of the pixmap. Level 0 is the pixmap's own buffer. */
+	public ByteBuffer getPixels (int level) {
+		if (level == 0) return pixmap.getPixels();
+		if (data == null) throw new GdxRuntimeException("MipMapChain has been disposed.");
+		int offset = offsets[level];
+		data.limit(offset + widths[level] * heights[level] * getBytesPerPixel(format));
+		data.position(offset);
+		ByteBuffer pixels = data.slice();
+		data.clear();
+		return pixels;
+	}
+
+	/** @return a new pixmap with a copy of the level, eg to write prebuilt mipmaps to files. */
+	public Pixmap newPixmap (int level) {
+		Pixmap levelPixmap = new Pixmap(widths[level], heights[level], format);
+		ByteBuffer pixels = levelPixmap.getPixels();
+		pixels.clear();
+		ByteBuffer source = getPixels(level).duplicate();
+		source.clear();
+		pixels.put(source);
+		pixels.clear();
+		return levelPixmap;
+	}
+
+	/** Uploads all levels to the currently bound texture. Must be called on the rendering thread. */
+	public void upload () {
+		int internalFormat = pixmap.getGLInternalFormat(), glFormat = pixmap.getGLFormat(), type = pixmap.getGLType();
+		Gdx.gl.glPixelStorei(GL10.GL_UNPACK_ALIGNMENT, 1);
+		for (int level = 0; level < widths.length; level++)
+			Gdx.gl.glTexImage2D(GL10.GL_TEXTURE_2D, level, internalFormat, widths[level], heights[level], 0, glFormat, type,
+				getPixels(level));
+	}
+
+	/** Releases the levels. The pixmap is not disposed. */
+	public void dispose () {
+		if (data == null) return;
+		BufferUtils.disposeUnsafeByteBuffer(data);
+		data = null;
+	}
+
+	static private int getChannels (Format format) {
+		switch (format) {
+		case Alpha:
+		case Intensity:
+			return 1;
+		case LuminanceAlpha:
+			return 2;
+		case RGB565:
+		case RGB888:
+			return 3;
+		default:
+			return 4;
+		}
+	}
+
+	static private int getBytesPerPixel (Format format) {
+		if (format == Format.RGB565 || format == Format.RGBA4444) return 2;
+		return getChannels(format);
+	}
+
+	/** Copies the pixels into a byte per channel. */
+	static private byte[] unpack (ByteBuffer pixels, int pixelCount, Format format) {
+		byte[] channels = new byte[pixelCount * getChannels(format)];
+		pixels = pixels.duplicate();
+		pixels.clear();
+		if (format == Format.RGB565) {
+			ShortBuffer shorts = pixels.order(ByteOrder.nativeOrder()).asShortBuffer();
+			for (int i = 0, ii = 0; i < pixelCount; i++) {
+				int value = shorts.get(i);
+				int r = (value >>> 11) & 0x1f, g = (value >>> 5) & 0x3f, b = value & 0x1f;
+				channels[ii++] = (byte)((r << 3) | (r >>> 2));
+				channels[ii++] = (byte)((g << 2) | (g >>> 4));
+				channels[ii++] = (byte)((b << 3) | (b >>> 2));
+			}
+		} else if (format == Format.RGBA4444) {
+			ShortBuffer shorts = pixels.order(ByteOrder.nativeOrder()).asShortBuffer();
+			for (int i = 0, ii = 0; i < pixelCount; i++) {
+				int value = shorts.get(i);
+				channels[ii++] = (byte)(((value >>> 12) & 0xf) * 17);
+				channels[ii++] = (byte)(((value >>> 8) & 0xf) * 17);
+				channels[ii++] = (byte)(((value >>> 4) & 0xf) * 17);
+				channels[ii++] = (byte)((value & 0xf) * 17);
+			}
+		} else
+			pixels.get(channels);
+		return channels;
+	}
+
+	/** Stores the channels in the pixel format. */
+	static private void pack (byte[] channels, ByteBuffer pixels, Format format) {
+		if (format == Format.RGB565) {
+			ShortBuffer shorts = pixels.asShortBuffer();
+			for (int i = 0, ii = 0, n = channels.length / 3; i < n; i++) {
+				int r = ((channels[ii++] & 0xff) * 31 + 127) / 255;
+				int g = ((channels[ii++] & 0xff) * 63 + 127) / 255;
+				int b = ((channels[ii++] & 0xff) * 31 + 127) / 255;
+				shorts.put(i, (short)((r << 11) | (g << 5) | b));
+			}
+		} else if (format == Format.RGBA4444) {
+			ShortBuffer shorts = pixels.asShortBuffer();
+			for (int i = 0, ii = 0, n = channels.length / 4; i < n; i++) {
+				int r = ((channels[ii++] & 0xff) * 15 + 127) / 255;
+				int g = ((channels[ii++] & 0xff) * 15 + 127) / 255;
+				int b = ((channels[ii++] & 0xff) * 15 + 127) / 255;
+				int a = ((channels[ii++] & 0xff) * 15 + 127) / 255;
+				shorts.put(i, (short)((r << 12) | (g << 8) | (b << 4) | a));
+			}
+		} else {
+			pixels.put(channels);
+			pixels.clear();
+		}
+	}
+
+	/** Downsamples a level into the next one, in parallel if it has more than one tile. */
+	static private void filter (final byte[] source, final int sourceOffset, final int sourceWidth, final int sourceHeight,
+		final byte[] target, final int targetOffset, final int targetWidth, final int targetHeight, final int channels, Filter filter) {
+		final Kernel kernelX = new Kernel(sourceWidth, targetWidth, filter);
+		final Kernel kernelY = new Kernel(sourceHeight, targetHeight, filter);
+		int tiles = (targetHeight + tileRows - 1) / tileRows;
+		if (tiles == 1 || threads <= 1) {
+			filterRows(source, sourceOffset, sourceWidth, target, targetOffset, targetWidth, channels, kernelX, kernelY, 0,
+				targetHeight);
+			return;
+		}
+
+		ExecutorService executor = getExecutor();
+		Future[] futures = new Future[tiles - 1];
+		for (int i = 1; i < tiles; i++) {
+			final int startRow = i * tileRows, endRow = Math.min(targetHeight, startRow + tileRows);
+			futures[i - 1] = executor.submit(new Runnable() {
+				public void run () {
+					filterRows(source, sourceOffset, sourceWidth, target, targetOffset, targetWidth, channels, kernelX, kernelY,
+						startRow, endRow);
+				}
+			});
+		}
+		filterRows(source, sourceOffset, sourceWidth, target, targetOffset, targetWidth, channels, kernelX, kernelY, 0, tileRows);
+		for (int i = 0; i < futures.length; i++) {
+			try {
+				futures[i].get();
+			} catch (InterruptedException ex) {
+				for (int ii = i; ii < futures.length; ii++)
+					futures[ii].cancel(false);
+				Thread.currentThread().interrupt();
+				throw new GdxRuntimeException("Interrupted while building mipmaps.", ex);
+			} catch (ExecutionException ex) {
+				throw new GdxRuntimeException("Error building mipmaps.", ex.getCause());
+			}
+		}
+	}
+
+	/** Filters the target rows from startRow to endRow, first horizontally into a temporary buffer for each source row the rows
+	 * need, then vertically. */
+	static void filterRows (byte[] source, int sourceOffset, int sourceWidth, byte[] target, int targetOffset, int targetWidth,
+		int channels, Kernel kernelX, Kernel kernelY, int startRow, int endRow) {
+		int tapsY = kernelY.taps, firstSourceRow = Integer.MAX_VALUE, lastSourceRow = 0;
+		for (int i = startRow * tapsY, n = endRow * tapsY; i < n; i++) {
+			firstSourceRow = Math.min(firstSourceRow, kernelY.indices[i]);
+			lastSourceRow = Math.max(lastSourceRow, kernelY.indices[i]);
+		}
+
+		int rowSize = targetWidth * channels, tapsX = kernelX.taps;
+		int[] indicesX = kernelX.indices;
+		float[] weightsX = kernelX.weights;
+		float[] rows = new float[(lastSourceRow - firstSourceRow + 1) * rowSize];
+		for (int y = firstSourceRow, r = 0; y <= lastSourceRow; y++) {
+			int rowOffset = sourceOffset + y * sourceWidth * channels;
+			for (int x = 0; x < targetWidth; x++) {
+				for (int c = 0; c < channels; c++, r++) {
+					float sum = 0;
+					for (int t = x * tapsX, n = t + tapsX; t < n; t++)
+						sum += (source[rowOffset + indicesX[t] * channels + c] & 0xff) * weightsX[t];
+					rows[r] = sum;
+				}
+			}
+		}
+
+		int[] indicesY = kernelY.indices;
+		float[] weightsY = kernelY.weights;
+		for (int y = startRow; y < endRow; y++) {
+			int i = targetOffset + y * rowSize;
+			for (int x = 0; x < rowSize; x++, i++) {
+				float sum = 0;
+				for (int t = y * tapsY, n = t + tapsY; t < n; t++)
+					sum += rows[(indicesY[t] - firstSourceRow) * rowSize + x] * weightsY[t];
+				int value = (int)(sum + 0.5f);
+				target[i] = (byte)(value < 0 ? 0 : (value > 255 ? 255 : value));
+			}
+		}
+	}
+
+	static private synchronized ExecutorService getExecutor () {
+		if (executor == null) {
+			executor = Executors.newFixedThreadPool(threads - 1, new ThreadFactory() {
+				@Override
+				public Thread newThread (Runnable r) {
+					Thread thread = new Thread(r, "MipMapChain-Filter-Thread");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+		return executor;
+	}
+
+	/** The source pixels and their normalized weights for each target pixel along one axis. Source pixels past the edges are
+	 * clamped to the edge pixels. */
+	static class Kernel {
+		final int taps;
+		final int[] indices;
+		final float[] weights;
+
+		Kernel (int sourceSize, int targetSize, Filter filter) {
+			float scale = sourceSize / (float)targetSize;
+			float radius = filter == Filter.Box ? scale / 2 : kaiserRadius * scale;
+			taps = (int)Math.ceil(radius * 2) + 1;
+			indices = new int[targetSize * taps];
+			weights = new float[targetSize * taps];
+			for (int i = 0, t = 0; i < targetSize; i++) {
+				float center = (i + 0.5f) * scale;
+				int first = (int)Math.floor(center - radius);
+				float sum = 0;
+				for (int ii = 0; ii < taps; ii++, t++) {
+					int index = first + ii;
+					float weight;
+					if (filter == Filter.Box)
+						weight = Math.max(0, Math.min(index + 1, center + radius) - Math.max(index, center - radius));
+					else
+						weight = kaiser((index + 0.5f - center) / scale);
+					indices[t] = Math.max(0, Math.min(sourceSize - 1, index));
+					weights[t] = weight;
+					sum += weight;
+				}
+				for (int ii = t - taps; ii < t; ii++)
+					weights[ii] /= sum;
+			}
+		}
+
+		/** @param x the distance from the center in pixels of the smaller level. */
+		static float kaiser (float x) {
+			if (Math.abs(x) >= kaiserRadius) return 0;
+			double ratio = x / kaiserRadius;
+			double window = bessel0(kaiserAlpha * Math.sqrt(1 - ratio * ratio)) / bessel0(kaiserAlpha);
+			if (x == 0) return (float)window;
+			double pi = Math.PI * x;
+			return (float)(Math.sin(pi) / pi * window);
+		}
+
+		/** Zeroth order modified Bessel function of the first kind. */
+		static private double bessel0 (double x) {
+			double sum = 1, term = 1, halfX = x / 2;
+			for (int k = 1; k < 50; k++) {
+				term *= halfX / k;
+				double squared = term * term;
+				sum += squared;
+				if (squared < sum * 1e-12) break;
+			}
+			return sum;
+		}
+	}
+}
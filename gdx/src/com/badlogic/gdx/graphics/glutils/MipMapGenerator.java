@@ -22,17 +22,36 @@ import com.badlogic.gdx.graphics.GL10;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.GLCommon;
 import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Pixmap.Blending;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
 public class MipMapGenerator {
+	/** Filters used to downsample mipmap levels on the CPU, see {@link MipMapChain}. */
+	public enum Filter {
+		/** Averages the pixels each pixel of the smaller level covers. Fast, but slightly blurry. */
+		Box,
+		/** A Kaiser windowed sinc, which keeps more detail in the smaller levels at a higher cost. */
+		Kaiser
+	}
+
 	private static boolean useHWMipMap = true;
+	static Filter filter = Filter.Box;
 
 	static public void setUseHardwareMipMap (boolean useHWMipMap) {
 		MipMapGenerator.useHWMipMap = useHWMipMap;
 	}
 
+	/** Sets the filter used when mipmaps are generated on the CPU. Default is {@link Filter#Box}. */
+	static public void setFilter (Filter filter) {
+		MipMapGenerator.filter = filter;
+	}
+
+	/** @return whether mipmaps will be generated on the CPU. Can be called off the rendering thread, in which case the mipmaps can
+	 *         be built with a {@link MipMapChain} before the texture is uploaded. */
+	static boolean generatesOnCPU () {
+		return !useHWMipMap || (Gdx.app.getType() == ApplicationType.Android && !Gdx.graphics.isGL20Available());
+	}
+
 	/** Sets the image data of the {@link Texture} based on the {@link Pixmap}. The texture must be bound for this to work. If
 	 * <code>disposePixmap</code> is true, the pixmap will be disposed at the end of the method.
 	 * @param pixmap the Pixmap
@@ -81,29 +100,9 @@ public class MipMapGenerator {
 	}
 
 	private static void generateMipMapCPU (Pixmap pixmap, int textureWidth, int textureHeight, boolean disposePixmap) {
-		Gdx.gl.glTexImage2D(GL10.GL_TEXTURE_2D, 0, pixmap.getGLInternalFormat(), pixmap.getWidth(), pixmap.getHeight(), 0,
-			pixmap.getGLFormat(), pixmap.getGLType(), pixmap.getPixels());
-		if ((Gdx.gl20 == null) && textureWidth != textureHeight)
-			throw new GdxRuntimeException("texture width and height must be square when using mipmapping.");
-		int width = pixmap.getWidth() / 2;
-		int height = pixmap.getHeight() / 2;
-		int level = 1;
-		Blending blending = Pixmap.getBlending();
-		Pixmap.setBlending(Blending.None);
-		while (width > 0 && height > 0) {
-			Pixmap tmp = new Pixmap(width, height, pixmap.getFormat());
-			tmp.drawPixmap(pixmap, 0, 0, pixmap.getWidth(), pixmap.getHeight(), 0, 0, width, height);
-			if (level > 1 || disposePixmap) pixmap.dispose();
-			pixmap = tmp;
-
-			Gdx.gl.glTexImage2D(GL10.GL_TEXTURE_2D, level, pixmap.getGLInternalFormat(), pixmap.getWidth(), pixmap.getHeight(), 0,
-				pixmap.getGLFormat(), pixmap.getGLType(), pixmap.getPixels());
-
-			width = pixmap.getWidth() / 2;
-			height = pixmap.getHeight() / 2;
-			level++;
-		}
-		Pixmap.setBlending(blending);
-		pixmap.dispose();
+		MipMapChain chain = new MipMapChain(pixmap, filter);
+		chain.upload();
+		chain.dispose();
+		if (disposePixmap) pixmap.dispose();
 	}
 }
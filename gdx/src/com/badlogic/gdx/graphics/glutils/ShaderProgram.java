@@ -612,10 +612,9 @@ public class ShaderProgram implements Disposable {
 		List<ShaderProgram> shaderList = shaders.get(app);
 		if (shaderList == null) return;
 
-		for (int i = 0; i < shaderList.size(); i++) {
+		// The shaders are compiled the next time they are used, so not all of them are compiled in the same frame.
+		for (int i = 0; i < shaderList.size(); i++)
 			shaderList.get(i).invalidated = true;
-			shaderList.get(i).checkManaged();
-		}
 	}
 
 	public static void clearAllShaderPrograms (Application app) {
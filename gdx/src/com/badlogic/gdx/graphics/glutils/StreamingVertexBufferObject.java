@@ -0,0 +1,323 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.GL11;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GLMemoryTracker;
+import com.badlogic.gdx.graphics.GLMemoryTracker.ResourceType;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.utils.BufferUtils;
+
+/** <p>
+ * A {@link VertexData} implementation for vertices that are replaced every time they are rendered, such as the batches of a
+ * SpriteBatch. The OpenGL buffer object is a ring that holds several times the maximum number of vertices. Each time the vertices
+ * are set, they are appended to the ring after the previously set vertices with glBufferSubData and the vertex attributes are
+ * bound to point at them. When the ring is full, its storage is orphaned with glBufferData and writing starts at the beginning
+ * again.
+ * </p>
+ * 
+ * <p>
+ * Unlike re-specifying a {@link VertexBufferObject} each time, the driver never has to wait for draw calls that still use a part
+ * of the buffer, so many small batches per frame stay cheap. The uploads are counted in {@link VertexBufferObject#bytesUploaded}
+ * and {@link VertexBufferObject#uploads}.
+ * </p>
+ * 
+ * <p>
+ * StreamingVertexBufferObjects must be disposed via the {@link #dispose()} method when no longer needed
+ * </p> */
+public class StreamingVertexBufferObject implements VertexData {
+	final static IntBuffer tmpHandle = BufferUtils.newIntBuffer(1);
+
+	/** The number of times the maximum number of vertices fits in the ring, if not specified. */
+	static public int defaultRingBatches = 8;
+	/** The number of times the storage of any ring was orphaned since the counter was last reset. */
+	static public int orphans;
+
+	final VertexAttributes attributes;
+	final FloatBuffer buffer;
+	final ByteBuffer byteBuffer;
+	int bufferHandle;
+	final int ringSize;
+	/** The offset in bytes in the ring where the next vertices are written. */
+	int writeOffset;
+	/** The offset in bytes in the ring of the vertices that are currently set. */
+	int regionOffset;
+	boolean isAllocated = false;
+	boolean isDirty = false;
+	boolean isBound = false;
+	ShaderProgram boundShader;
+
+	/** Constructs a new interleaved StreamingVertexBufferObject with a ring holding {@link #defaultRingBatches} times the maximum
+	 * number of vertices.
+	 * 
+	 * @param numVertices the maximum number of vertices
+	 * @param attributes the {@link VertexAttribute}s. */
+	public StreamingVertexBufferObject (int numVertices, VertexAttribute... attributes) {
+		this(numVertices, numVertices * defaultRingBatches, new VertexAttributes(attributes));
+	}
+
+	/** Constructs a new interleaved StreamingVertexBufferObject.
+	 * 
+	 * @param numVertices the maximum number of vertices
+	 * @param ringVertices the number of vertices the ring in the OpenGL buffer object can hold, at least numVertices
+	 * @param attributes the {@link VertexAttributes}. */
+	public StreamingVertexBufferObject (int numVertices, int ringVertices, VertexAttributes attributes) {
+		if (ringVertices < numVertices)
+			throw new IllegalArgumentException("ringVertices must be >= numVertices: " + ringVertices + " < " + numVertices);
+		this.attributes = attributes;
+
+		byteBuffer = BufferUtils.newUnsafeByteBuffer(this.attributes.vertexSize * numVertices);
+		buffer = byteBuffer.asFloatBuffer();
+		buffer.flip();
+		byteBuffer.flip();
+		ringSize = this.attributes.vertexSize * ringVertices;
+		bufferHandle = createBufferObject();
+	}
+
+	private int createBufferObject () {
+		if (Gdx.gl20 != null)
+			Gdx.gl20.glGenBuffers(1, tmpHandle);
+		else
+			Gdx.gl11.glGenBuffers(1, tmpHandle);
+		return tmpHandle.get(0);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public VertexAttributes getAttributes () {
+		return attributes;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public int getNumVertices () {
+		return buffer.limit() * 4 / attributes.vertexSize;
+	}
+
+	/** {@inheritDoc} */
+	public int getNumMaxVertices () {
+		return byteBuffer.capacity() / attributes.vertexSize;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public FloatBuffer getBuffer () {
+		isDirty = true;
+		return buffer;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void setVertices (float[] vertices, int offset, int count) {
+		isDirty = true;
+		BufferUtils.copy(vertices, byteBuffer, count, offset);
+		buffer.position(0);
+		buffer.limit(count);
+
+		if (isBound) {
+			upload();
+			setPointers();
+		}
+	}
+
+	/** Appends the vertices to the ring, orphaning its storage first if they don't fit. */
+	private void upload () {
+		isDirty = false;
+		int size = buffer.limit() * 4;
+		if (size == 0) return;
+		if (!isAllocated || writeOffset + size > ringSize) {
+			if (Gdx.gl20 != null)
+				Gdx.gl20.glBufferData(GL20.GL_ARRAY_BUFFER, ringSize, null, GL20.GL_STREAM_DRAW);
+			else
+				Gdx.gl11.glBufferData(GL11.GL_ARRAY_BUFFER, ringSize, null, GL11.GL_DYNAMIC_DRAW);
+			isAllocated = true;
+			writeOffset = 0;
+			GLMemoryTracker.track(this, ResourceType.VertexBuffer, ringSize);
+			orphans++;
+		}
+		byteBuffer.position(0);
+		byteBuffer.limit(size);
+		if (Gdx.gl20 != null)
+			Gdx.gl20.glBufferSubData(GL20.GL_ARRAY_BUFFER, writeOffset, size, byteBuffer);
+		else
+			Gdx.gl11.glBufferSubData(GL11.GL_ARRAY_BUFFER, writeOffset, size, byteBuffer);
+		regionOffset = writeOffset;
+		writeOffset += size;
+		VertexBufferObject.bytesUploaded += size;
+		VertexBufferObject.uploads++;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void bind () {
+		Gdx.gl11.glBindBuffer(GL11.GL_ARRAY_BUFFER, bufferHandle);
+		if (isDirty) upload();
+		boundShader = null;
+		setPointers();
+		isBound = true;
+	}
+
+	/** Binds this StreamingVertexBufferObject for rendering via glDrawArrays or glDrawElements
+	 * 
+	 * @param shader the shader */
+	public void bind (ShaderProgram shader) {
+		GL20 gl = Gdx.gl20;
+
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
+		if (isDirty) upload();
+
+		int numAttributes = attributes.size();
+		for (int i = 0; i < numAttributes; i++)
+			shader.enableVertexAttribute(attributes.get(i).alias);
+		boundShader = shader;
+		setPointers();
+		isBound = true;
+	}
+
+	/** Points the vertex attributes at the region of the ring holding the current vertices. */
+	private void setPointers () {
+		int numAttributes = attributes.size();
+		if (boundShader != null) {
+			for (int i = 0; i < numAttributes; i++) {
+				VertexAttribute attribute = attributes.get(i);
+				int colorType = GL20.GL_FLOAT;
+				boolean normalize = false;
+				if (attribute.usage == Usage.ColorPacked) {
+					colorType = GL20.GL_UNSIGNED_BYTE;
+					normalize = true;
+				}
+				boundShader.setVertexAttribute(attribute.alias, attribute.numComponents, colorType, normalize,
+					attributes.vertexSize, regionOffset + attribute.offset);
+			}
+			return;
+		}
+
+		GL11 gl = Gdx.gl11;
+		int textureUnit = 0;
+		for (int i = 0; i < numAttributes; i++) {
+			VertexAttribute attribute = attributes.get(i);
+			int offset = regionOffset + attribute.offset;
+
+			switch (attribute.usage) {
+			case Usage.Position:
+				gl.glEnableClientState(GL11.GL_VERTEX_ARRAY);
+				gl.glVertexPointer(attribute.numComponents, GL10.GL_FLOAT, attributes.vertexSize, offset);
+				break;
+
+			case Usage.Color:
+			case Usage.ColorPacked:
+				int colorType = GL10.GL_FLOAT;
+				if (attribute.usage == Usage.ColorPacked) colorType = GL11.GL_UNSIGNED_BYTE;
+
+				gl.glEnableClientState(GL10.GL_COLOR_ARRAY);
+				gl.glColorPointer(attribute.numComponents, colorType, attributes.vertexSize, offset);
+				break;
+
+			case Usage.Normal:
+				gl.glEnableClientState(GL10.GL_NORMAL_ARRAY);
+				gl.glNormalPointer(GL10.GL_FLOAT, attributes.vertexSize, offset);
+				break;
+
+			case Usage.TextureCoordinates:
+				gl.glClientActiveTexture(GL10.GL_TEXTURE0 + textureUnit);
+				gl.glEnableClientState(GL10.GL_TEXTURE_COORD_ARRAY);
+				gl.glTexCoordPointer(attribute.numComponents, GL10.GL_FLOAT, attributes.vertexSize, offset);
+				textureUnit++;
+				break;
+			}
+		}
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void unbind () {
+		GL11 gl = Gdx.gl11;
+		int textureUnit = 0;
+		int numAttributes = attributes.size();
+
+		for (int i = 0; i < numAttributes; i++) {
+			VertexAttribute attribute = attributes.get(i);
+			switch (attribute.usage) {
+			case Usage.Color:
+			case Usage.ColorPacked:
+				gl.glDisableClientState(GL11.GL_COLOR_ARRAY);
+				break;
+			case Usage.Normal:
+				gl.glDisableClientState(GL11.GL_NORMAL_ARRAY);
+				break;
+			case Usage.TextureCoordinates:
+				gl.glClientActiveTexture(GL11.GL_TEXTURE0 + textureUnit);
+				gl.glDisableClientState(GL11.GL_TEXTURE_COORD_ARRAY);
+				textureUnit++;
+				break;
+			}
+		}
+
+		gl.glBindBuffer(GL11.GL_ARRAY_BUFFER, 0);
+		isBound = false;
+	}
+
+	/** Unbinds this StreamingVertexBufferObject.
+	 * 
+	 * @param shader the shader */
+	public void unbind (ShaderProgram shader) {
+		GL20 gl = Gdx.gl20;
+		int numAttributes = attributes.size();
+		for (int i = 0; i < numAttributes; i++)
+			shader.disableVertexAttribute(attributes.get(i).alias);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		boundShader = null;
+		isBound = false;
+	}
+
+	/** Invalidates the StreamingVertexBufferObject so a new OpenGL buffer handle is created. Use this in case of a context loss. */
+	public void invalidate () {
+		bufferHandle = createBufferObject();
+		isAllocated = false;
+		isDirty = true;
+		GLMemoryTracker.untrack(this);
+	}
+
+	/** Disposes of all resources this StreamingVertexBufferObject uses. */
+	@Override
+	public void dispose () {
+		tmpHandle.clear();
+		tmpHandle.put(bufferHandle);
+		tmpHandle.flip();
+		if (Gdx.gl20 != null) {
+			GL20 gl = Gdx.gl20;
+			gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+			gl.glDeleteBuffers(1, tmpHandle);
+		} else {
+			GL11 gl = Gdx.gl11;
+			gl.glBindBuffer(GL11.GL_ARRAY_BUFFER, 0);
+			gl.glDeleteBuffers(1, tmpHandle);
+		}
+		bufferHandle = 0;
+		GLMemoryTracker.untrack(this);
+		BufferUtils.disposeUnsafeByteBuffer(byteBuffer);
+	}
+}
@@ -25,6 +25,8 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL10;
 import com.badlogic.gdx.graphics.GL11;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GLMemoryTracker;
+import com.badlogic.gdx.graphics.GLMemoryTracker.ResourceType;
 import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes;
 import com.badlogic.gdx.graphics.VertexAttributes.Usage;
@@ -45,6 +47,12 @@ import com.badlogic.gdx.utils.BufferUtils;
  * </p>
  * 
  * <p>
+ * Changing part of the vertices via {@link #updateVertices(int, float[], int, int)} only uploads the changed range with
+ * glBufferSubData. If most of the buffer changed, the whole buffer is uploaded with glBufferData instead, see
+ * {@link #orphanThreshold}. The number of bytes uploaded by all instances is counted in {@link #bytesUploaded}.
+ * </p>
+ * 
+ * <p>
  * Uses indirect Buffers on Android 1.5/1.6 to fix GC invocation due to leaking PlatformAddress instances.
  * </p>
  * 
@@ -56,6 +64,12 @@ import com.badlogic.gdx.utils.BufferUtils;
 public class VertexBufferObject implements VertexData {
 	final static IntBuffer tmpHandle = BufferUtils.newIntBuffer(1);
 
+	/** When the changed range is larger than this fraction of the vertices, the whole buffer is uploaded with glBufferData. This
+	 * orphans the old storage, so the driver doesn't have to wait until draw calls using it are done. */
+	static public float orphanThreshold = 0.5f;
+	/** The number of bytes and the number of uploads to all vertex buffer objects since the counters were last reset. */
+	static public int bytesUploaded, uploads;
+
 	final VertexAttributes attributes;
 	final FloatBuffer buffer;
 	final ByteBuffer byteBuffer;
@@ -64,6 +78,10 @@ public class VertexBufferObject implements VertexData {
 	final int usage;
 	boolean isDirty = false;
 	boolean isBound = false;
+	/** The byte range changed since the last upload, if the whole buffer is not dirty. */
+	int dirtyStart = Integer.MAX_VALUE, dirtyEnd;
+	/** The size in bytes of the data store of the OpenGL buffer. */
+	int bufferSize;
 
 	/** Constructs a new interleaved VertexBufferObject.
 	 * 
@@ -131,16 +149,65 @@ public class VertexBufferObject implements VertexData {
 		buffer.position(0);
 		buffer.limit(count);
 
-		if (isBound) {
-			if (Gdx.gl20 != null) {
-				GL20 gl = Gdx.gl20;
-				gl.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
-			} else {
-				GL11 gl = Gdx.gl11;
-				gl.glBufferData(GL11.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
-			}
-			isDirty = false;
-		}
+		if (isBound) upload();
+	}
+
+	/** Copies vertices to part of this buffer, without changing the number of vertices. Only the changed range is uploaded, either
+	 * when the buffer is bound next or immediately if it is bound.
+	 * @param targetOffset the offset in floats into this buffer
+	 * @param vertices the vertex data
+	 * @param sourceOffset the offset to start copying the data from
+	 * @param count the number of floats to copy */
+	public void updateVertices (int targetOffset, float[] vertices, int sourceOffset, int count) {
+		int limit = buffer.limit();
+		if (targetOffset < 0 || count < 0 || targetOffset + count > limit)
+			throw new IllegalArgumentException("Vertices out of range: " + targetOffset + ", " + count + " (" + limit + ")");
+		buffer.position(targetOffset);
+		BufferUtils.copy(vertices, sourceOffset, buffer, count);
+		buffer.position(0);
+		buffer.limit(limit);
+
+		dirtyStart = Math.min(dirtyStart, targetOffset * 4);
+		dirtyEnd = Math.max(dirtyEnd, (targetOffset + count) * 4);
+		if (isBound) upload();
+	}
+
+	/** Uploads the dirty part of the vertices to the bound buffer. */
+	private void upload () {
+		int size = buffer.limit() * 4;
+		int dirtySize = dirtyEnd - dirtyStart;
+		if (isDirty || size != bufferSize || dirtySize > size * orphanThreshold) {
+			byteBuffer.position(0);
+			byteBuffer.limit(size);
+			if (Gdx.gl20 != null)
+				Gdx.gl20.glBufferData(GL20.GL_ARRAY_BUFFER, size, byteBuffer, usage);
+			else
+				Gdx.gl11.glBufferData(GL11.GL_ARRAY_BUFFER, size, byteBuffer, usage);
+			bufferSize = size;
+			bytesUploaded += size;
+			GLMemoryTracker.track(this, ResourceType.VertexBuffer, size);
+		} else if (dirtySize > 0) {
+			byteBuffer.limit(dirtyEnd);
+			byteBuffer.position(dirtyStart);
+			if (Gdx.gl20 != null)
+				Gdx.gl20.glBufferSubData(GL20.GL_ARRAY_BUFFER, dirtyStart, dirtySize, byteBuffer);
+			else
+				Gdx.gl11.glBufferSubData(GL11.GL_ARRAY_BUFFER, dirtyStart, dirtySize, byteBuffer);
+			byteBuffer.position(0);
+			byteBuffer.limit(size);
+			bytesUploaded += dirtySize;
+		} else
+			return;
+		uploads++;
+		isDirty = false;
+		dirtyStart = Integer.MAX_VALUE;
+		dirtyEnd = 0;
+	}
+
+	/** Sets {@link #bytesUploaded} and {@link #uploads} to zero. */
+	static public void resetCounters () {
+		bytesUploaded = 0;
+		uploads = 0;
 	}
 
 	/** {@inheritDoc} */
@@ -149,11 +216,7 @@ public class VertexBufferObject implements VertexData {
 		GL11 gl = Gdx.gl11;
 
 		gl.glBindBuffer(GL11.GL_ARRAY_BUFFER, bufferHandle);
-		if (isDirty) {
-			byteBuffer.limit(buffer.limit() * 4);
-			gl.glBufferData(GL11.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
-			isDirty = false;
-		}
+		upload();
 
 		int textureUnit = 0;
 		int numAttributes = attributes.size();
@@ -203,11 +266,7 @@ public class VertexBufferObject implements VertexData {
 		GL20 gl = Gdx.gl20;
 
 		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
-		if (isDirty) {
-			byteBuffer.limit(buffer.limit() * 4);
-			gl.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
-			isDirty = false;
-		}
+		upload();
 
 		int numAttributes = attributes.size();
 		for (int i = 0; i < numAttributes; i++) {
@@ -276,7 +335,9 @@ public class VertexBufferObject implements VertexData {
 	/** Invalidates the VertexBufferObject so a new OpenGL buffer handle is created. Use this in case of a context loss. */
 	public void invalidate () {
 		bufferHandle = createBufferObject();
+		bufferSize = 0;
 		isDirty = true;
+		GLMemoryTracker.untrack(this);
 	}
 
 	/** Disposes of all resources this VertexBufferObject uses. */
@@ -299,6 +360,7 @@ public class VertexBufferObject implements VertexData {
 			gl.glDeleteBuffers(1, tmpHandle);
 			bufferHandle = 0;
 		}
+		GLMemoryTracker.untrack(this);
 		BufferUtils.disposeUnsafeByteBuffer(byteBuffer);
 	}
 }
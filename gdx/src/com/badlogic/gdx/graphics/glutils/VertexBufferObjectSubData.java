@@ -25,6 +25,8 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL10;
 import com.badlogic.gdx.graphics.GL11;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GLMemoryTracker;
+import com.badlogic.gdx.graphics.GLMemoryTracker.ResourceType;
 import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes;
 import com.badlogic.gdx.graphics.VertexAttributes.Usage;
@@ -104,6 +106,7 @@ public class VertexBufferObjectSubData implements VertexData {
 			Gdx.gl11.glBufferData(GL11.GL_ARRAY_BUFFER, byteBuffer.capacity(), null, usage);
 			Gdx.gl11.glBindBuffer(GL11.GL_ARRAY_BUFFER, 0);
 		}
+		GLMemoryTracker.track(this, ResourceType.VertexBuffer, byteBuffer.capacity());
 		return tmpHandle.get(0);
 	}
 
@@ -319,6 +322,7 @@ public class VertexBufferObjectSubData implements VertexData {
 			gl.glDeleteBuffers(1, tmpHandle);
 			bufferHandle = 0;
 		}
+		GLMemoryTracker.untrack(this);
 	}
 
 	/** Returns the VBO handle
@@ -17,6 +17,7 @@
 package com.badlogic.gdx.math;
 
 import java.io.Serializable;
+import java.nio.FloatBuffer;
 
 /** Encapsulates a column major 4 by 4 matrix. You can access the linear array for use with OpenGL via the public
  * {@link Matrix4#val} member. Like the {@link Vector3} class it allows to chain methods by returning a reference to itself.
@@ -962,6 +963,195 @@ public class Matrix4 implements Serializable {
 		}
 	*/
 
+	/** Pure Java version of {@link #mulVec(float[], float[], int, int, int)}. Avoids the JNI call overhead, which dominates for
+	 * small batches. */
+	public static void mulVecJava (float[] mat, float[] vecs, int offset, int numVecs, int stride) {
+		final float m00 = mat[M00], m01 = mat[M01], m02 = mat[M02];
+		final float m10 = mat[M10], m11 = mat[M11], m12 = mat[M12];
+		final float m20 = mat[M20], m21 = mat[M21], m22 = mat[M22];
+		final float m03 = mat[M03], m13 = mat[M13], m23 = mat[M23];
+		int i0 = offset;
+		int n = numVecs;
+		// two vectors per iteration, gives the JIT independent loads and stores to schedule
+		for (; n > 1; n -= 2) {
+			int i1 = i0 + stride;
+			float x0 = vecs[i0], y0 = vecs[i0 + 1], z0 = vecs[i0 + 2];
+			float x1 = vecs[i1], y1 = vecs[i1 + 1], z1 = vecs[i1 + 2];
+			vecs[i0] = x0 * m00 + y0 * m01 + z0 * m02 + m03;
+			vecs[i0 + 1] = x0 * m10 + y0 * m11 + z0 * m12 + m13;
+			vecs[i0 + 2] = x0 * m20 + y0 * m21 + z0 * m22 + m23;
+			vecs[i1] = x1 * m00 + y1 * m01 + z1 * m02 + m03;
+			vecs[i1 + 1] = x1 * m10 + y1 * m11 + z1 * m12 + m13;
+			vecs[i1 + 2] = x1 * m20 + y1 * m21 + z1 * m22 + m23;
+			i0 = i1 + stride;
+		}
+		if (n == 1) {
+			float x0 = vecs[i0], y0 = vecs[i0 + 1], z0 = vecs[i0 + 2];
+			vecs[i0] = x0 * m00 + y0 * m01 + z0 * m02 + m03;
+			vecs[i0 + 1] = x0 * m10 + y0 * m11 + z0 * m12 + m13;
+			vecs[i0 + 2] = x0 * m20 + y0 * m21 + z0 * m22 + m23;
+		}
+	}
+
+	/** Multiplies the vectors in the buffer with the given matrix, like {@link #mulVec(float[], float[], int, int, int)}. The
+	 * offset is given in floats from the start of the buffer. Uses absolute gets and puts, so the buffer doesn't have to be direct
+	 * and its position is left untouched. */
+	public static void mulVecJava (float[] mat, FloatBuffer vecs, int offset, int numVecs, int stride) {
+		final float m00 = mat[M00], m01 = mat[M01], m02 = mat[M02];
+		final float m10 = mat[M10], m11 = mat[M11], m12 = mat[M12];
+		final float m20 = mat[M20], m21 = mat[M21], m22 = mat[M22];
+		final float m03 = mat[M03], m13 = mat[M13], m23 = mat[M23];
+		int i0 = offset;
+		int n = numVecs;
+		// two vectors per iteration, gives the JIT independent loads and stores to schedule
+		for (; n > 1; n -= 2) {
+			int i1 = i0 + stride;
+			float x0 = vecs.get(i0), y0 = vecs.get(i0 + 1), z0 = vecs.get(i0 + 2);
+			float x1 = vecs.get(i1), y1 = vecs.get(i1 + 1), z1 = vecs.get(i1 + 2);
+			vecs.put(i0, x0 * m00 + y0 * m01 + z0 * m02 + m03);
+			vecs.put(i0 + 1, x0 * m10 + y0 * m11 + z0 * m12 + m13);
+			vecs.put(i0 + 2, x0 * m20 + y0 * m21 + z0 * m22 + m23);
+			vecs.put(i1, x1 * m00 + y1 * m01 + z1 * m02 + m03);
+			vecs.put(i1 + 1, x1 * m10 + y1 * m11 + z1 * m12 + m13);
+			vecs.put(i1 + 2, x1 * m20 + y1 * m21 + z1 * m22 + m23);
+			i0 = i1 + stride;
+		}
+		if (n == 1) {
+			float x0 = vecs.get(i0), y0 = vecs.get(i0 + 1), z0 = vecs.get(i0 + 2);
+			vecs.put(i0, x0 * m00 + y0 * m01 + z0 * m02 + m03);
+			vecs.put(i0 + 1, x0 * m10 + y0 * m11 + z0 * m12 + m13);
+			vecs.put(i0 + 2, x0 * m20 + y0 * m21 + z0 * m22 + m23);
+		}
+	}
+
+	/** Pure Java version of {@link #prj(float[], float[], int, int, int)}. Avoids the JNI call overhead, which dominates for
+	 * small batches. */
+	public static void prjJava (float[] mat, float[] vecs, int offset, int numVecs, int stride) {
+		final float m00 = mat[M00], m01 = mat[M01], m02 = mat[M02];
+		final float m10 = mat[M10], m11 = mat[M11], m12 = mat[M12];
+		final float m20 = mat[M20], m21 = mat[M21], m22 = mat[M22];
+		final float m03 = mat[M03], m13 = mat[M13], m23 = mat[M23];
+		final float m30 = mat[M30], m31 = mat[M31], m32 = mat[M32], m33 = mat[M33];
+		int i0 = offset;
+		int n = numVecs;
+		// two vectors per iteration, gives the JIT independent loads and stores to schedule
+		for (; n > 1; n -= 2) {
+			int i1 = i0 + stride;
+			float x0 = vecs[i0], y0 = vecs[i0 + 1], z0 = vecs[i0 + 2];
+			float x1 = vecs[i1], y1 = vecs[i1 + 1], z1 = vecs[i1 + 2];
+			float w0 = 1f / (x0 * m30 + y0 * m31 + z0 * m32 + m33);
+			vecs[i0] = (x0 * m00 + y0 * m01 + z0 * m02 + m03) * w0;
+			vecs[i0 + 1] = (x0 * m10 + y0 * m11 + z0 * m12 + m13) * w0;
+			vecs[i0 + 2] = (x0 * m20 + y0 * m21 + z0 * m22 + m23) * w0;
+			float w1 = 1f / (x1 * m30 + y1 * m31 + z1 * m32 + m33);
+			vecs[i1] = (x1 * m00 + y1 * m01 + z1 * m02 + m03) * w1;
+			vecs[i1 + 1] = (x1 * m10 + y1 * m11 + z1 * m12 + m13) * w1;
+			vecs[i1 + 2] = (x1 * m20 + y1 * m21 + z1 * m22 + m23) * w1;
+			i0 = i1 + stride;
+		}
+		if (n == 1) {
+			float x0 = vecs[i0], y0 = vecs[i0 + 1], z0 = vecs[i0 + 2];
+			float w0 = 1f / (x0 * m30 + y0 * m31 + z0 * m32 + m33);
+			vecs[i0] = (x0 * m00 + y0 * m01 + z0 * m02 + m03) * w0;
+			vecs[i0 + 1] = (x0 * m10 + y0 * m11 + z0 * m12 + m13) * w0;
+			vecs[i0 + 2] = (x0 * m20 + y0 * m21 + z0 * m22 + m23) * w0;
+		}
+	}
+
+	/** Multiplies the vectors in the buffer with the given matrix, performing a division by w, like {@link #prj(float[], float[],
+	 * int, int, int)}. The offset is given in floats from the start of the buffer. Uses absolute gets and puts, so the buffer
+	 * doesn't have to be direct and its position is left untouched. */
+	public static void prjJava (float[] mat, FloatBuffer vecs, int offset, int numVecs, int stride) {
+		final float m00 = mat[M00], m01 = mat[M01], m02 = mat[M02];
+		final float m10 = mat[M10], m11 = mat[M11], m12 = mat[M12];
+		final float m20 = mat[M20], m21 = mat[M21], m22 = mat[M22];
+		final float m03 = mat[M03], m13 = mat[M13], m23 = mat[M23];
+		final float m30 = mat[M30], m31 = mat[M31], m32 = mat[M32], m33 = mat[M33];
+		int i0 = offset;
+		int n = numVecs;
+		// two vectors per iteration, gives the JIT independent loads and stores to schedule
+		for (; n > 1; n -= 2) {
+			int i1 = i0 + stride;
+			float x0 = vecs.get(i0), y0 = vecs.get(i0 + 1), z0 = vecs.get(i0 + 2);
+			float x1 = vecs.get(i1), y1 = vecs.get(i1 + 1), z1 = vecs.get(i1 + 2);
+			float w0 = 1f / (x0 * m30 + y0 * m31 + z0 * m32 + m33);
+			vecs.put(i0, (x0 * m00 + y0 * m01 + z0 * m02 + m03) * w0);
+			vecs.put(i0 + 1, (x0 * m10 + y0 * m11 + z0 * m12 + m13) * w0);
+			vecs.put(i0 + 2, (x0 * m20 + y0 * m21 + z0 * m22 + m23) * w0);
+			float w1 = 1f / (x1 * m30 + y1 * m31 + z1 * m32 + m33);
+			vecs.put(i1, (x1 * m00 + y1 * m01 + z1 * m02 + m03) * w1);
+			vecs.put(i1 + 1, (x1 * m10 + y1 * m11 + z1 * m12 + m13) * w1);
+			vecs.put(i1 + 2, (x1 * m20 + y1 * m21 + z1 * m22 + m23) * w1);
+			i0 = i1 + stride;
+		}
+		if (n == 1) {
+			float x0 = vecs.get(i0), y0 = vecs.get(i0 + 1), z0 = vecs.get(i0 + 2);
+			float w0 = 1f / (x0 * m30 + y0 * m31 + z0 * m32 + m33);
+			vecs.put(i0, (x0 * m00 + y0 * m01 + z0 * m02 + m03) * w0);
+			vecs.put(i0 + 1, (x0 * m10 + y0 * m11 + z0 * m12 + m13) * w0);
+			vecs.put(i0 + 2, (x0 * m20 + y0 * m21 + z0 * m22 + m23) * w0);
+		}
+	}
+
+	/** Pure Java version of {@link #rot(float[], float[], int, int, int)}. Avoids the JNI call overhead, which dominates for
+	 * small batches. */
+	public static void rotJava (float[] mat, float[] vecs, int offset, int numVecs, int stride) {
+		final float m00 = mat[M00], m01 = mat[M01], m02 = mat[M02];
+		final float m10 = mat[M10], m11 = mat[M11], m12 = mat[M12];
+		final float m20 = mat[M20], m21 = mat[M21], m22 = mat[M22];
+		int i0 = offset;
+		int n = numVecs;
+		// two vectors per iteration, gives the JIT independent loads and stores to schedule
+		for (; n > 1; n -= 2) {
+			int i1 = i0 + stride;
+			float x0 = vecs[i0], y0 = vecs[i0 + 1], z0 = vecs[i0 + 2];
+			float x1 = vecs[i1], y1 = vecs[i1 + 1], z1 = vecs[i1 + 2];
+			vecs[i0] = x0 * m00 + y0 * m01 + z0 * m02;
+			vecs[i0 + 1] = x0 * m10 + y0 * m11 + z0 * m12;
+			vecs[i0 + 2] = x0 * m20 + y0 * m21 + z0 * m22;
+			vecs[i1] = x1 * m00 + y1 * m01 + z1 * m02;
+			vecs[i1 + 1] = x1 * m10 + y1 * m11 + z1 * m12;
+			vecs[i1 + 2] = x1 * m20 + y1 * m21 + z1 * m22;
+			i0 = i1 + stride;
+		}
+		if (n == 1) {
+			float x0 = vecs[i0], y0 = vecs[i0 + 1], z0 = vecs[i0 + 2];
+			vecs[i0] = x0 * m00 + y0 * m01 + z0 * m02;
+			vecs[i0 + 1] = x0 * m10 + y0 * m11 + z0 * m12;
+			vecs[i0 + 2] = x0 * m20 + y0 * m21 + z0 * m22;
+		}
+	}
+
+	/** Multiplies the vectors in the buffer with the top most 3x3 sub-matrix of the given matrix, like {@link #rot(float[],
+	 * float[], int, int, int)}. The offset is given in floats from the start of the buffer. Uses absolute gets and puts, so the
+	 * buffer doesn't have to be direct and its position is left untouched. */
+	public static void rotJava (float[] mat, FloatBuffer vecs, int offset, int numVecs, int stride) {
+		final float m00 = mat[M00], m01 = mat[M01], m02 = mat[M02];
+		final float m10 = mat[M10], m11 = mat[M11], m12 = mat[M12];
+		final float m20 = mat[M20], m21 = mat[M21], m22 = mat[M22];
+		int i0 = offset;
+		int n = numVecs;
+		// two vectors per iteration, gives the JIT independent loads and stores to schedule
+		for (; n > 1; n -= 2) {
+			int i1 = i0 + stride;
+			float x0 = vecs.get(i0), y0 = vecs.get(i0 + 1), z0 = vecs.get(i0 + 2);
+			float x1 = vecs.get(i1), y1 = vecs.get(i1 + 1), z1 = vecs.get(i1 + 2);
+			vecs.put(i0, x0 * m00 + y0 * m01 + z0 * m02);
+			vecs.put(i0 + 1, x0 * m10 + y0 * m11 + z0 * m12);
+			vecs.put(i0 + 2, x0 * m20 + y0 * m21 + z0 * m22);
+			vecs.put(i1, x1 * m00 + y1 * m01 + z1 * m02);
+			vecs.put(i1 + 1, x1 * m10 + y1 * m11 + z1 * m12);
+			vecs.put(i1 + 2, x1 * m20 + y1 * m21 + z1 * m22);
+			i0 = i1 + stride;
+		}
+		if (n == 1) {
+			float x0 = vecs.get(i0), y0 = vecs.get(i0 + 1), z0 = vecs.get(i0 + 2);
+			vecs.put(i0, x0 * m00 + y0 * m01 + z0 * m02);
+			vecs.put(i0 + 1, x0 * m10 + y0 * m11 + z0 * m12);
+			vecs.put(i0 + 2, x0 * m20 + y0 * m21 + z0 * m22);
+		}
+	}
+
 	/** Computes the inverse of the given matrix. The matrix array is assumed to hold a 4x4 column major matrix as you can get from
 	 * {@link Matrix4#val}.
 	 * @param values the matrix values.
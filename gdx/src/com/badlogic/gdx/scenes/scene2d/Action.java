@@ -16,6 +16,8 @@
 
 package com.badlogic.gdx.scenes.scene2d;
 
+import com.badlogic.gdx.scenes.scene2d.actions.ActionPools;
+
 /** An Action is used with an {@link Actor} and modifes the Actor's attributes over time.
  * 
  * @author mzechner */
@@ -40,11 +42,21 @@ public abstract class Action {
 	/** @return whether the action is done or not */
 	public abstract boolean isDone ();
 
-	/** Called by the owner of the action when it can release all its resources, e.g. put itself back into a pool. */
+	/** Called by the owner of the action when it can release all its resources. Calls the {@link OnActionCompleted} listener and
+	 * then {@link #free()}s the action. */
 	public void finish () {
 		if (listener != null) {
 			listener.completed(this);
 		}
+		free();
+	}
+
+	/** Puts the action back into the pool registered for its class in {@link ActionPools}, without calling the
+	 * {@link OnActionCompleted} listener. Actions holding other actions free those as well. Does nothing for action classes
+	 * without a registered pool, which includes subclasses of the built-in actions. The action must not be used after this
+	 * call. */
+	public void free () {
+		ActionPools.free(this);
 	}
 
 	/** Calls the {@link OnActionCompleted} listener and sets it to null so it won't be called again. */
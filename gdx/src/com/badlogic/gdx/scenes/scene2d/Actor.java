@@ -91,6 +91,8 @@ public abstract class Actor {
 	private boolean toRemove;
 
 	protected Stage stage;
+	/** The state the actor was last drawn with, see {@link Stage#needsRedraw()}. */
+	Stage.DrawnState drawnState;
 
 	/** Creates an actor without a name. */
 	public Actor () {
@@ -176,8 +178,12 @@ public abstract class Actor {
 		actions.add(action);
 	}
 
-	/** Clears all actions of this Actor. */
+	/** Clears all actions of this Actor and {@link Action#free() frees} them without calling their completion listeners. */
 	public void clearActions () {
+		actions.iter();
+		Action action;
+		while ((action = actions.next()) != null)
+			action.free();
 		actions.clear();
 	}
 
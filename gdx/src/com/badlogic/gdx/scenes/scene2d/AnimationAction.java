@@ -36,11 +36,12 @@ public abstract class AnimationAction extends Action {
 	}
 
 	@Override
-	public void finish () {
-		super.finish();
+	public void free () {
 		if (interpolator != null) {
 			interpolator.finished();
+			interpolator = null;
 		}
+		super.free();
 	}
 
 	/** Sets an {@link Interpolator} to modify the progression of the animations.
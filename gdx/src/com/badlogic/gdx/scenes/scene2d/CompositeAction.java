@@ -32,4 +32,14 @@ public abstract class CompositeAction extends Action {
 		return actions;
 	}
 
+	/** Frees all child actions, they stay valid until the composite itself is freed so it can be copied after it is done. */
+	@Override
+	public void free () {
+		ArrayList<Action> actions = this.actions;
+		for (int i = 0, n = actions.size(); i < n; i++)
+			actions.get(i).free();
+		actions.clear();
+		super.free();
+	}
+
 }
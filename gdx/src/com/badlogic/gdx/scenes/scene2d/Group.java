@@ -48,8 +48,17 @@ public class Group extends Actor implements Cullable {
 	protected final Matrix3 worldTransform = new Matrix3();
 	protected final Matrix4 batchTransform = new Matrix4();
 	protected final Matrix4 oldBatchTransform = new Matrix4();
+	/** The transform pushed to the batch when the transform is applied on the CPU, see {@link #cpuTransform}. */
+	protected final Matrix3 cpuWorldTransform = new Matrix3();
+	static private final Matrix3 identity = new Matrix3();
 
 	public boolean transform = true;
+	/** If true and {@link #transform} is true, the group's transform is applied to the vertices of its children by the SpriteBatch
+	 * (see {@link SpriteBatch#pushTransform(Matrix3)}) instead of by changing the batch's transform matrix. The batch is not
+	 * flushed, so this group and nested groups that also set this can be drawn with a single draw call. Groups that compute
+	 * scissors from the batch's transform matrix, such as ScrollPane, should not set this. Default is false. */
+	public boolean cpuTransform;
+	private boolean cpuTransformApplied, identityPushed;
 	public Actor lastTouchedChild;
 
 	protected Rectangle cullingArea;
@@ -106,7 +115,7 @@ public class Group extends Actor implements Cullable {
 						child.draw(batch, parentAlpha);
 					}
 				}
-				batch.flush();
+				if (!cpuTransformApplied) batch.flush();
 			} else {
 				float offsetX = x;
 				float offsetY = y;
@@ -134,7 +143,7 @@ public class Group extends Actor implements Cullable {
 					if (!child.visible) continue;
 					child.draw(batch, parentAlpha);
 				}
-				batch.flush();
+				if (!cpuTransformApplied) batch.flush();
 			} else {
 				float offsetX = x;
 				float offsetY = y;
@@ -157,14 +166,34 @@ public class Group extends Actor implements Cullable {
 
 	protected void drawChild (Actor child, SpriteBatch batch, float parentAlpha) {
 		if (child.visible) child.draw(batch, parentAlpha * color.a);
-		if (transform) batch.flush();
+		if (transform && !cpuTransformApplied) batch.flush();
 	}
 
 	protected void applyTransform (SpriteBatch batch) {
 		Matrix4 newBatchTransform = updateTransform();
+
+		Group parentGroup = parent;
+		while (parentGroup != null && !parentGroup.transform)
+			parentGroup = parentGroup.parent;
+		boolean parentCpuTransform = parentGroup != null && parentGroup.cpuTransformApplied;
+
+		cpuTransformApplied = cpuTransform;
+		if (cpuTransform) {
+			// Combine with the ancestors that are also transformed on the CPU, the rest is in the batch's transform matrix.
+			if (parentCpuTransform)
+				cpuWorldTransform.set(parentGroup.cpuWorldTransform).mul(localTransform);
+			else
+				cpuWorldTransform.set(localTransform);
+			batch.pushTransform(cpuWorldTransform);
+			return;
+		}
+
 		batch.end();
 		oldBatchTransform.set(batch.getTransformMatrix());
 		batch.setTransformMatrix(newBatchTransform);
+		// The world transform already contains the transforms of ancestors that are applied on the CPU.
+		identityPushed = parentCpuTransform;
+		if (identityPushed) batch.pushTransform(identity);
 		batch.begin();
 	}
 
@@ -197,6 +226,15 @@ public class Group extends Actor implements Cullable {
 	}
 
 	protected void resetTransform (SpriteBatch batch) {
+		if (cpuTransformApplied) {
+			batch.popTransform();
+			cpuTransformApplied = false;
+			return;
+		}
+		if (identityPushed) {
+			batch.popTransform();
+			identityPushed = false;
+		}
 		batch.end();
 		batch.setTransformMatrix(oldBatchTransform);
 		batch.begin();
@@ -361,6 +399,7 @@ public class Group extends Actor implements Cullable {
 	}
 
 	private void setStage (Actor actor, Stage stage) {
+		if (actor.stage != null && actor.stage != stage) actor.stage.actorRemoved(actor);
 		actor.stage = stage;
 		if (actor instanceof Group) {
 			List<Actor> children = ((Group)actor).getActors();
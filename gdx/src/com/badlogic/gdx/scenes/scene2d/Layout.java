@@ -34,7 +34,8 @@ public interface Layout {
 
 	/** Invalidates this actor and all its parents, calling {@link #invalidate()} on all involved actors. This method should be
 	 * called when state changes in the actor that affects the minimum, preferred, maximum, or actual size of the actor (meaning it
-	 * potentially affects the parent actor's layout). */
+	 * potentially affects the parent actor's layout). Implementations may stop at an actor whose minimum, preferred and maximum
+	 * size turn out to be unchanged, since its parent's layout doesn't depend on anything else. */
 	public void invalidateHierarchy ();
 
 	/** Ensures the actor has been laid out. Calls {@link #layout()} if {@link #invalidate()} has called since the last time
@@ -16,16 +16,23 @@
 
 package com.badlogic.gdx.scenes.scene2d;
 
+import java.util.Arrays;
 import java.util.List;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.InputEventQueue;
 import com.badlogic.gdx.Input.Keys;
 import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.scenes.scene2d.ui.utils.ScissorStack;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 
 /** A stage is a container for {@link Actor}s and handles distributing touch events, animating actors and asking them to render
@@ -42,6 +49,10 @@ import com.badlogic.gdx.utils.Disposable;
  * Actors can be focused. When your game pauses and resumes be sure to call the {@link Stage#unfocusAll()} method so that the
  * focus states get reset for each pointer id. You also have to make sure that the actors that were focused reset their state if
  * the depend on being focused, e.g. wait for a touch up event. An easier way to tackle this is to recreate the stage if possible.
+ * <p>
+ * The stage can tell whether anything changed since it was last drawn, see {@link #needsRedraw()}, so applications that don't
+ * render continuously only need to draw when something has changed. It can also restrict drawing to the area that changed, see
+ * {@link #dirtyRegions}.
  * @author mzechner */
 public class Stage extends InputAdapter implements Disposable {
 	protected float width;
@@ -58,6 +69,28 @@ public class Stage extends InputAdapter implements Disposable {
 
 	private Actor[] touchFocus = new Actor[20];
 	private Actor keyboardFocus, scrollFocus;
+	private InputEventQueue inputQueue;
+
+	/** If true, {@link #draw()} only redraws the part of the screen where actors changed since the previous frame, using
+	 * {@link ScissorStack}. This requires the contents of the back buffer to be kept between frames, and the application must not
+	 * clear the screen outside of {@link #getDirtyArea()}. Changes are detected from the actors' bounds, color and visibility, so
+	 * actors that draw outside of their bounds or change how they look in other ways must call {@link #requestRedraw(Actor)}.
+	 * Default is false. */
+	public boolean dirtyRegions;
+	private boolean tracking, redrawRequested = true, actionsRunning, drawing;
+	private final Array<DrawnState> scannedStates = new Array(false, 64);
+	private int drawOrder;
+	private float dirtyMinX, dirtyMinY, dirtyMaxX, dirtyMaxY;
+	private float removedMinX = Float.MAX_VALUE, removedMinY = Float.MAX_VALUE;
+	private float removedMaxX = -Float.MAX_VALUE, removedMaxY = -Float.MAX_VALUE;
+	/** The area that changed in this frame and in the previous frame, which is stale in the back buffer when double buffering. */
+	private final Rectangle dirtyArea = new Rectangle(), lastArea = new Rectangle();
+	/** True if the previous frame was redrawn for reasons other than the actors' bounds, so the changed area isn't known. */
+	private boolean lastAreaUnknown = true;
+	private final Rectangle redrawArea = new Rectangle(), scissor = new Rectangle();
+	private final Matrix4 identity = new Matrix4();
+	/** The camera's combined matrix when the stage was last drawn. The whole stage is redrawn when the camera moves. */
+	private final Matrix4 lastCombined = new Matrix4();
 
 	/** Constructs a new Stage object with the given dimensions. If the device resolution does not equal the Stage objects
 	 * dimensions the stage object will setup a projection matrix to guarantee a fixed coordinate system. If stretch is disabled
@@ -104,6 +137,7 @@ public class Stage extends InputAdapter implements Disposable {
 	 * @param height the height of the viewport in device independent pixels
 	 * @param stretch whether to stretch the viewport or not */
 	public void setViewport (float width, float height, boolean stretch) {
+		redrawRequested = true;
 		if (!stretch) {
 			if (width > height && width / (float)Gdx.graphics.getWidth() <= height / (float)Gdx.graphics.getHeight()) {
 				float toDeviceSpace = Gdx.graphics.getHeight() / height;
@@ -213,7 +247,7 @@ public class Stage extends InputAdapter implements Disposable {
 		if (actor == null) actor = root;
 		toStageCoordinates(x, y, coords);
 		Group.toChildCoordinates(actor, coords.x, coords.y, point);
-		return actor.touchDown(point.x, point.y, pointer);
+		return inputHandled(actor.touchDown(point.x, point.y, pointer));
 	}
 
 	/** Call this to distribute a touch Up event to the stage.
@@ -231,7 +265,7 @@ public class Stage extends InputAdapter implements Disposable {
 		actor.touchUp(coords.x, coords.y, pointer);
 		// Clear touch focus if it hasn't changed.
 		if (touchFocus[pointer] == actor) touchFocus[pointer] = null;
-		return true;
+		return inputHandled(true);
 	}
 
 	/** Call this to distribute a touch dragged event to the stage.
@@ -252,7 +286,7 @@ public class Stage extends InputAdapter implements Disposable {
 				handled = true;
 			}
 		}
-		return handled;
+		return inputHandled(handled);
 	}
 
 	/** Call this to distribute a touch moved event to the stage. This event will only ever appear on the desktop.
@@ -263,7 +297,7 @@ public class Stage extends InputAdapter implements Disposable {
 	public boolean touchMoved (int x, int y) {
 		toStageCoordinates(x, y, coords);
 		Group.toChildCoordinates(root, coords.x, coords.y, point);
-		return root.touchMoved(point.x, point.y);
+		return inputHandled(root.touchMoved(point.x, point.y));
 	}
 
 	/** Call this to distribute a mouse scroll event to the stage. This event will only ever appear on the desktop.
@@ -272,7 +306,7 @@ public class Stage extends InputAdapter implements Disposable {
 	@Override
 	public boolean scrolled (int amount) {
 		if (scrollFocus == null) return false;
-		return scrollFocus.scrolled(amount);
+		return inputHandled(scrollFocus.scrolled(amount));
 	}
 
 	/** Called when a key was pressed
@@ -282,7 +316,7 @@ public class Stage extends InputAdapter implements Disposable {
 	@Override
 	public boolean keyDown (int keycode) {
 		if (keyboardFocus == null) return false;
-		return keyboardFocus.keyDown(keycode);
+		return inputHandled(keyboardFocus.keyDown(keycode));
 	}
 
 	/** Called when a key was released
@@ -292,7 +326,7 @@ public class Stage extends InputAdapter implements Disposable {
 	@Override
 	public boolean keyUp (int keycode) {
 		if (keyboardFocus == null) return false;
-		return keyboardFocus.keyUp(keycode);
+		return inputHandled(keyboardFocus.keyUp(keycode));
 	}
 
 	/** Called when a key was typed
@@ -302,24 +336,280 @@ public class Stage extends InputAdapter implements Disposable {
 	@Override
 	public boolean keyTyped (char character) {
 		if (keyboardFocus == null) return false;
-		return keyboardFocus.keyTyped(character);
+		return inputHandled(keyboardFocus.keyTyped(character));
+	}
+
+	/** Requests a redraw if an actor handled an input event, as it may look different afterward. */
+	private boolean inputHandled (boolean handled) {
+		if (handled) redrawRequested = true;
+		return handled;
 	}
 
 	/** Calls the {@link Actor#act(float)} method of all contained Actors. This will advance any {@link Action}s active for an
-	 * Actor.
+	 * Actor. Input events queued by the {@link #getInputQueue() input queue} are dispatched first.
 	 * @param delta the delta time in seconds since the last invocation */
 	public void act (float delta) {
+		if (inputQueue != null) inputQueue.drain();
 		root.act(delta);
 	}
 
-	/** Renders the stage */
+	/** Returns an input processor that queues input events for this stage and dispatches them when the stage {@link #act(float)
+	 * acts}. Consecutive move and drag events are coalesced, so each pointer is processed at most once per frame. Use it instead
+	 * of the stage as the input processor:
+	 * 
+	 * <pre>
+	 * Gdx.input.setInputProcessor(stage.getInputQueue());
+	 * </pre>
+	 * 
+	 * @see InputEventQueue */
+	public InputEventQueue getInputQueue () {
+		if (inputQueue == null) inputQueue = new InputEventQueue(this);
+		return inputQueue;
+	}
+
+	/** Renders the stage. If {@link #dirtyRegions} is true, only the area that changed is drawn. */
 	public void draw () {
 		camera.update();
-		if (!root.visible) return;
-		batch.setProjectionMatrix(camera.combined);
-		batch.begin();
-		root.draw(batch, 1);
-		batch.end();
+		boolean track = tracking || dirtyRegions;
+		boolean clip = false;
+		if (track) {
+			scan();
+			Rectangle area = getDirtyArea();
+			lastArea.set(dirtyArea);
+			lastAreaUnknown = redrawRequested;
+			redrawRequested = false;
+			lastCombined.set(camera.combined);
+			if (area != null) {
+				ScissorStack.calculateScissors(camera, identity, area, scissor);
+				if (area.width <= 0 || area.height <= 0 || !ScissorStack.pushScissors(scissor)) {
+					commit();
+					return;
+				}
+				clip = true;
+			}
+		} else {
+			// Redraw requests are ignored while not tracking, so the first frame tracked again is drawn entirely.
+			redrawRequested = true;
+		}
+
+		if (root.visible) {
+			drawing = true;
+			batch.setProjectionMatrix(camera.combined);
+			batch.begin();
+			root.draw(batch, 1);
+			batch.end();
+			drawing = false;
+		}
+
+		if (clip) ScissorStack.popScissors();
+		if (track) {
+			commit();
+			// Keep rendering while actions are running, if the application only renders when requested.
+			if (actionsRunning && !Gdx.graphics.isContinuousRendering()) Gdx.graphics.requestRendering();
+		}
+	}
+
+	/** Returns true if the stage looks different than when it was last drawn: an actor was moved, resized, rotated, scaled, changed
+	 * color or visibility, was added, removed or reordered, has actions, handled input or requested a redraw. This can be used to
+	 * only draw the stage when needed, eg with {@link com.badlogic.gdx.Graphics#setContinuousRendering(boolean) continuous
+	 * rendering} disabled:
+	 * 
+	 * <pre>
+	 * stage.act(delta);
+	 * if (stage.needsRedraw()) Gdx.graphics.requestRendering();
+	 * </pre>
+	 * 
+	 * Changes are tracked from the first call to this method or the first draw with {@link #dirtyRegions} enabled. Until then this
+	 * always returns true. Widgets whose layout is invalid are laid out by this method. */
+	public boolean needsRedraw () {
+		if (!tracking) {
+			tracking = true;
+			return true;
+		}
+		camera.update();
+		return scan() || redrawRequested;
+	}
+
+	/** Requests that the whole stage is redrawn, eg because an actor changed in a way the stage can't detect. */
+	public void requestRedraw () {
+		redrawRequested = true;
+	}
+
+	/** Requests that the specified actor is redrawn, eg because it changed in a way the stage can't detect. Requests made while
+	 * the stage is drawing or doesn't track changes are ignored. */
+	public void requestRedraw (Actor actor) {
+		if (drawing || !(tracking || dirtyRegions)) return;
+		if (actor.drawnState == null) actor.drawnState = new DrawnState();
+		actor.drawnState.contentChanged = true;
+	}
+
+	/** Returns the area in stage coordinates that {@link #draw()} will redraw with {@link #dirtyRegions} enabled, or null if the
+	 * whole stage will be redrawn. The area includes what changed in the previous frame, as that is stale in the back buffer when
+	 * double buffering. Only valid after {@link #needsRedraw()}. */
+	public Rectangle getDirtyArea () {
+		if (!dirtyRegions || redrawRequested || lastAreaUnknown) return null;
+		Rectangle area = redrawArea;
+		area.set(dirtyArea);
+		Rectangle last = lastArea;
+		if (last.width > 0 || last.height > 0) {
+			if (area.width > 0 || area.height > 0) {
+				float minX = Math.min(area.x, last.x), minY = Math.min(area.y, last.y);
+				float maxX = Math.max(area.x + area.width, last.x + last.width);
+				float maxY = Math.max(area.y + area.height, last.y + last.height);
+				area.set(minX, minY, maxX - minX, maxY - minY);
+			} else
+				area.set(last);
+		}
+		return area;
+	}
+
+	/** Compares the actors with the state they were last drawn with, computing the dirty area. Returns true if anything changed.
+	 * Layouts are validated first, so their children are compared at their final positions. */
+	private boolean scan () {
+		scannedStates.clear();
+		drawOrder = 0;
+		actionsRunning = false;
+		dirtyMinX = removedMinX;
+		dirtyMinY = removedMinY;
+		dirtyMaxX = removedMaxX;
+		dirtyMaxY = removedMaxY;
+		if (!Arrays.equals(camera.combined.val, lastCombined.val)) redrawRequested = true;
+		scan(root, 1, 0, 0, 0, 1, 0, 1, true);
+		boolean changed = dirtyMinX <= dirtyMaxX;
+		if (changed)
+			dirtyArea.set(dirtyMinX, dirtyMinY, dirtyMaxX - dirtyMinX, dirtyMaxY - dirtyMinY);
+		else
+			dirtyArea.set(0, 0, 0, 0);
+		return changed || actionsRunning;
+	}
+
+	private void scan (Actor actor, float p00, float p01, float p02, float p10, float p11, float p12, float parentAlpha,
+		boolean parentVisible) {
+		if (actor instanceof Layout) ((Layout)actor).validate();
+
+		// The actor's transform relative to its parent: translate, rotate and scale around the origin.
+		float cos = 1, sin = 0;
+		if (actor.rotation != 0) {
+			float radians = actor.rotation * MathUtils.degreesToRadians;
+			cos = (float)Math.cos(radians);
+			sin = (float)Math.sin(radians);
+		}
+		float originX = actor.originX, originY = actor.originY;
+		float l00 = cos * actor.scaleX, l01 = -sin * actor.scaleY;
+		float l10 = sin * actor.scaleX, l11 = cos * actor.scaleY;
+		float l02 = actor.x + originX - l00 * originX - l01 * originY;
+		float l12 = actor.y + originY - l10 * originX - l11 * originY;
+		float w00 = p00 * l00 + p01 * l10, w01 = p00 * l01 + p01 * l11, w02 = p00 * l02 + p01 * l12 + p02;
+		float w10 = p10 * l00 + p11 * l10, w11 = p10 * l01 + p11 * l11, w12 = p10 * l02 + p11 * l12 + p12;
+
+		DrawnState state = actor.drawnState;
+		if (state == null) actor.drawnState = state = new DrawnState();
+		scannedStates.add(state);
+		float width = actor.width, height = actor.height;
+		float[] corners = state.corners;
+		corners[0] = w02;
+		corners[1] = w12;
+		corners[2] = w00 * width + w02;
+		corners[3] = w10 * width + w12;
+		corners[4] = w00 * width + w01 * height + w02;
+		corners[5] = w10 * width + w11 * height + w12;
+		corners[6] = w01 * height + w02;
+		corners[7] = w11 * height + w12;
+		boolean visible = parentVisible && actor.visible;
+		float alpha = parentAlpha * actor.color.a;
+		state.visible = visible;
+		state.color = actor.color.toFloatBits();
+		state.alpha = alpha;
+		state.order = drawOrder++;
+		if (state.changed()) {
+			if (state.drawn && state.drawnVisible) addDirty(state.drawnCorners);
+			if (visible) addDirty(corners);
+		}
+		if (actor.actions.size() > 0) actionsRunning = true;
+
+		if (actor instanceof Group) {
+			Group group = (Group)actor;
+			if (!group.transform) {
+				// Children of groups without a transform are only offset by the group's position.
+				w00 = p00;
+				w01 = p01;
+				w10 = p10;
+				w11 = p11;
+				w02 = p00 * actor.x + p01 * actor.y + p02;
+				w12 = p10 * actor.x + p11 * actor.y + p12;
+			}
+			List<Actor> children = group.children;
+			for (int i = 0, n = children.size(); i < n; i++)
+				scan(children.get(i), w00, w01, w02, w10, w11, w12, alpha, visible);
+		}
+	}
+
+	private void addDirty (float[] corners) {
+		for (int i = 0; i < 8; i += 2) {
+			float x = corners[i], y = corners[i + 1];
+			if (x < dirtyMinX) dirtyMinX = x;
+			if (x > dirtyMaxX) dirtyMaxX = x;
+			if (y < dirtyMinY) dirtyMinY = y;
+			if (y > dirtyMaxY) dirtyMaxY = y;
+		}
+	}
+
+	/** Records the scanned state of the actors as drawn. */
+	private void commit () {
+		Array<DrawnState> states = scannedStates;
+		for (int i = 0, n = states.size; i < n; i++)
+			states.get(i).commit();
+		states.clear();
+		removedMinX = removedMinY = Float.MAX_VALUE;
+		removedMaxX = removedMaxY = -Float.MAX_VALUE;
+	}
+
+	/** Called when an actor is removed from the stage, so the area it was drawn in is redrawn. */
+	void actorRemoved (Actor actor) {
+		DrawnState state = actor.drawnState;
+		if (state == null) return;
+		if (state.drawn && state.drawnVisible) {
+			// The removed actor isn't scanned, so remember the area it was drawn in.
+			float[] corners = state.drawnCorners;
+			for (int i = 0; i < 8; i += 2) {
+				float x = corners[i], y = corners[i + 1];
+				if (x < removedMinX) removedMinX = x;
+				if (x > removedMaxX) removedMaxX = x;
+				if (y < removedMinY) removedMinY = y;
+				if (y > removedMaxY) removedMaxY = y;
+			}
+		}
+		actor.drawnState = null;
+	}
+
+	/** The state an actor was drawn with and its current state, used to detect changes.
+	 * @see Stage#needsRedraw() */
+	static class DrawnState {
+		final float[] corners = new float[8], drawnCorners = new float[8];
+		float color, alpha, drawnColor, drawnAlpha;
+		boolean visible, drawnVisible, drawn, contentChanged;
+		int order, drawnOrder;
+
+		boolean changed () {
+			if (!drawn || contentChanged) return true;
+			if (visible != drawnVisible) return true;
+			if (!visible) return false;
+			if (color != drawnColor || alpha != drawnAlpha || order != drawnOrder) return true;
+			float[] corners = this.corners, drawnCorners = this.drawnCorners;
+			for (int i = 0; i < 8; i++)
+				if (corners[i] != drawnCorners[i]) return true;
+			return false;
+		}
+
+		void commit () {
+			System.arraycopy(corners, 0, drawnCorners, 0, 8);
+			drawnColor = color;
+			drawnAlpha = alpha;
+			drawnVisible = visible;
+			drawnOrder = order;
+			drawn = true;
+			contentChanged = false;
+		}
 	}
 
 	/** Disposes the stage */
@@ -374,6 +664,7 @@ public class Stage extends InputAdapter implements Disposable {
 	 * @param camera the {@link Camera} */
 	public void setCamera (Camera camera) {
 		this.camera = camera;
+		redrawRequested = true;
 	}
 
 	/** @return the {@link Actor} last hit by a touch event. */
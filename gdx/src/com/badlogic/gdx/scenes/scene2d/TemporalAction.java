@@ -31,4 +31,13 @@ public abstract class TemporalAction extends Action {
 		return action;
 	}
 
+	@Override
+	public void free () {
+		if (action != null) {
+			action.free();
+			action = null;
+		}
+		super.free();
+	}
+
 }
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.scenes.scene2d.actions;
+
+import com.badlogic.gdx.scenes.scene2d.Action;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectMap.Entry;
+
+/** Registry of the {@link ActionResetingPool}s for each action class. The built-in actions register their pools when their class
+ * is first used. {@link Action#free()} uses the registry to return an action to the pool of its class, which happens
+ * automatically when an action is finished by its {@link Actor}, when {@link Actor#clearActions()} is called, and for the child
+ * actions of composite actions when the composite is freed.<br>
+ * <br>
+ * Pools are looked up by the exact class of an action. Instances of subclasses, including anonymous subclasses of the built-in
+ * actions, are not returned to the pool of their superclass, as that pool would hand them out in place of the plain action. They
+ * are left to the garbage collector unless a pool is registered for their own class.<br>
+ * <br>
+ * The counters of the pools can be used to find leaks and to check that a running scene doesn't create new actions every
+ * frame. */
+public class ActionPools {
+	static private final ObjectMap<Class, ActionResetingPool> pools = new ObjectMap<Class, ActionResetingPool>();
+
+	/** Registers the pool for the given action class, replacing any previously registered pool. */
+	static public <T extends Action> void add (Class<T> type, ActionResetingPool<T> pool) {
+		pools.put(type, pool);
+	}
+
+	/** @return the pool registered for the given action class or null if the class has no pool or wasn't used yet */
+	static public <T extends Action> ActionResetingPool<T> get (Class<T> type) {
+		return pools.get(type);
+	}
+
+	/** Puts the action back into the pool registered for its exact class. Does nothing if no pool is registered, e.g. for
+	 * subclasses of the built-in actions. This does not free the children of composite actions, use {@link Action#free()} for
+	 * that. */
+	static public void free (Action action) {
+		ActionResetingPool pool = pools.get(action.getClass());
+		if (pool != null) pool.free(action);
+	}
+
+	/** @return the pools of all action classes registered so far */
+	static public ObjectMap<Class, ActionResetingPool> getPools () {
+		return pools;
+	}
+
+	/** Sets the counters of all pools to zero. */
+	static public void resetCounters () {
+		for (ActionResetingPool pool : pools.values())
+			pool.resetCounters();
+	}
+
+	/** @return one line per pool with its counters, e.g. for logging */
+	static public String getStatistics () {
+		StringBuilder buffer = new StringBuilder();
+		for (Entry<Class, ActionResetingPool> entry : pools.entries()) {
+			ActionResetingPool pool = entry.value;
+			buffer.append(entry.key.getName());
+			buffer.append(": obtained ").append(pool.obtained);
+			buffer.append(", created ").append(pool.created);
+			buffer.append(", freed ").append(pool.freed);
+			buffer.append(", active ").append(pool.getActive());
+			buffer.append(", free ").append(pool.getFree());
+			buffer.append('\n');
+		}
+		return buffer.toString();
+	}
+}
@@ -19,20 +19,54 @@ package com.badlogic.gdx.scenes.scene2d.actions;
 import com.badlogic.gdx.scenes.scene2d.Action;
 import com.badlogic.gdx.utils.Pool;
 
-/** A pool taking care of the {@link Action} life cycle and resets all its properties when obtained from this pool.
+/** A pool taking care of the {@link Action} life cycle and resets all its properties when obtained from this pool. The pool
+ * counts how many actions were obtained, created and freed, see {@link ActionPools} for an overview of all action pools.
  * 
  * @author Moritz Post <moritzpost@gmail.com>
  * @param <T> the type action to manage */
 public abstract class ActionResetingPool<T extends Action> extends Pool<T> {
+	/** The number of actions obtained from this pool. */
+	public int obtained;
+	/** The number of obtained actions that had to be newly created because the pool was empty. */
+	public int created;
+	/** The number of actions freed to this pool. */
+	public int freed;
 
 	public ActionResetingPool (int initialCapacity, int max) {
 		super(initialCapacity, max);
 	}
 
+	/** Creates a pool with no maximum and registers it with {@link ActionPools} for the given action class, so that
+	 * {@link Action#free()} returns actions of exactly that class to this pool. */
+	public ActionResetingPool (Class<T> type) {
+		super();
+		ActionPools.add(type, this);
+	}
+
 	@Override
 	public T obtain () {
+		if (getFree() == 0) created++;
+		obtained++;
 		T elem = super.obtain();
 		elem.reset();
 		return elem;
 	}
+
+	@Override
+	public void free (T object) {
+		freed++;
+		super.free(object);
+	}
+
+	/** Returns the number of actions obtained from this pool that were not freed yet. */
+	public int getActive () {
+		return obtained - freed;
+	}
+
+	/** Sets all counters to zero. */
+	public void resetCounters () {
+		obtained = 0;
+		created = 0;
+		freed = 0;
+	}
 }
@@ -20,7 +20,7 @@ import com.badlogic.gdx.scenes.scene2d.Action;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 
 public class Delay extends Action {
-	static final ActionResetingPool<Delay> pool = new ActionResetingPool<Delay>(4, 100) {
+	static final ActionResetingPool<Delay> pool = new ActionResetingPool<Delay>(Delay.class) {
 		@Override
 		protected Delay newObject () {
 			return new Delay();
@@ -80,10 +80,12 @@ public class Delay extends Action {
 	}
 
 	@Override
-	public void finish () {
-		pool.free(this);
-		if(action != null) action.finish();
-		super.finish();
+	public void free () {
+		if (action != null) {
+			action.free();
+			action = null;
+		}
+		super.free();
 	}
 
 	@Override
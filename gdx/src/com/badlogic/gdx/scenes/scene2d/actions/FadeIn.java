@@ -22,7 +22,7 @@ import com.badlogic.gdx.scenes.scene2d.AnimationAction;
 
 public class FadeIn extends AnimationAction {
 
-	private static final ActionResetingPool<FadeIn> pool = new ActionResetingPool<FadeIn>(4, 100) {
+	private static final ActionResetingPool<FadeIn> pool = new ActionResetingPool<FadeIn>(FadeIn.class) {
 		@Override
 		protected FadeIn newObject () {
 			return new FadeIn();
@@ -59,14 +59,6 @@ public class FadeIn extends AnimationAction {
 		}
 	}
 
-	@Override
-	public void finish () {
-		pool.free(this);
-		if (listener != null) {
-			listener.completed(this);
-		}
-	}
-
 	@Override
 	public Action copy () {
 		FadeIn fadeIn = $(duration);
@@ -22,7 +22,7 @@ import com.badlogic.gdx.scenes.scene2d.AnimationAction;
 
 public class FadeOut extends AnimationAction {
 
-	private static final ActionResetingPool<FadeOut> pool = new ActionResetingPool<FadeOut>(4, 100) {
+	private static final ActionResetingPool<FadeOut> pool = new ActionResetingPool<FadeOut>(FadeOut.class) {
 		@Override
 		protected FadeOut newObject () {
 			return new FadeOut();
@@ -58,12 +58,6 @@ public class FadeOut extends AnimationAction {
 		}
 	}
 
-	@Override
-	public void finish () {
-		super.finish();
-		pool.free(this);
-	}
-
 	@Override
 	public Action copy () {
 		FadeOut fadeOut = $(duration);
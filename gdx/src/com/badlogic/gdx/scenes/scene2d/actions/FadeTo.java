@@ -22,7 +22,7 @@ import com.badlogic.gdx.scenes.scene2d.AnimationAction;
 
 public class FadeTo extends AnimationAction {
 
-	private static final ActionResetingPool<FadeTo> pool = new ActionResetingPool<FadeTo>(4, 100) {
+	private static final ActionResetingPool<FadeTo> pool = new ActionResetingPool<FadeTo>(FadeTo.class) {
 		@Override
 		protected FadeTo newObject () {
 			return new FadeTo();
@@ -61,12 +61,6 @@ public class FadeTo extends AnimationAction {
 		}
 	}
 
-	@Override
-	public void finish () {
-		super.finish();
-		pool.free(this);
-	}
-
 	@Override
 	public Action copy () {
 		FadeTo fadeTo = $(toAlpha, duration);
@@ -22,7 +22,7 @@ import com.badlogic.gdx.scenes.scene2d.OnActionCompleted;
 import com.badlogic.gdx.scenes.scene2d.TemporalAction;
 
 public class Forever extends TemporalAction {
-	static final ActionResetingPool<Forever> pool = new ActionResetingPool<Forever>(4, 100) {
+	static final ActionResetingPool<Forever> pool = new ActionResetingPool<Forever>(Forever.class) {
 		@Override
 		protected Forever newObject () {
 			return new Forever();
@@ -58,13 +58,6 @@ public class Forever extends TemporalAction {
 		return false;
 	}
 
-	@Override
-	public void finish () {
-		pool.free(this);
-		action.finish();
-		super.finish();
-	}
-
 	@Override
 	public Action copy () {
 		return $(action.copy());
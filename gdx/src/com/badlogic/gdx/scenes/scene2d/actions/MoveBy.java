@@ -22,7 +22,7 @@ import com.badlogic.gdx.scenes.scene2d.AnimationAction;
 
 public class MoveBy extends AnimationAction {
 
-	private static final ActionResetingPool<MoveBy> pool = new ActionResetingPool<MoveBy>(4, 100) {
+	private static final ActionResetingPool<MoveBy> pool = new ActionResetingPool<MoveBy>(MoveBy.class) {
 		@Override
 		protected MoveBy newObject () {
 			return new MoveBy();
@@ -72,12 +72,6 @@ public class MoveBy extends AnimationAction {
 		}
 	}
 
-	@Override
-	public void finish () {
-		super.finish();
-		pool.free(this);
-	}
-
 	@Override
 	public Action copy () {
 		MoveBy moveBy = $(initialX, initialY, duration);
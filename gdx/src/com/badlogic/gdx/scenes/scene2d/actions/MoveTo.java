@@ -22,7 +22,7 @@ import com.badlogic.gdx.scenes.scene2d.AnimationAction;
 
 public class MoveTo extends AnimationAction {
 
-	private static final ActionResetingPool<MoveTo> pool = new ActionResetingPool<MoveTo>(4, 100) {
+	private static final ActionResetingPool<MoveTo> pool = new ActionResetingPool<MoveTo>(MoveTo.class) {
 		@Override
 		protected MoveTo newObject () {
 			return new MoveTo();
@@ -68,12 +68,6 @@ public class MoveTo extends AnimationAction {
 		}
 	}
 
-	@Override
-	public void finish () {
-		super.finish();
-		pool.free(this);
-	}
-
 	@Override
 	public Action copy () {
 		MoveTo moveTo = $(x, y, duration);
@@ -22,7 +22,7 @@ import com.badlogic.gdx.scenes.scene2d.CompositeAction;
 
 public class Parallel extends CompositeAction {
 
-	static final ActionResetingPool<Parallel> pool = new ActionResetingPool<Parallel>(4, 100) {
+	static final ActionResetingPool<Parallel> pool = new ActionResetingPool<Parallel>(Parallel.class) {
 		@Override
 		protected Parallel newObject () {
 			return new Parallel();
@@ -66,7 +66,7 @@ public class Parallel extends CompositeAction {
 				allDone = false;
 			} else {
 				if (!finished[i]) {
-					action.finish();
+					action.callActionCompletedListener();
 					finished[i] = true;
 					allDone &= finished[i];
 				}
@@ -83,16 +83,6 @@ public class Parallel extends CompositeAction {
 		return true;
 	}
 
-	@Override
-	public void finish () {
-		pool.free(this);
-		int len = actions.size();
-		for (int i = 0; i < len; i++) {
-			if (!finished[i]) actions.get(i).finish();
-		}
-		super.finish();
-	}
-
 	@Override
 	public Action copy () {
 		Parallel parallel = pool.obtain();
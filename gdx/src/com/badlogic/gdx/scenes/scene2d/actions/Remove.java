@@ -20,7 +20,7 @@ import com.badlogic.gdx.scenes.scene2d.Action;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 
 public class Remove extends Action {
-	private static final ActionResetingPool<Remove> pool = new ActionResetingPool<Remove>(4, 100) {
+	private static final ActionResetingPool<Remove> pool = new ActionResetingPool<Remove>(Remove.class) {
 		@Override
 		protected Remove newObject () {
 			return new Remove();
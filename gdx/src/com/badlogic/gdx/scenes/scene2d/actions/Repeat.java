@@ -21,7 +21,7 @@ import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.TemporalAction;
 
 public class Repeat extends TemporalAction {
-	static final ActionResetingPool<Repeat> pool = new ActionResetingPool<Repeat>(4, 100) {
+	static final ActionResetingPool<Repeat> pool = new ActionResetingPool<Repeat>(Repeat.class) {
 		@Override
 		protected Repeat newObject () {
 			return new Repeat();
@@ -72,13 +72,6 @@ public class Repeat extends TemporalAction {
 		return finishedTimes >= times;
 	}
 
-	@Override
-	public void finish () {
-		pool.free(this);
-		action.finish();
-		super.finish();
-	}
-
 	@Override
 	public Action copy () {
 		return $(action.copy(), times);
@@ -22,7 +22,7 @@ import com.badlogic.gdx.scenes.scene2d.AnimationAction;
 
 public class RotateBy extends AnimationAction {
 
-	private static final ActionResetingPool<RotateBy> pool = new ActionResetingPool<RotateBy>(4, 100) {
+	private static final ActionResetingPool<RotateBy> pool = new ActionResetingPool<RotateBy>(RotateBy.class) {
 		@Override
 		protected RotateBy newObject () {
 			return new RotateBy();
@@ -60,12 +60,6 @@ public class RotateBy extends AnimationAction {
 		}
 	}
 
-	@Override
-	public void finish () {
-		super.finish();
-		pool.free(this);
-	}
-
 	@Override
 	public Action copy () {
 		RotateBy rotateBy = $(rotation, duration);
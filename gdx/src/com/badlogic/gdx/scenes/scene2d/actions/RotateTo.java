@@ -22,7 +22,7 @@ import com.badlogic.gdx.scenes.scene2d.AnimationAction;
 
 public class RotateTo extends AnimationAction {
 
-	private static final ActionResetingPool<RotateTo> pool = new ActionResetingPool<RotateTo>(4, 100) {
+	private static final ActionResetingPool<RotateTo> pool = new ActionResetingPool<RotateTo>(RotateTo.class) {
 		@Override
 		protected RotateTo newObject () {
 			return new RotateTo();
@@ -60,12 +60,6 @@ public class RotateTo extends AnimationAction {
 		}
 	}
 
-	@Override
-	public void finish () {
-		super.finish();
-		pool.free(this);
-	}
-
 	@Override
 	public Action copy () {
 		RotateTo rotateTo = $(rotation, duration);
@@ -22,7 +22,7 @@ import com.badlogic.gdx.scenes.scene2d.AnimationAction;
 
 public class ScaleTo extends AnimationAction {
 
-	private static final ActionResetingPool<ScaleTo> pool = new ActionResetingPool<ScaleTo>(4, 100) {
+	private static final ActionResetingPool<ScaleTo> pool = new ActionResetingPool<ScaleTo>(ScaleTo.class) {
 		@Override
 		protected ScaleTo newObject () {
 			return new ScaleTo();
@@ -68,12 +68,6 @@ public class ScaleTo extends AnimationAction {
 		}
 	}
 
-	@Override
-	public void finish () {
-		super.finish();
-		pool.free(this);
-	}
-
 	@Override
 	public Action copy () {
 		ScaleTo scaleTo = $(scaleX, scaleY, duration);
@@ -22,7 +22,7 @@ import com.badlogic.gdx.scenes.scene2d.CompositeAction;
 
 public class Sequence extends CompositeAction {
 
-	static final ActionResetingPool<Sequence> pool = new ActionResetingPool<Sequence>(4, 100) {
+	static final ActionResetingPool<Sequence> pool = new ActionResetingPool<Sequence>(Sequence.class) {
 		@Override
 		protected Sequence newObject () {
 			return new Sequence();
@@ -73,12 +73,6 @@ public class Sequence extends CompositeAction {
 		return currAction >= actions.size();
 	}
 
-	@Override
-	public void finish () {
-		pool.free(this);
-		super.finish();
-	}
-
 	@Override
 	public Action copy () {
 		Sequence action = pool.obtain();
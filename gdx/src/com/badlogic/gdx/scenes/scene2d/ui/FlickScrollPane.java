@@ -198,17 +198,18 @@ public class FlickScrollPane extends WidgetGroup {
 		scrollY = !disableY && (widgetHeight > height || forceOverscrollY);
 
 		// If the widget is smaller than the available space, make it take up the available space.
-		widget.width = disableX ? width : Math.max(width, widgetWidth);
-		widget.height = disableY ? height : Math.max(height, widgetHeight);
+		widgetWidth = disableX ? width : Math.max(width, widgetWidth);
+		widgetHeight = disableY ? height : Math.max(height, widgetHeight);
+		if (widget.width != widgetWidth || widget.height != widgetHeight) {
+			widget.width = widgetWidth;
+			widget.height = widgetHeight;
+			if (widget instanceof Layout) ((Layout)widget).invalidate();
+		}
 
 		maxX = widget.width - width;
 		maxY = widget.height - height;
 
-		if (widget instanceof Layout) {
-			Layout layout = (Layout)widget;
-			layout.invalidate();
-			layout.validate();
-		}
+		if (widget instanceof Layout) ((Layout)widget).validate();
 	}
 
 	@Override
@@ -22,6 +22,8 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont.HAlignment;
 import com.badlogic.gdx.graphics.g2d.BitmapFont.TextBounds;
 import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextLayoutCache;
+import com.badlogic.gdx.graphics.g2d.TextLayoutCache.TextLayout;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.Layout;
@@ -30,8 +32,14 @@ import com.badlogic.gdx.scenes.scene2d.ui.tablelayout.Table;
 /** A text label, with optional word wrapping.
  * <p>
  * The preferred size of the label is determined by the actual text bounds, unless {@link #setWrap(boolean) word wrap} is enabled.
+ * <p>
+ * Laid out text is kept in a {@link #layoutCache cache} shared by all labels, so labels showing the same text, or laid out again
+ * without their text changing, only copy the glyph vertices.
  * @author Nathan Sweet */
 public class Label extends Widget {
+	/** The cache used by all labels to reuse laid out text. May be set to null to lay out the text of each label every time. */
+	static public TextLayoutCache layoutCache = new TextLayoutCache(256);
+
 	private LabelStyle style;
 	private final TextBounds bounds = new TextBounds();
 	private CharSequence text;
@@ -155,15 +163,29 @@ public class Label extends Widget {
 	}
 
 	private void computeBounds () {
-		if (wrap)
+		TextLayout layout = getLayout();
+		if (layout != null)
+			bounds.set(layout.bounds);
+		else if (wrap)
 			bounds.set(cache.getFont().getWrappedBounds(text, width));
 		else
 			bounds.set(cache.getFont().getMultiLineBounds(text));
 	}
 
+	/** Returns the cached layout for the current text, or null if there is no {@link #layoutCache}. */
+	private TextLayout getLayout () {
+		if (layoutCache == null) return null;
+		if (wrap) return layoutCache.getWrapped(style.font, text, width, lineAlign);
+		return layoutCache.getMultiLine(style.font, text, lineAlign);
+	}
+
 	@Override
 	public void layout () {
-		computeBounds();
+		TextLayout layout = getLayout();
+		if (layout != null)
+			bounds.set(layout.bounds);
+		else
+			computeBounds();
 
 		if (wrap) {
 			float prefHeight = getPrefHeight();
@@ -192,7 +214,9 @@ public class Label extends Widget {
 		} else
 			x = (width - bounds.width) / 2;
 
-		if (wrap)
+		if (layout != null)
+			cache.setText(layout, x, y);
+		else if (wrap)
 			cache.setWrappedText(text, x, y, bounds.width, lineAlign);
 		else
 			cache.setMultiLineText(text, x, y, bounds.width, lineAlign);
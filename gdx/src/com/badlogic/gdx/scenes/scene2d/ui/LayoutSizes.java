@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.scenes.scene2d.ui;
+
+import com.badlogic.gdx.scenes.scene2d.Layout;
+
+/** The minimum, preferred and maximum size of a {@link Layout} as last seen by its parent. Used by {@link Widget} and
+ * {@link WidgetGroup} to stop invalidating the hierarchy at widgets whose size didn't change. */
+class LayoutSizes {
+	private float minWidth, minHeight, prefWidth = -1, prefHeight, maxWidth, maxHeight;
+
+	/** Stores the current minimum, preferred and maximum size of the layout.
+	 * @return true if any of them differs from the stored one */
+	boolean update (Layout layout) {
+		float minWidth = layout.getMinWidth(), minHeight = layout.getMinHeight();
+		float prefWidth = layout.getPrefWidth(), prefHeight = layout.getPrefHeight();
+		float maxWidth = layout.getMaxWidth(), maxHeight = layout.getMaxHeight();
+		if (minWidth == this.minWidth && minHeight == this.minHeight && prefWidth == this.prefWidth
+			&& prefHeight == this.prefHeight && maxWidth == this.maxWidth && maxHeight == this.maxHeight) return false;
+		this.minWidth = minWidth;
+		this.minHeight = minHeight;
+		this.prefWidth = prefWidth;
+		this.prefHeight = prefHeight;
+		this.maxWidth = maxWidth;
+		this.maxHeight = maxHeight;
+		return true;
+	}
+
+	/** Forgets the stored sizes, so the next {@link #update(Layout)} returns true. */
+	void clear () {
+		prefWidth = -1;
+	}
+}
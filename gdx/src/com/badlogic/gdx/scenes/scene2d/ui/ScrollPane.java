@@ -152,6 +152,7 @@ public class ScrollPane extends WidgetGroup {
 		if (widget.width != widgetWidth || widget.height != widgetHeight) {
 			widget.width = widgetWidth;
 			widget.height = widgetHeight;
+			if (widget instanceof Layout) ((Layout)widget).invalidate();
 		}
 
 		// Set the bounds and scroll knob sizes if scrollbars are needed.
@@ -171,11 +172,7 @@ public class ScrollPane extends WidgetGroup {
 			vKnobBounds.y = vScrollBounds.y + (int)((vScrollBounds.height - vKnobBounds.height) * (1 - getScrollPercentY()));
 		}
 
-		if (widget instanceof Layout) {
-			Layout layout = (Layout)widget;
-			layout.invalidate();
-			layout.validate();
-		}
+		if (widget instanceof Layout) ((Layout)widget).validate();
 	}
 
 	@Override
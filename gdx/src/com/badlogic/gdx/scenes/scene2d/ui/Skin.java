@@ -37,6 +37,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Label.LabelStyle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IdentityMap;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.Json.Serializer;
 import com.badlogic.gdx.utils.JsonWriter.OutputType;
@@ -201,6 +202,8 @@ import com.badlogic.gdx.utils.SerializationException;
 public class Skin implements Disposable {
 	ObjectMap<Class, ObjectMap<String, Object>> resources = new ObjectMap();
 	ObjectMap<Class, ObjectMap<String, Object>> styles = new ObjectMap();
+	/** The name of each style object, so {@link #findStyleName(Object)} doesn't need to search the styles. */
+	private final IdentityMap<Object, String> styleNames = new IdentityMap();
 	Texture texture;
 
 	public Skin () {
@@ -283,7 +286,9 @@ public class Skin implements Disposable {
 			typeStyles = new ObjectMap();
 			styles.put(style.getClass(), typeStyles);
 		}
-		typeStyles.put(name, style);
+		Object oldStyle = typeStyles.put(name, style);
+		if (oldStyle != null && oldStyle != style && name.equals(styleNames.get(oldStyle))) styleNames.remove(oldStyle);
+		styleNames.put(style, name);
 	}
 
 	public <T> T getStyle (Class<T> type) {
@@ -307,13 +312,11 @@ public class Skin implements Disposable {
 		return true;
 	}
 
-	/** Returns the name of the specified style object, or null if it is not in the skin. This compares potentially every style
-	 * object in the skin of the same type as the specified style, which may be a somewhat expensive operation. */
+	/** Returns the name of the specified style object, or null if it is not in the skin. If the style object was added with
+	 * multiple names, the name it was added with last is returned. */
 	public String findStyleName (Object style) {
 		if (style == null) throw new IllegalArgumentException("style cannot be null.");
-		ObjectMap<String, Object> typeStyles = styles.get(style.getClass());
-		if (typeStyles == null) return null;
-		return typeStyles.findKey(style, true);
+		return styleNames.get(style);
 	}
 
 	/** Sets the style on the actor to disabled or enabled. This is done by appending "-disabled" to the style name when enabled is
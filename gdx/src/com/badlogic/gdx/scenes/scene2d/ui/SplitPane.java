@@ -101,29 +101,20 @@ public class SplitPane extends WidgetGroup {
 		else
 			calculateVertBoundsAndPositions();
 
-		if (firstWidget != null && firstWidget.width != firstWidgetBounds.width || firstWidget.height != firstWidgetBounds.height) {
-			firstWidget.x = firstWidgetBounds.x;
-			firstWidget.y = firstWidgetBounds.y;
-			firstWidget.width = firstWidgetBounds.width;
-			firstWidget.height = firstWidgetBounds.height;
-			if (firstWidget instanceof Layout) {
-				Layout layout = (Layout)firstWidget;
-				layout.invalidate();
-				layout.validate();
-			}
-		}
-		if (secondWidget != null && secondWidget.width != secondWidgetBounds.width
-			|| secondWidget.height != secondWidgetBounds.height) {
-			secondWidget.x = secondWidgetBounds.x;
-			secondWidget.y = secondWidgetBounds.y;
-			secondWidget.width = secondWidgetBounds.width;
-			secondWidget.height = secondWidgetBounds.height;
-			if (secondWidget instanceof Layout) {
-				Layout layout = (Layout)secondWidget;
-				layout.invalidate();
-				layout.validate();
-			}
+		if (firstWidget != null) layoutWidget(firstWidget, firstWidgetBounds);
+		if (secondWidget != null) layoutWidget(secondWidget, secondWidgetBounds);
+	}
+
+	/** Moves the widget to the bounds and only invalidates it if its size changed. */
+	private void layoutWidget (Actor widget, Rectangle bounds) {
+		widget.x = bounds.x;
+		widget.y = bounds.y;
+		if (widget.width != bounds.width || widget.height != bounds.height) {
+			widget.width = bounds.width;
+			widget.height = bounds.height;
+			if (widget instanceof Layout) ((Layout)widget).invalidate();
 		}
+		if (widget instanceof Layout) ((Layout)widget).validate();
 	}
 
 	@Override
@@ -53,13 +53,12 @@ public class Stack extends WidgetGroup {
 			Actor child = children.get(i);
 			child.x = 0;
 			child.y = 0;
-			child.width = width;
-			child.height = height;
-			if (child instanceof Layout) {
-				Layout layout = (Layout)child;
-				layout.invalidate();
-				layout.validate();
+			if (child.width != width || child.height != height) {
+				child.width = width;
+				child.height = height;
+				if (child instanceof Layout) ((Layout)child).invalidate();
 			}
+			if (child instanceof Layout) ((Layout)child).validate();
 		}
 	}
 
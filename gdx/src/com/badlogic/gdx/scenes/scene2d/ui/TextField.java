@@ -24,6 +24,7 @@ import com.badlogic.gdx.Input.Keys;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.BitmapFont.TextBounds;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.NinePatch;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -74,6 +75,10 @@ public class TextField extends Widget {
 	private final Rectangle scissor = new Rectangle();
 	private float renderOffset, textOffset;
 	private int visibleTextStart, visibleTextEnd;
+	private BitmapFontCache textCache;
+	/** The visible range and position the text cache was built with. cachedTextStart is -1 when the cache must be rebuilt. */
+	private int cachedTextStart = -1, cachedTextEnd;
+	private float cachedTextX, cachedTextY;
 	private final FloatArray glyphAdvances = new FloatArray();
 	private final FloatArray glyphPositions = new FloatArray();
 
@@ -127,6 +132,8 @@ public class TextField extends Widget {
 	public void setStyle (TextFieldStyle style) {
 		if (style == null) throw new IllegalArgumentException("style cannot be null.");
 		this.style = style;
+		textCache = new BitmapFontCache(style.font, style.font.usesIntegerPositions());
+		cachedTextStart = -1;
 		invalidateHierarchy();
 	}
 
@@ -196,6 +203,14 @@ public class TextField extends Widget {
 		}
 	}
 
+	@Override
+	public void act (float delta) {
+		super.act(delta);
+		// The stage can't detect the cursor blinking, so request a redraw when it is due.
+		if (stage != null && stage.getKeyboardFocus() == this && (TimeUtils.nanoTime() - lastBlink) / 1000000000.0f > blinkTime)
+			stage.requestRedraw(this);
+	}
+
 	@Override
 	public void draw (SpriteBatch batch, float parentAlpha) {
 		final BitmapFont font = style.font;
@@ -230,8 +245,18 @@ public class TextField extends Widget {
 				font.draw(batch, messageText, x + bgLeftWidth, y + textY);
 			}
 		} else {
-			font.setColor(fontColor.r, fontColor.g, fontColor.b, fontColor.a * parentAlpha);
-			font.draw(batch, displayText, x + bgLeftWidth + textOffset, y + textY, visibleTextStart, visibleTextEnd);
+			// The glyphs are only laid out again when the text, the visible part of it or the position has changed.
+			float textX = x + bgLeftWidth + textOffset;
+			if (cachedTextStart != visibleTextStart || cachedTextEnd != visibleTextEnd || cachedTextX != textX
+				|| cachedTextY != y + textY) {
+				textCache.setText(displayText, textX, y + textY, visibleTextStart, visibleTextEnd);
+				cachedTextStart = visibleTextStart;
+				cachedTextEnd = visibleTextEnd;
+				cachedTextX = textX;
+				cachedTextY = y + textY;
+			}
+			textCache.setColor(fontColor.r, fontColor.g, fontColor.b, fontColor.a * parentAlpha);
+			textCache.draw(batch);
 		}
 		if (focused) {
 			blink();
@@ -255,6 +280,7 @@ public class TextField extends Widget {
 		} else
 			displayText = text;
 		style.font.computeGlyphAdvancesAndPositions(displayText, glyphAdvances, glyphPositions);
+		cachedTextStart = -1;
 	}
 
 	private void blink () {
@@ -516,7 +542,6 @@ public class TextField extends Widget {
 
 		textBounds.set(font.getBounds(displayText));
 		textBounds.height -= font.getDescent() * 2;
-		font.computeGlyphAdvancesAndPositions(displayText, glyphAdvances, glyphPositions);
 	}
 
 	/** @return Never null, might be an empty string. */
@@ -33,8 +33,13 @@ import com.badlogic.gdx.scenes.scene2d.Layout;
  * @author mzechner
  * @author Nathan Sweet */
 public abstract class Widget extends Actor implements Layout {
+	/** The number of times {@link #layout()} was called by {@link #validate()} on any widget or widget group. Can be reset and
+	 * checked each frame to verify that a UI which doesn't change isn't laid out again. */
+	static public int layoutCount;
+
 	private boolean needsLayout = true;
 	private boolean fillParent;
+	private final LayoutSizes lastSizes = new LayoutSizes();
 
 	/** Creates a new widget without a name. */
 	public Widget () {
@@ -71,6 +76,7 @@ public abstract class Widget extends Actor implements Layout {
 
 	public void invalidate () {
 		needsLayout = true;
+		if (stage != null) stage.requestRedraw(this);
 	}
 
 	public void validate () {
@@ -92,7 +98,10 @@ public abstract class Widget extends Actor implements Layout {
 
 		if (!needsLayout) return;
 		needsLayout = false;
+		layoutCount++;
 		layout();
+		// Remember the sizes the parent has seen, so invalidateHierarchy can tell if they change.
+		if (parent instanceof Layout) lastSizes.update(this);
 	}
 
 	/** Returns true if the widget's layout has been {@link #invalidate() invalidated}. */
@@ -100,9 +109,20 @@ public abstract class Widget extends Actor implements Layout {
 		return needsLayout;
 	}
 
+	/** Invalidates this widget and, if its minimum, preferred or maximum size may have changed, the parent. If this widget was
+	 * valid, its sizes are compared to those from the last call and the parent is only invalidated if they differ, so changes that
+	 * don't affect the size of a widget don't cause the whole hierarchy to be laid out again. */
 	public void invalidateHierarchy () {
+		boolean wasValid = !needsLayout;
 		invalidate();
-		if (parent instanceof Layout) ((Layout)parent).invalidateHierarchy();
+		if (!(parent instanceof Layout)) return;
+		if (wasValid) {
+			if (!lastSizes.update(this)) return;
+		} else {
+			// Without computing the sizes it is unknown what the parent saw, the next comparison must not stop propagation.
+			lastSizes.clear();
+		}
+		((Layout)parent).invalidateHierarchy();
 	}
 
 	public void pack () {
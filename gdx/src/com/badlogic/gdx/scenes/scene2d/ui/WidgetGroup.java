@@ -18,6 +18,7 @@ import com.badlogic.gdx.scenes.scene2d.Layout;
 public abstract class WidgetGroup extends Group implements Layout {
 	private boolean needsLayout = true;
 	private boolean fillParent;
+	private final LayoutSizes lastSizes = new LayoutSizes();
 
 	public WidgetGroup () {
 		super();
@@ -45,6 +46,7 @@ public abstract class WidgetGroup extends Group implements Layout {
 
 	public void invalidate () {
 		needsLayout = true;
+		if (stage != null) stage.requestRedraw(this);
 	}
 
 	public void validate () {
@@ -66,7 +68,10 @@ public abstract class WidgetGroup extends Group implements Layout {
 
 		if (!needsLayout) return;
 		needsLayout = false;
+		Widget.layoutCount++;
 		layout();
+		// Remember the sizes the parent has seen, so invalidateHierarchy can tell if they change.
+		if (parent instanceof Layout) lastSizes.update(this);
 	}
 
 	/** Returns true if the widget's layout has been {@link #invalidate() invalidated}. */
@@ -74,9 +79,20 @@ public abstract class WidgetGroup extends Group implements Layout {
 		return needsLayout;
 	}
 
+	/** Invalidates this widget group and, if its minimum, preferred or maximum size may have changed, the parent. If this widget
+	 * group was valid, its sizes are compared to those from the last call and the parent is only invalidated if they differ, so
+	 * changes that don't affect the size of a widget don't cause the whole hierarchy to be laid out again. */
 	public void invalidateHierarchy () {
+		boolean wasValid = !needsLayout;
 		invalidate();
-		if (parent instanceof Layout) ((Layout)parent).invalidateHierarchy();
+		if (!(parent instanceof Layout)) return;
+		if (wasValid) {
+			if (!lastSizes.update(this)) return;
+		} else {
+			// Without computing the sizes it is unknown what the parent saw, the next comparison must not stop propagation.
+			lastSizes.clear();
+		}
+		((Layout)parent).invalidateHierarchy();
 	}
 
 	protected void childrenChanged () {
@@ -86,19 +86,20 @@ public class TableLayout extends BaseTableLayout<Actor, Table, TableLayout, Libg
 			if (c.getIgnore()) continue;
 			Actor actor = (Actor)c.getWidget();
 			actor.x = c.getWidgetX();
+			int widgetWidth = c.getWidgetWidth();
 			int widgetHeight = c.getWidgetHeight();
 			actor.y = table.height - c.getWidgetY() - widgetHeight;
-			actor.width = c.getWidgetWidth();
-			actor.height = widgetHeight;
+			// Moving a widget doesn't require it to be laid out again, resizing does.
+			if (actor.width != widgetWidth || actor.height != widgetHeight) {
+				actor.width = widgetWidth;
+				actor.height = widgetHeight;
+				if (actor instanceof Layout) ((Layout)actor).invalidate();
+			}
 		}
 		List<Actor> children = table.getActors();
 		for (int i = 0, n = children.size(); i < n; i++) {
 			Actor child = children.get(i);
-			if (child instanceof Layout) {
-				Layout layout = (Layout)child;
-				layout.invalidate();
-				layout.validate();
-			}
+			if (child instanceof Layout) ((Layout)child).validate();
 		}
 	}
 
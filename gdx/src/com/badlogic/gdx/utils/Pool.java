@@ -61,6 +61,11 @@ abstract public class Pool<T> {
 			freeObjects.add(objects.get(i));
 	}
 
+	/** Returns the number of objects available to be obtained without creating new ones. */
+	public int getFree () {
+		return freeObjects.size;
+	}
+
 	/** Removes all free objects from this pool. */
 	public void clear () {
 		freeObjects.clear();
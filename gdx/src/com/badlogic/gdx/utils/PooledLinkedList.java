@@ -150,4 +150,9 @@ public class PooledLinkedList<T> {
 			remove();
 
 	}
+
+	/** Returns the number of items in the list. */
+	public int size () {
+		return size;
+	}
 }
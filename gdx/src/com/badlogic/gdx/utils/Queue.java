@@ -0,0 +1,301 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/** A resizable, ordered double ended queue of objects backed by a ring buffer. Adding and removing at either end is O(1) and does
+ * no allocation except when growing the backing array. */
+public class Queue<T> implements Iterable<T> {
+	/** Contains the values in the queue. Head and tail indices go in a circle around this array, wrapping at the end. */
+	protected T[] values;
+
+	/** Index of the first element. */
+	protected int head;
+	/** Index one past the last element. */
+	protected int tail;
+
+	public int size;
+
+	private QueueIterator iterator;
+
+	/** Creates a new queue with a capacity of 16. */
+	public Queue () {
+		this(16);
+	}
+
+	/** Creates a new queue with the specified capacity. */
+	public Queue (int initialSize) {
+		values = (T[])new Object[Math.max(1, initialSize)];
+	}
+
+	/** Appends the specified value to the end of the queue. */
+	public void addLast (T value) {
+		T[] values = this.values;
+		if (size == values.length) {
+			resize(values.length << 1);
+			values = this.values;
+		}
+		values[tail++] = value;
+		if (tail == values.length) tail = 0;
+		size++;
+	}
+
+	/** Prepends the specified value to the beginning of the queue. */
+	public void addFirst (T value) {
+		T[] values = this.values;
+		if (size == values.length) {
+			resize(values.length << 1);
+			values = this.values;
+		}
+		int head = this.head - 1;
+		if (head == -1) head = values.length - 1;
+		values[head] = value;
+		this.head = head;
+		size++;
+	}
+
+	/** Increases the size of the backing array to acommodate the specified number of additional items. Useful before adding many
+	 * items to avoid multiple backing array resizes. */
+	public void ensureCapacity (int additional) {
+		int needed = size + additional;
+		if (values.length < needed) resize(needed);
+	}
+
+	private void resize (int newSize) {
+		T[] values = this.values;
+		int head = this.head, tail = this.tail;
+		T[] newArray = (T[])new Object[newSize];
+		if (head < tail || size == 0) {
+			// Continuous.
+			System.arraycopy(values, head, newArray, 0, tail - head);
+		} else {
+			// Wrapped.
+			int rest = values.length - head;
+			System.arraycopy(values, head, newArray, 0, rest);
+			System.arraycopy(values, 0, newArray, rest, tail);
+		}
+		this.values = newArray;
+		this.head = 0;
+		this.tail = size == newSize ? 0 : size;
+	}
+
+	/** Removes and returns the first item.
+	 * @throws NoSuchElementException if the queue is empty. */
+	public T removeFirst () {
+		if (size == 0) throw new NoSuchElementException("Queue is empty.");
+		T[] values = this.values;
+		T result = values[head];
+		values[head] = null;
+		head++;
+		if (head == values.length) head = 0;
+		size--;
+		return result;
+	}
+
+	/** Removes and returns the last item.
+	 * @throws NoSuchElementException if the queue is empty. */
+	public T removeLast () {
+		if (size == 0) throw new NoSuchElementException("Queue is empty.");
+		T[] values = this.values;
+		int tail = this.tail - 1;
+		if (tail == -1) tail = values.length - 1;
+		T result = values[tail];
+		values[tail] = null;
+		this.tail = tail;
+		size--;
+		return result;
+	}
+
+	/** Returns the index of the first occurrence of value in the queue, or -1 if no such value exists.
+	 * @param identity If true, == comparison will be used. If false, .equals() comparison will be used. */
+	public int indexOf (T value, boolean identity) {
+		if (size == 0) return -1;
+		T[] values = this.values;
+		int head = this.head, tail = this.tail;
+		if (identity || value == null) {
+			if (head < tail) {
+				for (int i = head; i < tail; i++)
+					if (values[i] == value) return i - head;
+			} else {
+				for (int i = head, n = values.length; i < n; i++)
+					if (values[i] == value) return i - head;
+				for (int i = 0; i < tail; i++)
+					if (values[i] == value) return i + values.length - head;
+			}
+		} else {
+			if (head < tail) {
+				for (int i = head; i < tail; i++)
+					if (value.equals(values[i])) return i - head;
+			} else {
+				for (int i = head, n = values.length; i < n; i++)
+					if (value.equals(values[i])) return i - head;
+				for (int i = 0; i < tail; i++)
+					if (value.equals(values[i])) return i + values.length - head;
+			}
+		}
+		return -1;
+	}
+
+	/** Removes the first instance of the specified value in the queue.
+	 * @param identity If true, == comparison will be used. If false, .equals() comparison will be used.
+	 * @return true if value was found and removed, false otherwise */
+	public boolean removeValue (T value, boolean identity) {
+		int index = indexOf(value, identity);
+		if (index == -1) return false;
+		removeIndex(index);
+		return true;
+	}
+
+	/** Removes and returns the item at the specified index. */
+	public T removeIndex (int index) {
+		if (index < 0) throw new IndexOutOfBoundsException("index can't be < 0: " + index);
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+
+		T[] values = this.values;
+		int head = this.head, tail = this.tail;
+		index += head;
+		T value;
+		if (head < tail) {
+			// Continuous.
+			value = values[index];
+			System.arraycopy(values, index + 1, values, index, tail - index - 1);
+			values[--tail] = null;
+			this.tail = tail;
+		} else if (index >= values.length) {
+			// Wrapped, index is in the part at the start of the array.
+			index -= values.length;
+			value = values[index];
+			System.arraycopy(values, index + 1, values, index, tail - index - 1);
+			tail--;
+			if (tail == -1) tail = values.length - 1;
+			values[tail] = null;
+			this.tail = tail;
+		} else {
+			// Wrapped, index is in the part at the end of the array.
+			value = values[index];
+			System.arraycopy(values, head, values, head + 1, index - head);
+			values[head] = null;
+			head++;
+			if (head == values.length) head = 0;
+			this.head = head;
+		}
+		size--;
+		return value;
+	}
+
+	/** Returns the first (head) item in the queue without removing it.
+	 * @throws NoSuchElementException if the queue is empty. */
+	public T first () {
+		if (size == 0) throw new NoSuchElementException("Queue is empty.");
+		return values[head];
+	}
+
+	/** Returns the last (tail) item in the queue without removing it.
+	 * @throws NoSuchElementException if the queue is empty. */
+	public T last () {
+		if (size == 0) throw new NoSuchElementException("Queue is empty.");
+		T[] values = this.values;
+		int tail = this.tail - 1;
+		if (tail == -1) tail = values.length - 1;
+		return values[tail];
+	}
+
+	/** Retrieves the value in the queue without removing it. Indexing is from the front to back, zero based, so get(0) returns the
+	 * same value as {@link #first()}. */
+	public T get (int index) {
+		if (index < 0) throw new IndexOutOfBoundsException("index can't be < 0: " + index);
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		T[] values = this.values;
+		int i = head + index;
+		if (i >= values.length) i -= values.length;
+		return values[i];
+	}
+
+	/** Removes all values from this queue. Values in the backing array are set to null to prevent memory leaks. */
+	public void clear () {
+		if (size == 0) return;
+		T[] values = this.values;
+		int head = this.head, tail = this.tail;
+		if (head < tail) {
+			for (int i = head; i < tail; i++)
+				values[i] = null;
+		} else {
+			for (int i = head; i < values.length; i++)
+				values[i] = null;
+			for (int i = 0; i < tail; i++)
+				values[i] = null;
+		}
+		this.head = 0;
+		this.tail = 0;
+		this.size = 0;
+	}
+
+	/** Returns an iterator for the items in the queue. Remove is supported. Note that the same iterator instance is returned each
+	 * time this method is called. Use the {@link QueueIterator} constructor for nested or multithreaded iteration. */
+	public Iterator<T> iterator () {
+		if (iterator == null)
+			iterator = new QueueIterator(this);
+		else
+			iterator.reset();
+		return iterator;
+	}
+
+	public String toString () {
+		if (size == 0) return "[]";
+		T[] values = this.values;
+		int head = this.head, tail = this.tail;
+		StringBuilder buffer = new StringBuilder(64);
+		buffer.append('[');
+		buffer.append(values[head]);
+		for (int i = (head + 1) % values.length; i != tail; i = (i + 1) % values.length) {
+			buffer.append(", ");
+			buffer.append(values[i]);
+		}
+		buffer.append(']');
+		return buffer.toString();
+	}
+
+	static public class QueueIterator<T> implements Iterator<T> {
+		private final Queue<T> queue;
+		int index;
+
+		public QueueIterator (Queue<T> queue) {
+			this.queue = queue;
+		}
+
+		public boolean hasNext () {
+			return index < queue.size;
+		}
+
+		public T next () {
+			if (index >= queue.size) throw new NoSuchElementException(String.valueOf(index));
+			return queue.get(index++);
+		}
+
+		public void remove () {
+			if (index == 0) throw new IllegalStateException("next must be called before remove.");
+			index--;
+			queue.removeIndex(index);
+		}
+
+		public void reset () {
+			index = 0;
+		}
+	}
+}
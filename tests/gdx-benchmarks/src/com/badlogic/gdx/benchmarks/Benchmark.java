@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+/** A single measured operation. {@link BenchmarkRunner} calls {@link #run()} repeatedly and consumes its return value, so the JIT
+ * can't eliminate the work. Inputs should be allocated in the constructor or in {@link #setup()} so they are not measured.
+ * @see BenchmarkRunner */
+public abstract class Benchmark {
+	/** The name used in reports and baseline files, must not contain whitespace. */
+	public final String name;
+
+	public Benchmark (String name) {
+		if (name.indexOf(' ') != -1 || name.indexOf('\t') != -1)
+			throw new IllegalArgumentException("name must not contain whitespace: " + name);
+		this.name = name;
+	}
+
+	/** Called once before the warmup. */
+	public void setup () {
+	}
+
+	/** Performs one operation.
+	 * @return a value depending on the work that was done */
+	public abstract int run ();
+}
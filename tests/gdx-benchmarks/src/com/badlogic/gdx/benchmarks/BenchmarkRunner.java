@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** Runs {@link Benchmark}s headless and reports the average time per operation. Each benchmark is warmed up, then measured for a
+ * number of fixed length iterations. The mean and the standard deviation over the iterations are reported in nanoseconds per
+ * operation.<br>
+ * <br>
+ * Arguments:
+ * <ul>
+ * <li>-warmup ms: warmup time per benchmark, 2000 by default</li>
+ * <li>-time ms: length of one measured iteration, 1000 by default</li>
+ * <li>-iterations n: number of measured iterations, 5 by default</li>
+ * <li>-baseline file: compares the results against a file previously written with -out</li>
+ * <li>-out file: writes the results to a file</li>
+ * <li>any other argument only runs the benchmarks whose name contains it</li>
+ * </ul>
+ * All benchmarks run in the same VM, run a single benchmark if call sites shared by several benchmarks are a concern. */
+public class BenchmarkRunner {
+	public int warmupMillis = 2000;
+	public int iterationMillis = 1000;
+	public int iterations = 5;
+
+	/** Accumulates the benchmark results so the JIT can't treat them as dead code. */
+	public volatile int sink;
+
+	/** Warms up and measures the benchmark.
+	 * @return the mean and the standard deviation in nanoseconds per operation */
+	public double[] measure (Benchmark benchmark) {
+		benchmark.setup();
+
+		// Pick a batch size so that checking the time is negligible compared to the work.
+		int batch = 1;
+		long warmupEnd = System.nanoTime() + warmupMillis * 1000000L;
+		while (true) {
+			long start = System.nanoTime();
+			runBatch(benchmark, batch);
+			long time = System.nanoTime() - start;
+			if (time < 1000000 && batch < 1 << 24) batch <<= 1;
+			if (start + time >= warmupEnd) break;
+		}
+
+		double[] scores = new double[iterations];
+		for (int i = 0; i < iterations; i++) {
+			long ops = 0;
+			long start = System.nanoTime(), end = start + iterationMillis * 1000000L, now;
+			do {
+				runBatch(benchmark, batch);
+				ops += batch;
+				now = System.nanoTime();
+			} while (now < end);
+			scores[i] = (double)(now - start) / ops;
+		}
+
+		double mean = 0;
+		for (int i = 0; i < iterations; i++)
+			mean += scores[i];
+		mean /= iterations;
+		double deviation = 0;
+		for (int i = 0; i < iterations; i++)
+			deviation += (scores[i] - mean) * (scores[i] - mean);
+		deviation = iterations > 1 ? Math.sqrt(deviation / (iterations - 1)) : 0;
+		return new double[] {mean, deviation};
+	}
+
+	private void runBatch (Benchmark benchmark, int batch) {
+		int result = 0;
+		for (int i = 0; i < batch; i++)
+			result += benchmark.run();
+		sink += result;
+	}
+
+	/** Reads a results file written by {@link #write(Writer, Array, ObjectMap)}. */
+	static public ObjectMap<String, double[]> read (File file) throws IOException {
+		ObjectMap<String, double[]> results = new ObjectMap<String, double[]>();
+		BufferedReader reader = new BufferedReader(new FileReader(file));
+		try {
+			while (true) {
+				String line = reader.readLine();
+				if (line == null) break;
+				line = line.trim();
+				if (line.length() == 0 || line.startsWith("#")) continue;
+				String[] tokens = line.split("\\s+");
+				if (tokens.length < 3) throw new IOException("Invalid line in " + file + ": " + line);
+				results.put(tokens[0], new double[] {Double.parseDouble(tokens[1]), Double.parseDouble(tokens[2])});
+			}
+		} finally {
+			reader.close();
+		}
+		return results;
+	}
+
+	/** Writes one line per benchmark: the name, the mean and the standard deviation in nanoseconds per operation. */
+	static public void write (Writer writer, Array<String> names, ObjectMap<String, double[]> results) throws IOException {
+		writer.write("# benchmark ns/op stddev\n");
+		writer.write("# " + System.getProperty("java.vm.name") + " " + System.getProperty("java.version") + ", "
+			+ System.getProperty("os.name") + " " + System.getProperty("os.arch") + ", "
+			+ Runtime.getRuntime().availableProcessors() + " cores\n");
+		for (String name : names) {
+			double[] result = results.get(name);
+			writer.write(name + "\t" + format(result[0]) + "\t" + format(result[1]) + "\n");
+		}
+	}
+
+	static String format (double value) {
+		return String.valueOf(Math.round(value * 100) / 100.0);
+	}
+
+	/** @return all benchmarks, the Matrix4 JNI ones only if the natives could be loaded */
+	static public Array<Benchmark> createBenchmarks () {
+		boolean natives;
+		try {
+			GdxNativesLoader.load();
+			natives = true;
+		} catch (Throwable ex) {
+			System.out.println("Couldn't load natives, skipping JNI benchmarks: " + ex.getMessage());
+			natives = false;
+		}
+
+		Array<Benchmark> benchmarks = new Array<Benchmark>();
+		benchmarks.addAll(CollectionBenchmarks.create());
+		benchmarks.addAll(MathBenchmarks.create(natives));
+		benchmarks.addAll(SerializationBenchmarks.create());
+		return benchmarks;
+	}
+
+	public static void main (String[] args) throws IOException {
+		BenchmarkRunner runner = new BenchmarkRunner();
+		File baselineFile = null, outFile = null;
+		String filter = null;
+		for (int i = 0; i < args.length; i++) {
+			String arg = args[i];
+			if (arg.equals("-warmup"))
+				runner.warmupMillis = Integer.parseInt(args[++i]);
+			else if (arg.equals("-time"))
+				runner.iterationMillis = Integer.parseInt(args[++i]);
+			else if (arg.equals("-iterations"))
+				runner.iterations = Integer.parseInt(args[++i]);
+			else if (arg.equals("-baseline"))
+				baselineFile = new File(args[++i]);
+			else if (arg.equals("-out"))
+				outFile = new File(args[++i]);
+			else
+				filter = arg;
+		}
+
+		ObjectMap<String, double[]> baseline = null;
+		if (baselineFile != null && baselineFile.exists()) baseline = read(baselineFile);
+
+		Array<String> names = new Array<String>();
+		ObjectMap<String, double[]> results = new ObjectMap<String, double[]>();
+		for (Benchmark benchmark : createBenchmarks()) {
+			if (filter != null && !benchmark.name.contains(filter)) continue;
+			double[] result = runner.measure(benchmark);
+			names.add(benchmark.name);
+			results.put(benchmark.name, result);
+
+			String line = benchmark.name + ": " + format(result[0]) + " +- " + format(result[1]) + " ns/op";
+			double[] base = baseline != null ? baseline.get(benchmark.name) : null;
+			if (base != null) {
+				double change = (result[0] - base[0]) / base[0] * 100;
+				line += " (" + (change > 0 ? "+" : "") + format(change) + "% vs baseline)";
+			}
+			System.out.println(line);
+		}
+
+		if (outFile != null) {
+			Writer writer = new FileWriter(outFile);
+			try {
+				write(writer, names, results);
+			} finally {
+				writer.close();
+			}
+		}
+	}
+}
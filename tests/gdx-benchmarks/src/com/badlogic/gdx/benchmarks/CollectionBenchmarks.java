@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.Comparator;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Sort;
+
+/** Benchmarks for the maps and sorting in gdx.utils. Each operation works on {@link #COUNT} items. The "colliding" variants use
+ * keys that all map to the same first hash bucket, which forces the cuckoo maps to push keys around and use their stash. */
+public class CollectionBenchmarks {
+	static public final int COUNT = 1000;
+
+	static public Array<Benchmark> create () {
+		MathUtils.random.setSeed(0);
+		final String[] names = new String[COUNT];
+		final Integer[] boxed = new Integer[COUNT];
+		final Integer[] colliding = new Integer[COUNT];
+		final int[] ints = new int[COUNT];
+		final int[] collidingInts = new int[COUNT];
+		for (int i = 0; i < COUNT; i++) {
+			ints[i] = MathUtils.random.nextInt(Integer.MAX_VALUE);
+			names[i] = "name" + ints[i];
+			boxed[i] = ints[i];
+			// Integer.hashCode is the value, keys that are multiples of a large power of two share the first bucket.
+			collidingInts[i] = i << 16;
+			colliding[i] = collidingInts[i];
+		}
+
+		Array<Benchmark> benchmarks = new Array<Benchmark>();
+
+		benchmarks.add(new Benchmark("ObjectMap.put") {
+			ObjectMap<String, String> map = new ObjectMap<String, String>();
+
+			public int run () {
+				ObjectMap<String, String> map = this.map;
+				map.clear();
+				for (int i = 0; i < COUNT; i++)
+					map.put(names[i], names[i]);
+				return map.size;
+			}
+		});
+
+		benchmarks.add(new Benchmark("ObjectMap.get") {
+			ObjectMap<String, String> map = new ObjectMap<String, String>();
+
+			public void setup () {
+				for (int i = 0; i < COUNT; i++)
+					map.put(names[i], names[i]);
+			}
+
+			public int run () {
+				ObjectMap<String, String> map = this.map;
+				int found = 0;
+				for (int i = 0; i < COUNT; i++)
+					if (map.get(names[i]) != null) found++;
+				return found;
+			}
+		});
+
+		benchmarks.add(new Benchmark("ObjectMap.put.colliding") {
+			ObjectMap<Integer, Integer> map = new ObjectMap<Integer, Integer>();
+
+			public int run () {
+				ObjectMap<Integer, Integer> map = this.map;
+				map.clear();
+				for (int i = 0; i < COUNT; i++)
+					map.put(colliding[i], colliding[i]);
+				return map.size;
+			}
+		});
+
+		benchmarks.add(new Benchmark("ObjectMap.get.colliding") {
+			ObjectMap<Integer, Integer> map = new ObjectMap<Integer, Integer>();
+
+			public void setup () {
+				for (int i = 0; i < COUNT; i++)
+					map.put(colliding[i], colliding[i]);
+			}
+
+			public int run () {
+				ObjectMap<Integer, Integer> map = this.map;
+				int found = 0;
+				for (int i = 0; i < COUNT; i++)
+					if (map.get(colliding[i]) != null) found++;
+				return found;
+			}
+		});
+
+		benchmarks.add(new Benchmark("ObjectMap.iterate") {
+			ObjectMap<String, String> map = new ObjectMap<String, String>();
+
+			public void setup () {
+				for (int i = 0; i < COUNT; i++)
+					map.put(names[i], names[i]);
+			}
+
+			public int run () {
+				int length = 0;
+				for (ObjectMap.Entry<String, String> entry : map.entries())
+					length += entry.value.length();
+				return length;
+			}
+		});
+
+		benchmarks.add(new Benchmark("IntMap.put") {
+			IntMap<String> map = new IntMap<String>();
+
+			public int run () {
+				IntMap<String> map = this.map;
+				map.clear();
+				for (int i = 0; i < COUNT; i++)
+					map.put(ints[i], names[i]);
+				return map.size;
+			}
+		});
+
+		benchmarks.add(new Benchmark("IntMap.get") {
+			IntMap<String> map = new IntMap<String>();
+
+			public void setup () {
+				for (int i = 0; i < COUNT; i++)
+					map.put(ints[i], names[i]);
+			}
+
+			public int run () {
+				IntMap<String> map = this.map;
+				int found = 0;
+				for (int i = 0; i < COUNT; i++)
+					if (map.get(ints[i]) != null) found++;
+				return found;
+			}
+		});
+
+		benchmarks.add(new Benchmark("IntMap.put.colliding") {
+			IntMap<String> map = new IntMap<String>();
+
+			public int run () {
+				IntMap<String> map = this.map;
+				map.clear();
+				for (int i = 0; i < COUNT; i++)
+					map.put(collidingInts[i], names[i]);
+				return map.size;
+			}
+		});
+
+		benchmarks.add(new Benchmark("IntMap.get.colliding") {
+			IntMap<String> map = new IntMap<String>();
+
+			public void setup () {
+				for (int i = 0; i < COUNT; i++)
+					map.put(collidingInts[i], names[i]);
+			}
+
+			public int run () {
+				IntMap<String> map = this.map;
+				int found = 0;
+				for (int i = 0; i < COUNT; i++)
+					if (map.get(collidingInts[i]) != null) found++;
+				return found;
+			}
+		});
+
+		benchmarks.add(new Benchmark("Array.sort") {
+			Array<Integer> array = new Array<Integer>(true, COUNT, Integer.class);
+
+			public int run () {
+				Array<Integer> array = this.array;
+				array.clear();
+				array.addAll(boxed);
+				Sort.instance().sort(array);
+				return array.get(0);
+			}
+		});
+
+		benchmarks.add(new Benchmark("Array.sort.comparator") {
+			Array<Integer> array = new Array<Integer>(true, COUNT, Integer.class);
+			Comparator<Integer> descending = new Comparator<Integer>() {
+				public int compare (Integer o1, Integer o2) {
+					return o2.compareTo(o1);
+				}
+			};
+
+			public int run () {
+				Array<Integer> array = this.array;
+				array.clear();
+				array.addAll(boxed);
+				Sort.instance().sort(array, descending);
+				return array.get(0);
+			}
+		});
+
+		benchmarks.add(new Benchmark("Array.sort.presorted") {
+			Array<Integer> array = new Array<Integer>(true, COUNT, Integer.class);
+
+			public void setup () {
+				array.addAll(boxed);
+				Sort.instance().sort(array);
+			}
+
+			public int run () {
+				// TimSort detects the single ascending run.
+				Sort.instance().sort(array);
+				return array.get(0);
+			}
+		});
+
+		benchmarks.add(new Benchmark("Array.removeIndex.unordered") {
+			Array<String> array = new Array<String>(false, COUNT);
+
+			public int run () {
+				Array<String> array = this.array;
+				array.addAll(names);
+				int length = 0;
+				while (array.size > 0)
+					length += array.removeIndex(array.size >> 1).length();
+				return length;
+			}
+		});
+
+		benchmarks.add(new Benchmark("IntArray.contains") {
+			IntArray array = new IntArray(ints);
+
+			public int run () {
+				IntArray array = this.array;
+				int found = 0;
+				for (int i = 0; i < COUNT; i += 10)
+					if (array.contains(ints[i])) found++;
+				return found;
+			}
+		});
+
+		return benchmarks;
+	}
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.ArrayList;
+
+import com.badlogic.gdx.math.EarClippingTriangulator;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+
+/** Benchmarks for {@link Matrix4}, comparing the Java and the JNI code paths, and for {@link EarClippingTriangulator}. */
+public class MathBenchmarks {
+	/** Number of vectors transformed by one batch operation. */
+	static public final int VECS = 1000;
+
+	/** @param natives whether the gdx natives are loaded, the JNI benchmarks are skipped otherwise */
+	static public Array<Benchmark> create (boolean natives) {
+		final Matrix4 rotation = new Matrix4().setToRotation(0, 1, 0, 45);
+		final float[] vecs = new float[VECS * 3];
+		for (int i = 0; i < vecs.length; i++)
+			vecs[i] = i % 7;
+
+		Array<Benchmark> benchmarks = new Array<Benchmark>();
+
+		benchmarks.add(new Benchmark("Matrix4.mul") {
+			Matrix4 mat = new Matrix4();
+
+			public int run () {
+				mat.mul(rotation);
+				return (int)mat.val[0];
+			}
+		});
+
+		benchmarks.add(new Benchmark("Matrix4.inv") {
+			Matrix4 mat = new Matrix4(rotation);
+
+			public int run () {
+				mat.inv();
+				return (int)mat.val[0];
+			}
+		});
+
+		benchmarks.add(new Benchmark("Vector3.mul") {
+			Vector3 vec = new Vector3();
+
+			public int run () {
+				vec.set(1, 2, 3).mul(rotation);
+				return (int)vec.x;
+			}
+		});
+
+		benchmarks.add(new Benchmark("Matrix4.mulVecJava.batch") {
+			public int run () {
+				Matrix4.mulVecJava(rotation.val, vecs, 0, VECS, 3);
+				return (int)vecs[0];
+			}
+		});
+
+		if (natives) {
+			benchmarks.add(new Benchmark("Matrix4.mul.jni") {
+				Matrix4 mat = new Matrix4();
+
+				public int run () {
+					Matrix4.mul(mat.val, rotation.val);
+					return (int)mat.val[0];
+				}
+			});
+
+			benchmarks.add(new Benchmark("Matrix4.inv.jni") {
+				Matrix4 mat = new Matrix4(rotation);
+
+				public int run () {
+					Matrix4.inv(mat.val);
+					return (int)mat.val[0];
+				}
+			});
+
+			benchmarks.add(new Benchmark("Matrix4.mulVec.jni") {
+				float[] vec = new float[3];
+
+				public int run () {
+					vec[0] = 1;
+					vec[1] = 2;
+					vec[2] = 3;
+					Matrix4.mulVec(rotation.val, vec);
+					return (int)vec[0];
+				}
+			});
+
+			benchmarks.add(new Benchmark("Matrix4.mulVec.jni.batch") {
+				public int run () {
+					Matrix4.mulVec(rotation.val, vecs, 0, VECS, 3);
+					return (int)vecs[0];
+				}
+			});
+		}
+
+		benchmarks.add(new Benchmark("EarClippingTriangulator.star64") {
+			EarClippingTriangulator triangulator = new EarClippingTriangulator();
+			ArrayList<Vector2> polygon = new ArrayList<Vector2>();
+
+			public void setup () {
+				// A concave star, every other vertex is pulled towards the center.
+				for (int i = 0; i < 64; i++) {
+					float radius = i % 2 == 0 ? 100 : 40;
+					float angle = -i * MathUtils.PI * 2 / 64;
+					polygon.add(new Vector2(MathUtils.cos(angle) * radius, MathUtils.sin(angle) * radius));
+				}
+			}
+
+			public int run () {
+				return triangulator.computeTriangles(polygon).size();
+			}
+		});
+
+		return benchmarks;
+	}
+}
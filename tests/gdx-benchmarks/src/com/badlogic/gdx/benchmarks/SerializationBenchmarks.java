@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.XmlReader;
+
+/** Benchmarks for {@link Json}, {@link JsonReader} and {@link XmlReader}. Each operation reads or writes a document describing
+ * {@link #ENTITIES} entities. */
+public class SerializationBenchmarks {
+	static public final int ENTITIES = 200;
+
+	static public class Level {
+		public String name;
+		public Array<Entity> entities = new Array<Entity>();
+	}
+
+	static public class Entity {
+		public String name;
+		public float x, y, rotation;
+		public int health;
+		public boolean visible;
+	}
+
+	static public Array<Benchmark> create () {
+		final Level level = new Level();
+		level.name = "benchmark";
+		for (int i = 0; i < ENTITIES; i++) {
+			Entity entity = new Entity();
+			entity.name = "entity" + i;
+			entity.x = i * 1.5f;
+			entity.y = i * -2.25f;
+			entity.rotation = i % 360;
+			entity.health = 100 - i % 100;
+			entity.visible = i % 3 != 0;
+			level.entities.add(entity);
+		}
+
+		final Json json = new Json();
+		json.setElementType(Level.class, "entities", Entity.class);
+		final String levelJson = json.toJson(level);
+
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("<level name=\"benchmark\">\n");
+		for (Entity entity : level.entities) {
+			buffer.append("\t<entity name=\"").append(entity.name).append("\" x=\"").append(entity.x).append("\" y=\"")
+				.append(entity.y).append("\" visible=\"").append(entity.visible).append("\">\n");
+			buffer.append("\t\t<health>").append(entity.health).append("</health>\n");
+			buffer.append("\t</entity>\n");
+		}
+		buffer.append("</level>\n");
+		final String levelXml = buffer.toString();
+
+		Array<Benchmark> benchmarks = new Array<Benchmark>();
+
+		benchmarks.add(new Benchmark("Json.toJson") {
+			public int run () {
+				return json.toJson(level).length();
+			}
+		});
+
+		benchmarks.add(new Benchmark("Json.fromJson") {
+			public int run () {
+				return json.fromJson(Level.class, levelJson).entities.size;
+			}
+		});
+
+		benchmarks.add(new Benchmark("JsonReader.parse") {
+			JsonReader reader = new JsonReader();
+
+			public int run () {
+				return reader.parse(levelJson).hashCode();
+			}
+		});
+
+		benchmarks.add(new Benchmark("XmlReader.parse") {
+			XmlReader reader = new XmlReader();
+
+			public int run () {
+				return reader.parse(levelXml).getChildCount();
+			}
+		});
+
+		return benchmarks;
+	}
+}
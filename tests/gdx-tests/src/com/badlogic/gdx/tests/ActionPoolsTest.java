@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.scenes.scene2d.Action;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.actions.ActionPools;
+import com.badlogic.gdx.scenes.scene2d.actions.ActionResetingPool;
+import com.badlogic.gdx.scenes.scene2d.actions.Delay;
+import com.badlogic.gdx.scenes.scene2d.actions.FadeIn;
+import com.badlogic.gdx.scenes.scene2d.actions.MoveBy;
+import com.badlogic.gdx.scenes.scene2d.actions.MoveTo;
+import com.badlogic.gdx.scenes.scene2d.actions.Parallel;
+import com.badlogic.gdx.scenes.scene2d.actions.Repeat;
+import com.badlogic.gdx.scenes.scene2d.actions.RotateTo;
+import com.badlogic.gdx.scenes.scene2d.actions.ScaleTo;
+import com.badlogic.gdx.scenes.scene2d.actions.Sequence;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap.Entry;
+
+/** Frees nested {@link Sequence}, {@link Parallel}, {@link Repeat} and {@link Delay} actions directly, after an {@link Actor}
+ * finished them and through {@link Actor#clearActions()}, and checks that every action went back to its pool exactly once. */
+public class ActionPoolsTest extends GdxTest {
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+
+	@Override
+	public void create () {
+		// builds the tree once so all action classes have registered their pools
+		newAction().free();
+
+		ActionPools.resetCounters();
+		newAction().free();
+		checkCount(Sequence.class, 2);
+		checkCount(Parallel.class, 1);
+		checkCount(Repeat.class, 1);
+		checkCount(Delay.class, 2);
+		checkCount(MoveTo.class, 1);
+		checkCount(MoveBy.class, 1);
+		checkCount(FadeIn.class, 1);
+		checkCount(RotateTo.class, 1);
+		checkCount(ScaleTo.class, 1);
+		checkPools("free");
+
+		// the repeated sequence is copied and the finished copies are freed while the actor runs it
+		ActionPools.resetCounters();
+		TestActor actor = new TestActor();
+		actor.action(newAction());
+		for (int i = 0; i < 100; i++)
+			actor.act(0.1f);
+		if (actor.getActionCount() != 0) throw new GdxRuntimeException("action didn't finish");
+		checkPools("finish");
+
+		ActionPools.resetCounters();
+		actor.action(newAction());
+		for (int i = 0; i < 15; i++)
+			actor.act(0.1f);
+		actor.clearActions();
+		checkPools("clearActions");
+
+		Gdx.app.log("ActionPoolsTest", "passed");
+	}
+
+	/** @return a tree holding 11 actions */
+	private Action newAction () {
+		return Sequence.$(MoveTo.$(10, 10, 0.5f), //
+			Parallel.$(FadeIn.$(1), Repeat.$(Sequence.$(RotateTo.$(90, 0.5f), Delay.$(ScaleTo.$(2, 2, 0.5f), 0.2f)), 3)), //
+			Delay.$(MoveBy.$(5, 5, 0.5f), 0.3f));
+	}
+
+	private void checkCount (Class<? extends Action> type, int count) {
+		ActionResetingPool pool = ActionPools.get(type);
+		if (pool.obtained != count || pool.freed != count)
+			throw new GdxRuntimeException(type.getName() + " obtained " + pool.obtained + " and freed " + pool.freed + " times, expected "
+				+ count);
+	}
+
+	/** Checks that all obtained actions were freed and that no action was put into its pool twice. */
+	private void checkPools (String name) {
+		for (Entry<Class, ActionResetingPool> entry : ActionPools.getPools().entries()) {
+			ActionResetingPool pool = entry.value;
+			if (pool.getActive() != 0)
+				throw new GdxRuntimeException(name + ": " + pool.getActive() + " " + entry.key.getName() + " actions were not freed");
+
+			ArrayList<Action> free = new ArrayList<Action>();
+			IdentityHashMap<Action, Action> unique = new IdentityHashMap<Action, Action>();
+			while (pool.getFree() > 0) {
+				Action action = (Action)pool.obtain();
+				free.add(action);
+				if (unique.put(action, action) != null)
+					throw new GdxRuntimeException(name + ": " + entry.key.getName() + " action was freed more than once");
+			}
+			for (int i = 0; i < free.size(); i++)
+				pool.free(free.get(i));
+		}
+		ActionPools.resetCounters();
+	}
+
+	static class TestActor extends Actor {
+		public int getActionCount () {
+			return actions.size();
+		}
+
+		@Override
+		public void draw (SpriteBatch batch, float parentAlpha) {
+		}
+
+		@Override
+		public Actor hit (float x, float y) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,309 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Iterator;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntSet;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.Queue;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Checks {@link IntSet}, {@link ObjectSet}, {@link Queue} and {@link Bits} against their java.util counterparts and logs how long
+ * the same workload takes with each. */
+public class CollectionsTest extends GdxTest {
+	static final int COUNT = 10000;
+	static final int ITERATIONS = 200;
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+
+	@Override
+	public void create () {
+		int[] keys = new int[COUNT];
+		String[] names = new String[COUNT];
+		for (int i = 0; i < COUNT; i++) {
+			keys[i] = MathUtils.random(COUNT * 4);
+			names[i] = String.valueOf(keys[i]);
+		}
+
+		checkIntSet(keys);
+		checkObjectSet(names);
+		checkQueue();
+		checkBits(keys);
+
+		for (int run = 0; run < 2; run++) {
+			// the first run only warms up the JIT
+			boolean log = run == 1;
+			benchIntSet(keys, log);
+			benchObjectSet(names, log);
+			benchQueue(log);
+			benchBits(keys, log);
+		}
+	}
+
+	private void checkIntSet (int[] keys) {
+		IntSet set = new IntSet();
+		HashSet<Integer> expected = new HashSet<Integer>();
+		for (int i = 0; i < keys.length; i++)
+			if (set.add(keys[i]) != expected.add(keys[i])) throw new GdxRuntimeException("IntSet add doesn't work");
+		if (set.add(0) != expected.add(0)) throw new GdxRuntimeException("IntSet add(0) doesn't work");
+		if (set.size != expected.size()) throw new GdxRuntimeException("IntSet size doesn't work");
+		for (int i = 0; i < keys.length; i += 2)
+			if (set.remove(keys[i]) != expected.remove(keys[i])) throw new GdxRuntimeException("IntSet remove doesn't work");
+		for (int i = -1; i <= COUNT * 4; i++)
+			if (set.contains(i) != expected.contains(i)) throw new GdxRuntimeException("IntSet contains doesn't work");
+		IntSet.IntSetIterator iter = set.iterator();
+		while (iter.hasNext) {
+			int key = iter.next();
+			if (!expected.contains(key)) throw new GdxRuntimeException("IntSet iterator doesn't work");
+			if ((key & 1) == 0) {
+				iter.remove();
+				expected.remove(key);
+			}
+		}
+		if (set.size != expected.size()) throw new GdxRuntimeException("IntSet iterator remove doesn't work");
+		for (int key : expected)
+			if (!set.contains(key)) throw new GdxRuntimeException("IntSet iterator remove doesn't work");
+	}
+
+	private void checkObjectSet (String[] names) {
+		ObjectSet<String> set = new ObjectSet<String>();
+		HashSet<String> expected = new HashSet<String>();
+		for (int i = 0; i < names.length; i++)
+			if (set.add(names[i]) != expected.add(names[i])) throw new GdxRuntimeException("ObjectSet add doesn't work");
+		if (set.size != expected.size()) throw new GdxRuntimeException("ObjectSet size doesn't work");
+		for (int i = 0; i < names.length; i += 2)
+			if (set.remove(names[i]) != expected.remove(names[i])) throw new GdxRuntimeException("ObjectSet remove doesn't work");
+		for (int i = 0; i < names.length; i++)
+			if (set.contains(names[i]) != expected.contains(names[i]))
+				throw new GdxRuntimeException("ObjectSet contains doesn't work");
+		for (Iterator<String> iter = set.iterator(); iter.hasNext();) {
+			String name = iter.next();
+			if (!expected.contains(name)) throw new GdxRuntimeException("ObjectSet iterator doesn't work");
+			if (name.length() % 2 == 0) {
+				iter.remove();
+				expected.remove(name);
+			}
+		}
+		if (set.size != expected.size()) throw new GdxRuntimeException("ObjectSet iterator remove doesn't work");
+		for (String name : expected)
+			if (!set.contains(name)) throw new GdxRuntimeException("ObjectSet iterator remove doesn't work");
+	}
+
+	private void checkQueue () {
+		Queue<Integer> queue = new Queue<Integer>(4);
+		ArrayDeque<Integer> expected = new ArrayDeque<Integer>();
+		for (int i = 0; i < COUNT; i++) {
+			Integer value = i;
+			switch (MathUtils.random(3)) {
+			case 0:
+				queue.addFirst(value);
+				expected.addFirst(value);
+				break;
+			case 1:
+				queue.addLast(value);
+				expected.addLast(value);
+				break;
+			case 2:
+				if (expected.isEmpty()) break;
+				if (!queue.removeFirst().equals(expected.removeFirst())) throw new GdxRuntimeException("Queue removeFirst doesn't work");
+				break;
+			default:
+				if (expected.isEmpty()) break;
+				if (!queue.removeLast().equals(expected.removeLast())) throw new GdxRuntimeException("Queue removeLast doesn't work");
+				break;
+			}
+			if (queue.size != expected.size()) throw new GdxRuntimeException("Queue size doesn't work");
+		}
+		int index = 0;
+		for (Integer value : expected)
+			if (!queue.get(index++).equals(value)) throw new GdxRuntimeException("Queue get doesn't work");
+		while (!expected.isEmpty()) {
+			Integer value = expected.pollFirst();
+			if (!value.equals(queue.first())) throw new GdxRuntimeException("Queue first doesn't work");
+			if (!queue.removeValue(value, false)) throw new GdxRuntimeException("Queue removeValue doesn't work");
+			if (!expected.isEmpty() && !expected.peekLast().equals(queue.last()))
+				throw new GdxRuntimeException("Queue last doesn't work");
+		}
+		if (queue.size != 0) throw new GdxRuntimeException("Queue removeValue doesn't work");
+	}
+
+	private void checkBits (int[] keys) {
+		Bits bits = new Bits();
+		BitSet expected = new BitSet();
+		for (int i = 0; i < keys.length; i += 2) {
+			bits.set(keys[i]);
+			expected.set(keys[i]);
+		}
+		for (int i = 1; i < keys.length; i += 4) {
+			bits.flip(keys[i]);
+			expected.flip(keys[i]);
+		}
+		for (int i = 0; i < COUNT * 4 + 64; i++) {
+			if (bits.get(i) != expected.get(i)) throw new GdxRuntimeException("Bits get doesn't work");
+			if (bits.nextSetBit(i) != expected.nextSetBit(i)) throw new GdxRuntimeException("Bits nextSetBit doesn't work");
+		}
+		if (bits.length() != expected.length()) throw new GdxRuntimeException("Bits length doesn't work");
+
+		Bits other = new Bits();
+		BitSet otherExpected = new BitSet();
+		for (int i = 1; i < keys.length; i += 2) {
+			other.set(keys[i]);
+			otherExpected.set(keys[i]);
+		}
+		if (bits.intersects(other) != expected.intersects(otherExpected))
+			throw new GdxRuntimeException("Bits intersects doesn't work");
+		bits.xor(other);
+		expected.xor(otherExpected);
+		bits.andNot(other);
+		expected.andNot(otherExpected);
+		for (int i = expected.nextSetBit(0); i >= 0; i = expected.nextSetBit(i + 1))
+			if (!bits.get(i)) throw new GdxRuntimeException("Bits xor doesn't work");
+		if (bits.length() != expected.length()) throw new GdxRuntimeException("Bits andNot doesn't work");
+	}
+
+	private void benchIntSet (int[] keys, boolean log) {
+		IntSet set = new IntSet();
+		long start = TimeUtils.nanoTime();
+		int hits = 0;
+		for (int n = 0; n < ITERATIONS; n++) {
+			set.clear();
+			for (int i = 0; i < keys.length; i++)
+				set.add(keys[i]);
+			for (int i = 0; i < keys.length; i++)
+				if (set.contains(i)) hits++;
+			for (IntSet.IntSetIterator iter = set.iterator(); iter.hasNext;)
+				hits += iter.next() & 1;
+		}
+		long gdx = TimeUtils.nanoTime() - start;
+
+		HashSet<Integer> hashSet = new HashSet<Integer>();
+		start = TimeUtils.nanoTime();
+		for (int n = 0; n < ITERATIONS; n++) {
+			hashSet.clear();
+			for (int i = 0; i < keys.length; i++)
+				hashSet.add(keys[i]);
+			for (int i = 0; i < keys.length; i++)
+				if (hashSet.contains(i)) hits++;
+			for (Integer key : hashSet)
+				hits += key & 1;
+		}
+		long java = TimeUtils.nanoTime() - start;
+		if (log) logTimes("IntSet vs HashSet<Integer>", gdx, java, hits);
+	}
+
+	private void benchObjectSet (String[] names, boolean log) {
+		ObjectSet<String> set = new ObjectSet<String>();
+		long start = TimeUtils.nanoTime();
+		int hits = 0;
+		for (int n = 0; n < ITERATIONS; n++) {
+			set.clear();
+			for (int i = 0; i < names.length; i++)
+				set.add(names[i]);
+			for (int i = 0; i < names.length; i++)
+				if (set.contains(names[i])) hits++;
+			for (String name : set)
+				hits += name.length();
+		}
+		long gdx = TimeUtils.nanoTime() - start;
+
+		HashSet<String> hashSet = new HashSet<String>();
+		start = TimeUtils.nanoTime();
+		for (int n = 0; n < ITERATIONS; n++) {
+			hashSet.clear();
+			for (int i = 0; i < names.length; i++)
+				hashSet.add(names[i]);
+			for (int i = 0; i < names.length; i++)
+				if (hashSet.contains(names[i])) hits++;
+			for (String name : hashSet)
+				hits += name.length();
+		}
+		long java = TimeUtils.nanoTime() - start;
+		if (log) logTimes("ObjectSet vs HashSet<String>", gdx, java, hits);
+	}
+
+	private void benchQueue (boolean log) {
+		Integer value = 1;
+		Queue<Integer> queue = new Queue<Integer>();
+		long start = TimeUtils.nanoTime();
+		int hits = 0;
+		for (int n = 0; n < ITERATIONS; n++) {
+			for (int i = 0; i < COUNT; i++)
+				queue.addLast(value);
+			for (int i = 0; i < COUNT; i++) {
+				queue.addFirst(queue.removeLast());
+				hits += queue.removeFirst();
+			}
+		}
+		long gdx = TimeUtils.nanoTime() - start;
+
+		ArrayDeque<Integer> deque = new ArrayDeque<Integer>();
+		start = TimeUtils.nanoTime();
+		for (int n = 0; n < ITERATIONS; n++) {
+			for (int i = 0; i < COUNT; i++)
+				deque.addLast(value);
+			for (int i = 0; i < COUNT; i++) {
+				deque.addFirst(deque.removeLast());
+				hits += deque.removeFirst();
+			}
+		}
+		long java = TimeUtils.nanoTime() - start;
+		if (log) logTimes("Queue vs ArrayDeque", gdx, java, hits);
+	}
+
+	private void benchBits (int[] keys, boolean log) {
+		Bits bits = new Bits();
+		long start = TimeUtils.nanoTime();
+		int hits = 0;
+		for (int n = 0; n < ITERATIONS; n++) {
+			bits.clear();
+			for (int i = 0; i < keys.length; i++)
+				bits.set(keys[i]);
+			for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1))
+				hits++;
+		}
+		long gdx = TimeUtils.nanoTime() - start;
+
+		BitSet bitSet = new BitSet();
+		start = TimeUtils.nanoTime();
+		for (int n = 0; n < ITERATIONS; n++) {
+			bitSet.clear();
+			for (int i = 0; i < keys.length; i++)
+				bitSet.set(keys[i]);
+			for (int i = bitSet.nextSetBit(0); i >= 0; i = bitSet.nextSetBit(i + 1))
+				hits++;
+		}
+		long java = TimeUtils.nanoTime() - start;
+		if (log) logTimes("Bits vs BitSet", gdx, java, hits);
+	}
+
+	private void logTimes (String name, long gdx, long java, int hits) {
+		// hits is logged so the JIT can't drop the loops
+		Gdx.app.log("CollectionsTest", name + ": " + gdx / 1000000f + " ms vs " + java / 1000000f + " ms (" + hits + ")");
+	}
+}
@@ -24,10 +24,10 @@ import com.badlogic.gdx.graphics.GL10;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g3d.decals.CameraGroupStrategy;
 import com.badlogic.gdx.graphics.g3d.decals.Decal;
 import com.badlogic.gdx.graphics.g3d.decals.DecalBatch;
 import com.badlogic.gdx.graphics.g3d.decals.GroupStrategy;
+import com.badlogic.gdx.graphics.g3d.decals.RadixSortGroupStrategy;
 import com.badlogic.gdx.graphics.g3d.decals.SimpleOrthoGroupStrategy;
 import com.badlogic.gdx.math.WindowedMean;
 import com.badlogic.gdx.tests.utils.GdxTest;
@@ -40,6 +40,7 @@ public class DecalTest extends GdxTest {
 	Texture wheel;
 	LinkedList<Decal> toRender = new LinkedList<Decal>();
 	DecalBatch batch;
+	RadixSortGroupStrategy strategy;
 	float timePassed = 0;
 	int frames = 0;
 	Camera cam;
@@ -70,7 +71,8 @@ public class DecalTest extends GdxTest {
 		cam.far = 10f;
 		cam.position.set(0, 0, 0.1f);
 		cam.direction.set(0, 0, -1f);
-		batch = new DecalBatch(new CameraGroupStrategy(cam));
+		strategy = new RadixSortGroupStrategy(cam);
+		batch = new DecalBatch(strategy);
 
 		Gdx.gl.glClearColor(1, 1, 0, 1);
 	}
@@ -99,7 +101,8 @@ public class DecalTest extends GdxTest {
 		timePassed += elapsed;
 		frames++;
 		if (timePassed > 1.0f) {
-			System.out.println("DecalPerformanceTest2 fps: " + frames + " at spritecount: " + toRender.size());
+			System.out.println("DecalPerformanceTest2 fps: " + frames + " at spritecount: " + toRender.size() + ", sort: "
+				+ strategy.getSortTime() / 1000000f + " ms, flush: " + strategy.getFlushTime() / 1000000f + " ms");
 			fps.addValue(frames);
 			if (fps.hasEnoughData()) {
 				float factor = fps.getMean() / (float)TARGET_FPS;
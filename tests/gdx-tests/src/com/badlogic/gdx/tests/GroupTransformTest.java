@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+
+/** Compares drawing nested rotated and scaled groups using the batch's transform matrix with transforming the vertices on the CPU
+ * (see {@link Group#cpuTransform}). Touch to switch between the two. */
+public class GroupTransformTest extends GdxTest {
+	static final int GRID = 8;
+
+	Texture texture;
+	Stage stage;
+	SpriteBatch batch;
+	BitmapFont font;
+	Array<Group> groups = new Array();
+	boolean cpuTransform;
+	int lastRenderCalls, renderCalls;
+
+	public void create () {
+		batch = new SpriteBatch();
+		font = new BitmapFont();
+		stage = new Stage(480, 320, true);
+		texture = new Texture(Gdx.files.internal("data/badlogicsmall.jpg"));
+		TextureRegion region = new TextureRegion(texture);
+
+		float cellWidth = 480f / GRID, cellHeight = 320f / GRID;
+		for (int y = 0; y < GRID; y++) {
+			for (int x = 0; x < GRID; x++) {
+				Group outer = new Group();
+				outer.x = x * cellWidth;
+				outer.y = y * cellHeight;
+				outer.width = cellWidth;
+				outer.height = cellHeight;
+				outer.originX = cellWidth / 2;
+				outer.originY = cellHeight / 2;
+				outer.scaleX = outer.scaleY = 0.8f;
+				stage.addActor(outer);
+				groups.add(outer);
+
+				Group inner = new Group();
+				inner.width = cellWidth / 2;
+				inner.height = cellHeight / 2;
+				inner.x = cellWidth / 4;
+				inner.y = cellHeight / 4;
+				inner.originX = cellWidth / 4;
+				inner.originY = cellHeight / 4;
+				outer.addActor(inner);
+				groups.add(inner);
+
+				for (int i = 0; i < 4; i++) {
+					Image image = new Image(region);
+					image.width = cellWidth / 4;
+					image.height = cellHeight / 4;
+					image.x = (i % 2) * cellWidth / 4;
+					image.y = (i / 2) * cellHeight / 4;
+					(i < 2 ? outer : inner).addActor(image);
+				}
+			}
+		}
+	}
+
+	public void render () {
+		Gdx.gl.glClearColor(0, 0, 0, 1);
+		Gdx.gl.glClear(GL10.GL_COLOR_BUFFER_BIT);
+
+		float delta = Gdx.graphics.getDeltaTime();
+		for (int i = 0; i < groups.size; i++)
+			groups.get(i).rotation += (i % 2 == 0 ? 20 : -45) * delta;
+
+		stage.act(delta);
+		SpriteBatch stageBatch = stage.getSpriteBatch();
+		int totalRenderCalls = stageBatch.totalRenderCalls;
+		stage.draw();
+		// renderCalls is reset by every begin, which the batch transform mode calls for each group.
+		renderCalls = stageBatch.totalRenderCalls - totalRenderCalls;
+
+		batch.begin();
+		font.draw(batch, "fps: " + Gdx.graphics.getFramesPerSecond() + ", render calls: " + renderCalls + ", "
+			+ (cpuTransform ? "CPU transform" : "batch transform matrix"), 10, 20);
+		batch.end();
+
+		if (Gdx.input.justTouched()) {
+			cpuTransform = !cpuTransform;
+			for (int i = 0; i < groups.size; i++)
+				groups.get(i).cpuTransform = cpuTransform;
+		}
+	}
+
+	public void dispose () {
+		stage.dispose();
+		batch.dispose();
+		font.dispose();
+		texture.dispose();
+	}
+
+	public boolean needsGL20 () {
+		return false;
+	}
+}
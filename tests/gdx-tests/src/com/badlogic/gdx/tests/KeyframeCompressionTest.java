@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g3d.Animator.WrapMode;
+import com.badlogic.gdx.graphics.g3d.keyframed.Keyframe;
+import com.badlogic.gdx.graphics.g3d.keyframed.KeyframeAnimation;
+import com.badlogic.gdx.graphics.g3d.keyframed.KeyframeAnimator;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Plays compressed {@link KeyframeAnimation}s next to their uncompressed originals and checks that the interpolated vertices
+ * match within the quantization error, including animations whose first frame lies entirely at the origin. */
+public class KeyframeCompressionTest extends GdxTest {
+	static final int STRIDE = KeyframeAnimator.sStride;
+	static final int NUM_FRAMES = 40;
+	static final int NUM_VERTICES = 64;
+	static final float SAMPLE_RATE = 0.1f;
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+
+	@Override
+	public void create () {
+		check("origin", new Generator() {
+			public float position (int frame, int vertex, int component) {
+				// the first frame is collapsed to the origin, the mesh then grows and moves away from it
+				return frame * (vertex + component) * 0.05f;
+			}
+		});
+		check("static origin", new Generator() {
+			public float position (int frame, int vertex, int component) {
+				return 0;
+			}
+		});
+		check("moving", new Generator() {
+			public float position (int frame, int vertex, int component) {
+				return MathUtils.sin(frame * 0.3f + vertex + component) * 5 + frame * 0.5f;
+			}
+		});
+		final float[] noise = new float[NUM_FRAMES * NUM_VERTICES * 3];
+		for (int i = 0; i < noise.length; i++)
+			noise[i] = MathUtils.random(-10f, 10f);
+		check("random", new Generator() {
+			public float position (int frame, int vertex, int component) {
+				return noise[(frame * NUM_VERTICES + vertex) * 3 + component];
+			}
+		});
+	}
+
+	private void check (String name, Generator generator) {
+		KeyframeAnimation raw = newAnimation(name, generator);
+		KeyframeAnimation compressed = newAnimation(name, generator);
+		compressed.compress();
+
+		KeyframeAnimator rawAnimator = newAnimator();
+		KeyframeAnimator compressedAnimator = newAnimator();
+		rawAnimator.setAnimation(raw, WrapMode.Loop);
+		compressedAnimator.setAnimation(compressed, WrapMode.Loop);
+
+		float maxPosition = 1, maxPositionError = 0, maxNormalError = 0;
+		// two loops, with a step that isn't a multiple of the sample rate so frames are skipped and revisited
+		for (float time = 0; time < raw.length * 2; time += SAMPLE_RATE * 0.7f) {
+			rawAnimator.update(SAMPLE_RATE * 0.7f);
+			compressedAnimator.update(SAMPLE_RATE * 0.7f);
+			float[] expected = rawAnimator.getInterpolatedKeyframe().vertices[0];
+			float[] actual = compressedAnimator.getInterpolatedKeyframe().vertices[0];
+			for (int n = 0; n < expected.length; n += STRIDE) {
+				for (int c = 0; c < 3; c++) {
+					maxPosition = Math.max(maxPosition, Math.abs(expected[n + c]));
+					maxPositionError = Math.max(maxPositionError, Math.abs(expected[n + c] - actual[n + c]));
+				}
+				for (int c = 3; c < 5; c++)
+					if (expected[n + c] != actual[n + c]) throw new GdxRuntimeException(name + ": texture coordinates don't match");
+				for (int c = 5; c < 8; c++)
+					maxNormalError = Math.max(maxNormalError, Math.abs(expected[n + c] - actual[n + c]));
+			}
+		}
+
+		// quantization errors grow with the extent of the mesh
+		if (maxPositionError > maxPosition * 0.001f) throw new GdxRuntimeException(name + ": position error too large, " + maxPositionError);
+		if (maxNormalError > 0.05f) throw new GdxRuntimeException(name + ": normal error too large, " + maxNormalError);
+		Gdx.app.log("KeyframeCompressionTest", name + ": max position error " + maxPositionError + ", max normal error "
+			+ maxNormalError);
+	}
+
+	private KeyframeAnimation newAnimation (String name, Generator generator) {
+		KeyframeAnimation anim = new KeyframeAnimation(name, NUM_FRAMES, NUM_FRAMES * SAMPLE_RATE, SAMPLE_RATE);
+		short[][] indices = {new short[NUM_VERTICES]};
+		for (int i = 0; i < NUM_VERTICES; i++)
+			indices[0][i] = (short)i;
+		for (int i = 0; i < NUM_FRAMES; i++) {
+			Keyframe k = new Keyframe();
+			float[] vertices = new float[NUM_VERTICES * STRIDE];
+			for (int v = 0, n = 0; v < NUM_VERTICES; v++, n += STRIDE) {
+				for (int c = 0; c < 3; c++)
+					vertices[n + c] = generator.position(i, v, c);
+				vertices[n + 3] = v / (float)NUM_VERTICES;
+				vertices[n + 4] = 1 - v / (float)NUM_VERTICES;
+				float angle = i * 0.1f + v;
+				vertices[n + 5] = MathUtils.cos(angle) * 0.6f;
+				vertices[n + 6] = MathUtils.sin(angle) * 0.6f;
+				vertices[n + 7] = (v % 2 == 0 ? 0.8f : -0.8f);
+			}
+			k.vertices = new float[][] {vertices};
+			k.indices = indices;
+			anim.keyframes[i] = k;
+		}
+		return anim;
+	}
+
+	private KeyframeAnimator newAnimator () {
+		KeyframeAnimator animator = new KeyframeAnimator(1, SAMPLE_RATE);
+		animator.setKeyframeDimensions(0, NUM_VERTICES * STRIDE, NUM_VERTICES);
+		return animator;
+	}
+
+	interface Generator {
+		float position (int frame, int vertex, int component);
+	}
+}
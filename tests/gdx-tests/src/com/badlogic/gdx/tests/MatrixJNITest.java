@@ -15,10 +15,13 @@
  ******************************************************************************/
 package com.badlogic.gdx.tests;
 
+import java.nio.FloatBuffer;
+
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.BufferUtils;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.TimeUtils;
 
@@ -58,6 +61,8 @@ public class MatrixJNITest extends GdxTest {
 		check(vec, fvec);
 		check(vec, fvecs, 3, 5);
 
+		checkBatch(mat1);
+
 		if (mat1.det() != Matrix4.det(mat1.val)) throw new GdxRuntimeException("det doesn't work");
 
 		mat2.set(mat1);
@@ -71,6 +76,79 @@ public class MatrixJNITest extends GdxTest {
 		check(mat1, mat3);
 
 		bench();
+		benchBatch();
+	}
+
+	private void checkBatch (Matrix4 mat) {
+		int numVecs = 7, stride = 5, offset = 2;
+		float[] expected = new float[offset + numVecs * stride];
+		for (int i = 0; i < expected.length; i++)
+			expected[i] = i;
+		float[] fvecs = new float[expected.length];
+		FloatBuffer buffer = BufferUtils.newFloatBuffer(expected.length);
+
+		for (int op = 0; op < 3; op++) {
+			System.arraycopy(expected, 0, fvecs, 0, expected.length);
+			buffer.clear();
+			buffer.put(expected);
+			if (op == 0) {
+				Matrix4.mulVec(mat.val, expected, offset, numVecs, stride);
+				Matrix4.mulVecJava(mat.val, fvecs, offset, numVecs, stride);
+				Matrix4.mulVecJava(mat.val, buffer, offset, numVecs, stride);
+			} else if (op == 1) {
+				Matrix4.prj(mat.val, expected, offset, numVecs, stride);
+				Matrix4.prjJava(mat.val, fvecs, offset, numVecs, stride);
+				Matrix4.prjJava(mat.val, buffer, offset, numVecs, stride);
+			} else {
+				Matrix4.rot(mat.val, expected, offset, numVecs, stride);
+				Matrix4.rotJava(mat.val, fvecs, offset, numVecs, stride);
+				Matrix4.rotJava(mat.val, buffer, offset, numVecs, stride);
+			}
+			for (int i = 0; i < expected.length; i++) {
+				if (Math.abs(expected[i] - fvecs[i]) > 0.0001f) throw new GdxRuntimeException("java batch transform doesn't work");
+				if (Math.abs(expected[i] - buffer.get(i)) > 0.0001f) throw new GdxRuntimeException("buffer batch transform doesn't work");
+			}
+		}
+	}
+
+	/** Compares the JNI and Java batch transforms for different batch sizes, transforming the same number of vectors in total. */
+	private void benchBatch () {
+		Matrix4 mat = new Matrix4().setToRotation(0, 1, 0, 45);
+		int stride = 8;
+		int totalVecs = 1 << 21;
+		int[] batchSizes = {4, 16, 64, 256, 1024, 4096, 65536};
+		float[] fvecs = new float[65536 * stride];
+		FloatBuffer buffer = BufferUtils.newFloatBuffer(fvecs.length);
+
+		for (int run = 0; run < 2; run++) {
+			// the first run only warms up the JIT
+			boolean log = run == 1;
+			for (int b = 0; b < batchSizes.length; b++) {
+				int numVecs = batchSizes[b];
+				int iterations = totalVecs / numVecs;
+
+				long start = TimeUtils.nanoTime();
+				for (int i = 0; i < iterations; i++)
+					Matrix4.mulVec(mat.val, fvecs, 0, numVecs, stride);
+				long jniArray = TimeUtils.nanoTime() - start;
+
+				start = TimeUtils.nanoTime();
+				for (int i = 0; i < iterations; i++)
+					Matrix4.mulVecJava(mat.val, fvecs, 0, numVecs, stride);
+				long javaArray = TimeUtils.nanoTime() - start;
+
+				start = TimeUtils.nanoTime();
+				for (int i = 0; i < iterations; i++)
+					Matrix4.mulVecJava(mat.val, buffer, 0, numVecs, stride);
+				long javaBuffer = TimeUtils.nanoTime() - start;
+
+				if (log) {
+					Gdx.app.log("MatrixJNITest", "batch of " + numVecs + " vecs * matrix, ns per vec: jni array "
+						+ (float)jniArray / totalVecs + ", java array " + (float)javaArray / totalVecs + ", java buffer "
+						+ (float)javaBuffer / totalVecs);
+				}
+			}
+		}
 	}
 
 	private void bench () {
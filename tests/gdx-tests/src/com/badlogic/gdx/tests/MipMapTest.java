@@ -27,6 +27,7 @@ import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes.Usage;
 import com.badlogic.gdx.graphics.glutils.MipMapGenerator;
+import com.badlogic.gdx.graphics.glutils.MipMapGenerator.Filter;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.CheckBox;
@@ -52,6 +53,7 @@ public class MipMapTest extends GdxTest {
 	Mesh mesh;
 	Texture textureHW;
 	Texture textureSW;
+	Texture textureKaiser;
 	Texture currTexture;
 	ShaderProgram shader;
 	Stage ui;
@@ -60,6 +62,7 @@ public class MipMapTest extends GdxTest {
 	SelectBox minFilter;
 	SelectBox magFilter;
 	CheckBox hwMipMap;
+	CheckBox kaiser;
 
 	@Override
 	public void create () {
@@ -81,6 +84,9 @@ public class MipMapTest extends GdxTest {
 		textureHW = new Texture(Gdx.files.internal("data/badlogic.jpg"), Format.RGB565, true);
 		MipMapGenerator.setUseHardwareMipMap(false);
 		textureSW = new Texture(Gdx.files.internal("data/badlogic.jpg"), Format.RGB565, true);
+		MipMapGenerator.setFilter(Filter.Kaiser);
+		textureKaiser = new Texture(Gdx.files.internal("data/badlogic.jpg"), Format.RGB565, true);
+		MipMapGenerator.setFilter(Filter.Box);
 		currTexture = textureHW;
 
 		createUI();
@@ -101,6 +107,7 @@ public class MipMapTest extends GdxTest {
 			filters[idx++] = filter.toString();
 		}
 		hwMipMap = new CheckBox("Hardware Mips", skin.getStyle(CheckBoxStyle.class), "hardware");
+		kaiser = new CheckBox("Kaiser", skin.getStyle(CheckBoxStyle.class), "kaiser");
 		minFilter = new SelectBox(filters, skin.getStyle(SelectBoxStyle.class), "minfilter");
 		magFilter = new SelectBox(new String[] {"Nearest", "Linear"}, skin.getStyle(SelectBoxStyle.class), "magfilter");
 
@@ -109,6 +116,7 @@ public class MipMapTest extends GdxTest {
 		table.height = 30;
 		table.y = ui.height() - 30;
 		table.add(hwMipMap).spaceRight(5);
+		table.add(kaiser).spaceRight(5);
 		table.add(new Label("Min Filter", skin.getStyle(LabelStyle.class))).spaceRight(5);
 		table.add(minFilter).spaceRight(5);
 		table.add(new Label("Mag Filter", skin.getStyle(LabelStyle.class))).spaceRight(5);
@@ -124,7 +132,10 @@ public class MipMapTest extends GdxTest {
 
 		camera.update();
 
-		currTexture = hwMipMap.isChecked() ? textureHW : textureSW;
+		if (hwMipMap.isChecked())
+			currTexture = textureHW;
+		else
+			currTexture = kaiser.isChecked() ? textureKaiser : textureSW;
 		currTexture.bind();
 		currTexture.setFilter(TextureFilter.valueOf(minFilter.getSelection()), TextureFilter.valueOf(magFilter.getSelection()));
 
@@ -142,6 +153,7 @@ public class MipMapTest extends GdxTest {
 		shader.dispose();
 		textureHW.dispose();
 		textureSW.dispose();
+		textureKaiser.dispose();
 		mesh.dispose();
 		ui.dispose();
 		skin.dispose();
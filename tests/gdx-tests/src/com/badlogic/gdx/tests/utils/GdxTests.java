@@ -45,8 +45,8 @@ import com.badlogic.gdx.tests.gles2.SimpleVertexShader;
  */
 public class GdxTests {
 	public static final Class[] tests = { AnimationTest.class,
-			AccelerometerTest.class, ActionTest.class,
-			ActionSequenceTest.class, GroupTest.class, AlphaTest.class,
+			AccelerometerTest.class, ActionPoolsTest.class, ActionTest.class,
+			ActionSequenceTest.class, GroupTest.class, GroupTransformTest.class, AlphaTest.class,
 			AtlasIssueTest.class, AssetManagerTest.class,
 			FilterPerformanceTest.class, AudioDeviceTest.class,
 			AudioRecorderTest.class, BitmapFontAlignmentTest.class,
@@ -56,7 +56,7 @@ public class GdxTests {
 			ImageScaleTest.class,
 			Box2DTest.class, InterpolationTest.class,
 			Box2DTestCollection.class, BufferUtilsTest.class, ImageTest.class,
-			CompassTest.class, ComplexActionTest.class, CullTest.class,
+			CollectionsTest.class, CompassTest.class, ComplexActionTest.class, CullTest.class,
 			DeltaTimeTest.class, EdgeDetectionTest.class, ETC1Test.class,
 			ExitTest.class, FilesTest.class, FlickScrollPaneTest.class,
 			FloatTest.class, FrameBufferTest.class,
@@ -67,7 +67,7 @@ public class GdxTests {
 			IndexBufferObjectClassTest.class,
 			IndexBufferObjectShaderTest.class, InputTest.class,
 			IntegerBitmapFontTest.class, InverseKinematicsTest.class,
-			IsoCamTest.class, IsometricTileTest.class, KinematicBodyTest.class,
+			IsoCamTest.class, IsometricTileTest.class, KeyframeCompressionTest.class, KinematicBodyTest.class,
 			LifeCycleTest.class, LineDrawingTest.class, ScrollPaneTest.class,
 			ManagedTest.class, ManualBindTest.class, MatrixJNITest.class,
 			MD5Test.class, MeshMultitextureTest.class, MeshShaderTest.class,